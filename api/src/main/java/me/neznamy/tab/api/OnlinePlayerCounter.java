@@ -0,0 +1,56 @@
+package me.neznamy.tab.api;
+
+import lombok.NonNull;
+
+/**
+ * An interface providing amounts of online players, which are also used by
+ * online placeholders. Counts are maintained on join, quit, world switch, server switch,
+ * vanish status change and permission change, so retrieving them does not iterate over players.
+ * Vanished players are not counted. When RedisBungee support is enabled,
+ * players connected to other proxies are counted as well.
+ * <p>
+ * Instance can be obtained using {@link TabAPI#getOnlinePlayerCounter()}.
+ */
+@SuppressWarnings("unused") // API class
+public interface OnlinePlayerCounter {
+
+    /**
+     * Returns amount of online players.
+     *
+     * @return  Amount of online players
+     */
+    int getOnline();
+
+    /**
+     * Returns amount of online players with {@code tab.staff} permission.
+     *
+     * @return  Amount of online staff members
+     */
+    int getStaffOnline();
+
+    /**
+     * Returns amount of online players without {@code tab.staff} permission.
+     *
+     * @return  Amount of online players who are not staff members
+     */
+    int getNonStaffOnline();
+
+    /**
+     * Returns amount of online players in specified world. Players
+     * connected to other proxies are not included, as their world is not known.
+     *
+     * @param   world
+     *          Name of the world
+     * @return  Amount of online players in specified world
+     */
+    int getWorldOnline(@NonNull String world);
+
+    /**
+     * Returns amount of online players connected to specified server.
+     *
+     * @param   server
+     *          Name of the server
+     * @return  Amount of online players on specified server
+     */
+    int getServerOnline(@NonNull String server);
+}
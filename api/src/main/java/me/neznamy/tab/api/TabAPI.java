@@ -136,6 +136,13 @@ public abstract class TabAPI {
      */
     public abstract @Nullable SortingManager getSortingManager();
 
+    /**
+     * Returns online player counter providing amounts of online players.
+     *
+     * @return  Online player counter
+     */
+    public abstract @NotNull OnlinePlayerCounter getOnlinePlayerCounter();
+
     /**
      * Gets the event bus for registering listeners for TAB events.
      *
@@ -7,6 +7,8 @@ import me.neznamy.tab.platforms.bukkit.BukkitTabPlayer;
 import me.neznamy.tab.platforms.bukkit.BukkitUtils;
 import me.neznamy.tab.platforms.bukkit.nms.BukkitReflection;
 import me.neznamy.tab.platforms.bukkit.nms.PacketSender;
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.backend.EntityData;
 import me.neznamy.tab.shared.backend.Location;
 import me.neznamy.tab.shared.backend.entityview.EntityView;
@@ -37,7 +39,7 @@ public class PacketEntityView implements EntityView {
 
     /** PacketPlayOutEntityDestroy */
     private static Class<?> EntityDestroyClass;
-    private static BiConsumerWithException<BukkitTabPlayer, int[]> destroyEntities;
+    private static BiConsumerWithException<PacketEntityView, int[]> destroyEntities;
     private static FunctionWithException<Object, int[]> getDestroyedEntities;
 
     /** PacketPlayOutEntityMetadata */
@@ -77,6 +79,14 @@ public class PacketEntityView implements EntityView {
     /** Player this view belongs to */
     private final BukkitTabPlayer player;
 
+    /** Packets collected to be sent in a bundle, only accessed by {@link #bundlingThread} */
+    @Nullable
+    private List<Object> bundle;
+
+    /** Thread collecting packets into a bundle, {@code null} if not bundling */
+    @Nullable
+    private volatile Thread bundlingThread;
+
     /**
      * Loads all required classes and fields and marks class as available.
      * If something goes wrong, a warning is printed and class is not marked as available.
@@ -129,7 +139,7 @@ public class PacketEntityView implements EntityView {
         Field entities = ReflectionUtils.getOnlyField(EntityDestroyClass);
         try {
             Constructor<?> constructor = EntityDestroyClass.getConstructor(int[].class);
-            destroyEntities = (player, ids) -> packetSender.sendPacket(player.getPlayer(), constructor.newInstance(new Object[]{ids}));
+            destroyEntities = (view, ids) -> view.send(constructor.newInstance(new Object[]{ids}));
             if (BukkitReflection.getMinorVersion() >= 17) {
                 getDestroyedEntities = packet -> ((List<Integer>) entities.get(packet)).stream().mapToInt(i -> i).toArray();
             } else {
@@ -138,7 +148,7 @@ public class PacketEntityView implements EntityView {
         } catch (NoSuchMethodException e) {
             //1.17.0 Mojank
             Constructor<?> constructor = EntityDestroyClass.getConstructor(int.class);
-            destroyEntities = (player, ids) -> { for (int entity : ids) packetSender.sendPacket(player.getPlayer(), constructor.newInstance(entity));};
+            destroyEntities = (view, ids) -> { for (int entity : ids) view.send(constructor.newInstance(entity));};
             getDestroyedEntities = packet -> new int[]{entities.getInt(packet)};
         }
     }
@@ -321,35 +331,68 @@ public class PacketEntityView implements EntityView {
         }
     }
 
+    /**
+     * Sends packet to the player or adds it into current bundle if bundling.
+     *
+     * @param   packet
+     *          Packet to send
+     */
+    @SneakyThrows
+    private void send(@NotNull Object packet) {
+        if (isBundling()) {
+            bundle.add(packet);
+        } else {
+            packetSender.sendPacket(player.getPlayer(), packet);
+        }
+    }
+
+    /**
+     * Returns {@code true} if packets sent from the current thread are collected into a bundle.
+     *
+     * @return  {@code true} if current thread is bundling, {@code false} if not
+     */
+    private boolean isBundling() {
+        return bundlingThread == Thread.currentThread();
+    }
+
     @SneakyThrows
     @Override
     public void spawnEntity(int entityId, @NotNull UUID id, @NotNull Object entityType, @NotNull Location l, @NotNull EntityData data) {
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.ENTITY_SPAWN);
         if (BukkitReflection.getMinorVersion() >= SPLIT_METADATA_VERSION) {
-            sendAsBundle.accept(player, Arrays.asList(
+            List<Object> packets = Arrays.asList(
                     newSpawnEntity.apply(entityId, id, entityType, l, null),
                     newEntityMetadata.apply(entityId, data)
-            ));
+            );
+            if (isBundling()) {
+                bundle.addAll(packets);
+            } else {
+                sendAsBundle.accept(player, packets);
+            }
         } else {
-            packetSender.sendPacket(player.getPlayer(), newSpawnEntity.apply(entityId, id, entityType, l, data));
+            send(newSpawnEntity.apply(entityId, id, entityType, l, data));
         }
     }
 
     @Override
     @SneakyThrows
     public void updateEntityMetadata(int entityId, @NotNull EntityData data) {
-        packetSender.sendPacket(player.getPlayer(), newEntityMetadata.apply(entityId, data));
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.ENTITY_METADATA);
+        send(newEntityMetadata.apply(entityId, data));
     }
 
     @SneakyThrows
     @Override
     public void teleportEntity(int entityId, @NotNull Location location) {
-        packetSender.sendPacket(player.getPlayer(), newEntityTeleport.apply(entityId, location));
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.ENTITY_TELEPORT);
+        send(newEntityTeleport.apply(entityId, location));
     }
 
     @SneakyThrows
     @Override
     public void destroyEntities(int... entities) {
-        destroyEntities.accept(player, entities);
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.ENTITY_DESTROY);
+        destroyEntities.accept(this, entities);
     }
 
     @Override
@@ -426,7 +469,34 @@ public class PacketEntityView implements EntityView {
     @Override
     @SneakyThrows
     public void moveEntity(int entityId, @NotNull Location moveDiff) {
-        packetSender.sendPacket(player.getPlayer(), newMovePacket.apply(
-                entityId, (long) moveDiff.getX(), (long) moveDiff.getY(), (long) moveDiff.getZ()));
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.ENTITY_MOVE);
+        send(newMovePacket.apply(entityId, (long) moveDiff.getX(), (long) moveDiff.getY(), (long) moveDiff.getZ()));
+    }
+
+    @Override
+    public int getMaxMoveDiff() {
+        // 1.8 encodes relative moves as bytes
+        return BukkitReflection.getMinorVersion() >= 9 ? Short.MAX_VALUE : Byte.MAX_VALUE;
+    }
+
+    @Override
+    @SneakyThrows
+    public void sendBundled(@NotNull Runnable task) {
+        if (newClientboundBundlePacket == null || bundlingThread != null) {
+            task.run();
+            return;
+        }
+        bundle = new ArrayList<>();
+        bundlingThread = Thread.currentThread();
+        try {
+            task.run();
+        } finally {
+            List<Object> packets = bundle;
+            bundlingThread = null;
+            bundle = null;
+            for (int i = 0; i < packets.size(); i += MAX_BUNDLE_SIZE) {
+                sendAsBundle.accept(player, packets.subList(i, Math.min(packets.size(), i + MAX_BUNDLE_SIZE)));
+            }
+        }
     }
 }
@@ -24,10 +24,7 @@ import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collections;
-import java.util.List;
 import java.util.Locale;
-import java.util.stream.Collectors;
 
 /**
  * The core class for unlimited NameTag mode on Bukkit
@@ -94,15 +91,15 @@ public class BukkitNameTagX extends BackendNameTagX implements Listener {
     @SuppressWarnings("deprecation")
     @Override
     @NotNull
-    public List<Integer> getPassengers(@NotNull Object entity) {
+    public int[] getPassengers(@NotNull Object entity) {
         Entity vehicle = (Entity) entity;
         if (BukkitReflection.getMinorVersion() >= MULTI_PASSENGER_VERSION) {
-            return vehicle.getPassengers().stream().map(Entity::getEntityId).collect(Collectors.toList());
+            return vehicle.getPassengers().stream().mapToInt(Entity::getEntityId).toArray();
         } else {
             if (vehicle.getPassenger() != null) {
-                return Collections.singletonList(vehicle.getPassenger().getEntityId());
+                return new int[]{vehicle.getPassenger().getEntityId()};
             } else {
-                return Collections.emptyList();
+                return new int[0];
             }
         }
     }
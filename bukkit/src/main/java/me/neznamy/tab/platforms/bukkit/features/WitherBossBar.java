@@ -17,6 +17,9 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ScheduledFuture;
 
 /**
  * An additional class with additional code for &lt;1.9 servers due to an entity being required
@@ -27,6 +30,9 @@ public class WitherBossBar extends BossBarManagerImpl implements Listener, World
     /** Distance of the wither in blocks */
     private static final int WITHER_DISTANCE = 60;
 
+    /** Task teleporting withers, cancelled on unload as this feature can be restarted on reload */
+    @Nullable private ScheduledFuture<?> teleportTask;
+
     /**
      * Constructs new instance and registers events
      *
@@ -41,7 +47,7 @@ public class WitherBossBar extends BossBarManagerImpl implements Listener, World
     public void load() {
         //when MC is on fullscreen, BossBar disappears after 1 second of not being seen
         //when in a small window, it's about 100ms
-        TAB.getInstance().getCPUManager().startRepeatingMeasuredTask(100,
+        teleportTask = TAB.getInstance().getCPUManager().startRepeatingMeasuredTask(100,
                 getFeatureName(), TabConstants.CpuUsageCategory.TELEPORTING_WITHER, this::teleport);
         super.load();
         teleport();
@@ -65,6 +71,7 @@ public class WitherBossBar extends BossBarManagerImpl implements Listener, World
     
     @Override
     public void unload() {
+        if (teleportTask != null) teleportTask.cancel(false);
         super.unload();
         HandlerList.unregisterAll(this);
     }
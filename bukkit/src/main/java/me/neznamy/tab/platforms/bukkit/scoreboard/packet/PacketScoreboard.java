@@ -182,6 +182,12 @@ public class PacketScoreboard extends Scoreboard<BukkitTabPlayer, Object> {
                 toComponent(suffix), visibility, collision, options, color));
     }
 
+    @Override
+    public boolean isScoreDisplayNameSupported() {
+        // Older servers cannot send it, even if the client supports it via ViaVersion
+        return BukkitReflection.is1_20_3Plus() && super.isScoreDisplayNameSupported();
+    }
+
     @Override
     public void setScore0(@NonNull String objective, @NonNull String scoreHolder, int score,
                           @Nullable Object displayName, @Nullable Object numberFormat) {
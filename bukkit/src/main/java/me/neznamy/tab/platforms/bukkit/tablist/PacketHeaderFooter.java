@@ -6,6 +6,7 @@ import me.neznamy.tab.platforms.bukkit.nms.BukkitReflection;
 import me.neznamy.tab.platforms.bukkit.nms.ComponentConverter;
 import me.neznamy.tab.platforms.bukkit.nms.PacketSender;
 import me.neznamy.tab.shared.util.BiFunctionWithException;
+import me.neznamy.tab.shared.util.PacketCache;
 import me.neznamy.tab.shared.util.ReflectionUtils;
 import org.jetbrains.annotations.NotNull;
 
@@ -15,11 +16,13 @@ import java.lang.reflect.Field;
 /**
  * Header/footer sender that uses NMS to send packets. Available
  * on all versions since 1.8 when the feature was added into the game.
+ * Players receiving the same shared header and footer receive the same packet instance.
  */
 public class PacketHeaderFooter {
 
     private final PacketSender packetSender = new PacketSender();
     private final BiFunctionWithException<Object, Object, Object> createPacket;
+    private final PacketCache<Object> packets;
 
     /**
      * Constructs new instance and loads all NMS content. Throws exception if something went wrong.
@@ -46,6 +49,7 @@ public class PacketHeaderFooter {
                 return packet;
             };
         }
+        packets = new PacketCache<>(createPacket);
     }
 
     /**
@@ -62,4 +66,19 @@ public class PacketHeaderFooter {
     public void set(@NotNull BukkitTabPlayer player, @NotNull Object header, @NotNull Object footer) {
         packetSender.sendPacket(player.getPlayer(), createPacket.apply(header, footer));
     }
+
+    /**
+     * Sends header/footer which is also sent to other players, reusing the packet
+     * if it was already built for another player.
+     *
+     * @param   player
+     *          Player to send header/footer to.
+     * @param   header
+     *          Header to use.
+     * @param   footer
+     *          Footer to use.
+     */
+    public void setShared(@NotNull BukkitTabPlayer player, @NotNull Object header, @NotNull Object footer) {
+        packetSender.sendPacket(player.getPlayer(), packets.get(header, footer));
+    }
 }
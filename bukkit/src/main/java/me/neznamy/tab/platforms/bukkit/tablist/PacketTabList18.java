@@ -109,7 +109,7 @@ public class PacketTabList18 extends TabListBase<Object> {
     }
 
     @Override
-    public void removeEntry(@NonNull UUID entry) {
+    public void removeEntry0(@NonNull UUID entry) {
         packetSender.sendPacket(player.getPlayer(),
                 createPacket(Action.REMOVE_PLAYER, entry, "", null, false, 0, 0, null));
     }
@@ -121,19 +121,19 @@ public class PacketTabList18 extends TabListBase<Object> {
     }
 
     @Override
-    public void updateLatency(@NonNull UUID entry, int latency) {
+    public void updateLatency0(@NonNull UUID entry, int latency) {
         packetSender.sendPacket(player.getPlayer(),
                 createPacket(Action.UPDATE_LATENCY, entry, "", null, false, latency, 0, null));
     }
 
     @Override
-    public void updateGameMode(@NonNull UUID entry, int gameMode) {
+    public void updateGameMode0(@NonNull UUID entry, int gameMode) {
         packetSender.sendPacket(player.getPlayer(),
                 createPacket(Action.UPDATE_GAME_MODE, entry, "", null, false, 0, gameMode, null));
     }
 
     @Override
-    public void updateListed(@NonNull UUID entry, boolean listed) {
+    public void updateListed0(@NonNull UUID entry, boolean listed) {
         // Added in 1.19.3
     }
 
@@ -80,6 +80,11 @@ public abstract class TabListBase<C> extends TabList<BukkitTabPlayer, C> {
         if (headerFooter != null) headerFooter.set(player, header, footer);
     }
 
+    @Override
+    public void setSharedPlayerListHeaderFooter0(@NonNull Object header, @NonNull Object footer) {
+        if (headerFooter != null) headerFooter.setShared(player, header, footer);
+    }
+
     @Override
     public boolean containsEntry(@NonNull UUID entry) {
         return true; // TODO?
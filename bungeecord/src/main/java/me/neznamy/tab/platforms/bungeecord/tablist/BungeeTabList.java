@@ -5,6 +5,7 @@ import lombok.SneakyThrows;
 import me.neznamy.tab.platforms.bungeecord.BungeeTabPlayer;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.platform.TabList;
+import me.neznamy.tab.shared.util.PacketCache;
 import me.neznamy.tab.shared.util.ReflectionUtils;
 import net.md_5.bungee.UserConnection;
 import net.md_5.bungee.api.chat.BaseComponent;
@@ -25,6 +26,10 @@ import java.util.UUID;
  */
 public abstract class BungeeTabList extends TabList<BungeeTabPlayer, BaseComponent> {
 
+    /** Header/footer packets shared by all players receiving the same shared content */
+    private static final PacketCache<PlayerListHeaderFooter> headerFooterPackets = new PacketCache<>(
+            (header, footer) -> new PlayerListHeaderFooter((BaseComponent) header, (BaseComponent) footer));
+
     /** Pointer to UUIDs in player's TabList */
     private final Collection<UUID> uuids;
 
@@ -46,6 +51,11 @@ public abstract class BungeeTabList extends TabList<BungeeTabPlayer, BaseCompone
         player.sendPacket(new PlayerListHeaderFooter(header, footer));
     }
 
+    @Override
+    public void setSharedPlayerListHeaderFooter0(@NonNull BaseComponent header, @NonNull BaseComponent footer) {
+        player.sendPacket(headerFooterPackets.get(header, footer));
+    }
+
     /**
      * Creates new {@link Item} with given UUID.
      *
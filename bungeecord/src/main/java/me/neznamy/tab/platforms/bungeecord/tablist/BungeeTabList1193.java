@@ -38,7 +38,7 @@ public class BungeeTabList1193 extends BungeeTabList {
     }
 
     @Override
-    public void removeEntry(@NonNull UUID entry) {
+    public void removeEntry0(@NonNull UUID entry) {
         removeUuid(entry);
         PlayerListItemRemove remove = new PlayerListItemRemove();
         remove.setUuids(new UUID[]{entry});
@@ -53,21 +53,21 @@ public class BungeeTabList1193 extends BungeeTabList {
     }
 
     @Override
-    public void updateLatency(@NonNull UUID entry, int latency) {
+    public void updateLatency0(@NonNull UUID entry, int latency) {
         Item item = item(entry);
         item.setPing(latency);
         sendPacket(Action.UPDATE_LATENCY, item);
     }
 
     @Override
-    public void updateGameMode(@NonNull UUID entry, int gameMode) {
+    public void updateGameMode0(@NonNull UUID entry, int gameMode) {
         Item item = item(entry);
         item.setGamemode(gameMode);
         sendPacket(Action.UPDATE_GAME_MODE, item);
     }
 
     @Override
-    public void updateListed(@NonNull UUID entry, boolean listed) {
+    public void updateListed0(@NonNull UUID entry, boolean listed) {
         Item item = item(entry);
         item.setListed(listed);
         sendPacket(Action.UPDATE_LISTED, item);
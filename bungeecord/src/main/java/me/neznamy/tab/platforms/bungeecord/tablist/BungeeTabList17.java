@@ -42,7 +42,7 @@ public class BungeeTabList17 extends BungeeTabList {
     }
 
     @Override
-    public void removeEntry(@NonNull UUID entry) {
+    public void removeEntry0(@NonNull UUID entry) {
         if (!displayNames.containsKey(entry)) return; // Entry not tracked by TAB
         removeUuid(entry);
         update(PlayerListItem.Action.REMOVE_PLAYER, createItem(null, displayNames.get(entry), 0));
@@ -60,18 +60,18 @@ public class BungeeTabList17 extends BungeeTabList {
     }
 
     @Override
-    public void updateLatency(@NonNull UUID entry, int latency) {
+    public void updateLatency0(@NonNull UUID entry, int latency) {
         if (!displayNames.containsKey(entry)) return; // Entry not tracked by TAB
         update(PlayerListItem.Action.UPDATE_LATENCY, createItem(null, displayNames.get(entry), latency));
     }
 
     @Override
-    public void updateGameMode(@NonNull UUID entry, int gameMode) {
+    public void updateGameMode0(@NonNull UUID entry, int gameMode) {
         // Added in 1.8
     }
 
     @Override
-    public void updateListed(@NonNull UUID entry, boolean listed) {
+    public void updateListed0(@NonNull UUID entry, boolean listed) {
         // Added in 1.19.3
     }
 
@@ -90,6 +90,11 @@ public class BungeeTabList17 extends BungeeTabList {
         // Not available on 1.7
     }
 
+    @Override
+    public void setSharedPlayerListHeaderFooter0(@NonNull BaseComponent header, @NonNull BaseComponent footer) {
+        // Not available on 1.7
+    }
+
     @Override
     public BaseComponent toComponent(@NonNull TabComponent component) {
         String displayNameString = component.toLegacyText();
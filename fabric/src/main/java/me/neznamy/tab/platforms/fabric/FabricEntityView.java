@@ -1,16 +1,22 @@
 package me.neznamy.tab.platforms.fabric;
 
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.backend.EntityData;
 import me.neznamy.tab.shared.backend.Location;
 import me.neznamy.tab.shared.backend.entityview.EntityView;
 import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundMoveEntityPacket;
 import net.minecraft.network.protocol.game.ClientboundRemoveEntitiesPacket;
 import net.minecraft.network.protocol.game.ClientboundTeleportEntityPacket;
 import net.minecraft.world.entity.decoration.ArmorStand;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -25,6 +31,14 @@ public class FabricEntityView implements EntityView {
     @NotNull
     private final ArmorStand dummyEntity;
 
+    /** Packets collected to be sent in a bundle, only accessed by {@link #bundlingThread} */
+    @Nullable
+    private List<Packet<ClientGamePacketListener>> bundle;
+
+    /** Thread collecting packets into a bundle, {@code null} if not bundling */
+    @Nullable
+    private volatile Thread bundlingThread;
+
     /**
      * Constructs new instance.
      *
@@ -41,27 +55,36 @@ public class FabricEntityView implements EntityView {
     @Override
     public void spawnEntity(int entityId, @NotNull UUID id, @NotNull Object entityType, @NotNull Location location,
                             @NotNull EntityData data) {
-        FabricMultiVersion.sendPackets(player.getPlayer(), Arrays.asList(
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.ENTITY_SPAWN);
+        List<Packet<ClientGamePacketListener>> packets = Arrays.asList(
                 FabricMultiVersion.spawnEntity(FabricMultiVersion.getLevel(player.getPlayer()), entityId, id, entityType, location),
                 FabricMultiVersion.newEntityMetadata(entityId, data)
-        ));
+        );
+        if (isBundling()) {
+            bundle.addAll(packets);
+        } else {
+            FabricMultiVersion.sendPackets(player.getPlayer(), packets);
+        }
     }
 
     @Override
     public void updateEntityMetadata(int entityId, @NotNull EntityData data) {
-        player.sendPacket(FabricMultiVersion.newEntityMetadata(entityId, data));
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.ENTITY_METADATA);
+        send(FabricMultiVersion.newEntityMetadata(entityId, data));
     }
 
     @Override
     public void teleportEntity(int entityId, @NotNull Location location) {
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.ENTITY_TELEPORT);
         dummyEntity.setId(entityId);
         dummyEntity.setPos(location.getX(), location.getY(), location.getZ());
-        player.sendPacket(new ClientboundTeleportEntityPacket(dummyEntity));
+        send(new ClientboundTeleportEntityPacket(dummyEntity));
     }
 
     @Override
     public void destroyEntities(int... entities) {
-        player.sendPacket(new ClientboundRemoveEntitiesPacket(entities));
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.ENTITY_DESTROY);
+        send(new ClientboundRemoveEntitiesPacket(entities));
     }
 
     @Override
@@ -128,7 +151,8 @@ public class FabricEntityView implements EntityView {
 
     @Override
     public void moveEntity(int entityId, @NotNull Location moveDiff) {
-        player.sendPacket(new ClientboundMoveEntityPacket.Pos(
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.ENTITY_MOVE);
+        send(new ClientboundMoveEntityPacket.Pos(
                 entityId,
                 (short) moveDiff.getX(),
                 (short) moveDiff.getY(),
@@ -136,4 +160,47 @@ public class FabricEntityView implements EntityView {
                 false
         ));
     }
+
+    @Override
+    public void sendBundled(@NotNull Runnable task) {
+        if (bundlingThread != null) {
+            task.run();
+            return;
+        }
+        bundle = new ArrayList<>();
+        bundlingThread = Thread.currentThread();
+        try {
+            task.run();
+        } finally {
+            List<Packet<ClientGamePacketListener>> packets = bundle;
+            bundlingThread = null;
+            bundle = null;
+            for (int i = 0; i < packets.size(); i += MAX_BUNDLE_SIZE) {
+                FabricMultiVersion.sendPackets(player.getPlayer(), packets.subList(i, Math.min(packets.size(), i + MAX_BUNDLE_SIZE)));
+            }
+        }
+    }
+
+    /**
+     * Sends packet to the player or adds it into current bundle if bundling.
+     *
+     * @param   packet
+     *          Packet to send
+     */
+    private void send(@NotNull Packet<ClientGamePacketListener> packet) {
+        if (isBundling()) {
+            bundle.add(packet);
+        } else {
+            player.sendPacket(packet);
+        }
+    }
+
+    /**
+     * Returns {@code true} if packets sent from the current thread are collected into a bundle.
+     *
+     * @return  {@code true} if current thread is bundling, {@code false} if not
+     */
+    private boolean isBundling() {
+        return bundlingThread == Thread.currentThread();
+    }
 }
@@ -27,6 +27,7 @@ import net.minecraft.world.scores.criteria.ObjectiveCriteria.RenderType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -337,11 +338,13 @@ public class FabricMultiVersion {
      *          Player who received the packet
      * @param   packet
      *          Received packet
+     * @param   track
+     *          Whether entry changes should be tracked as client state of receiver's tablist
      */
-    public static void onPlayerInfo(@NotNull TabPlayer receiver, @NotNull Object packet) {
-        if (serverVersion.getNetworkId() >= ProtocolVersion.V1_19_3.getNetworkId()) loaderNew.onPlayerInfo(receiver, packet);
-        else if (serverVersion.getMinorVersion() >= 17) loader1_18_2.onPlayerInfo(receiver, packet);
-        else loader1_14_4.onPlayerInfo(receiver, packet);
+    public static void onPlayerInfo(@NotNull TabPlayer receiver, @NotNull Object packet, boolean track) {
+        if (serverVersion.getNetworkId() >= ProtocolVersion.V1_19_3.getNetworkId()) loaderNew.onPlayerInfo(receiver, packet, track);
+        else if (serverVersion.getMinorVersion() >= 17) loader1_18_2.onPlayerInfo(receiver, packet, track);
+        else loader1_14_4.onPlayerInfo(receiver, packet, track);
     }
 
     /**
@@ -349,15 +352,15 @@ public class FabricMultiVersion {
      *
      * @param   action
      *          Tablist action
-     * @param   builder
+     * @param   entries
      *          Entry data
      * @return  Tablist entry packet with given parameters
      */
     @NotNull
-    public static Packet<?> buildTabListPacket(@NotNull TabList.Action action, @NotNull FabricTabList.Builder builder) {
-        if (serverVersion.getNetworkId() >= ProtocolVersion.V1_19_3.getNetworkId()) return loaderNew.buildTabListPacket(action, builder);
-        else if (serverVersion.getMinorVersion() >= 17) return loader1_18_2.buildTabListPacket(action, builder);
-        return loader1_14_4.buildTabListPacket(action, builder);
+    public static Packet<?> buildTabListPacket(@NotNull TabList.Action action, @NotNull Collection<FabricTabList.Builder> entries) {
+        if (serverVersion.getNetworkId() >= ProtocolVersion.V1_19_3.getNetworkId()) return loaderNew.buildTabListPacket(action, entries);
+        else if (serverVersion.getMinorVersion() >= 17) return loader1_18_2.buildTabListPacket(action, entries);
+        return loader1_14_4.buildTabListPacket(action, entries);
     }
 
     /**
@@ -1,6 +1,7 @@
 package me.neznamy.tab.platforms.fabric;
 
 import lombok.NonNull;
+import me.neznamy.tab.shared.ProtocolVersion;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.chat.TabComponent;
@@ -107,6 +108,12 @@ public class FabricScoreboard extends Scoreboard<FabricTabPlayer, Component> {
         player.sendPacket(FabricMultiVersion.updateTeam(team));
     }
 
+    @Override
+    public boolean isScoreDisplayNameSupported() {
+        return player.getPlatform().getServerVersion().getNetworkId() >= ProtocolVersion.V1_20_3.getNetworkId() &&
+                super.isScoreDisplayNameSupported();
+    }
+
     @Override
     public void setScore0(@NonNull String objective, @NonNull String scoreHolder, int score,
                           @Nullable Component displayName, @Nullable Component numberFormat) {
@@ -4,19 +4,41 @@ import com.mojang.authlib.GameProfile;
 import com.mojang.authlib.properties.Property;
 import lombok.*;
 import me.neznamy.tab.shared.ProtocolVersion;
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.platform.TabList;
+import me.neznamy.tab.shared.util.PacketCache;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.Packet;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * TabList implementation for Fabric using packets.
+ * TabList implementation for Fabric using packets. When pipeline injection is enabled,
+ * entries visible to the client are tracked from sent packets, which allows skipping
+ * updates that would not change anything.
  */
 public class FabricTabList extends TabList<FabricTabPlayer, Component> {
 
+    /** Header/footer packets shared by all players receiving the same shared content */
+    private static final PacketCache<Packet<?>> headerFooterPackets = new PacketCache<>(
+            (header, footer) -> FabricMultiVersion.newHeaderFooter((Component) header, (Component) footer));
+
+    /** Whether client state is tracked or not, which requires pipeline injection */
+    private final boolean tracking = TAB.getInstance().getFeatureManager().isFeatureEnabled(TabConstants.Feature.PIPELINE_INJECTION);
+
+    /** Entries visible to the client */
+    private final Map<UUID, Builder> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Packets sent by this tablist which were not written yet. Their changes are tracked
+     * when sending, so they are not tracked again when written to not overwrite newer changes.
+     */
+    private final Set<Object> sentPackets = Collections.newSetFromMap(Collections.synchronizedMap(new IdentityHashMap<>()));
+
     /**
      * Constructs new instance.
      *
@@ -28,41 +50,70 @@ public class FabricTabList extends TabList<FabricTabPlayer, Component> {
     }
 
     @Override
-    public void removeEntry(@NonNull UUID entry) {
-        player.sendPacket(FabricMultiVersion.buildTabListPacket(Action.REMOVE_PLAYER,
-                new Builder(entry, "", null, false, 0, 0, null)));
+    public void removeEntry0(@NonNull UUID entry) {
+        sendPacket(Action.REMOVE_PLAYER, Collections.singletonList(new Builder(entry, "", null, false, 0, 0, null)));
+    }
+
+    @Override
+    public void removeEntries(@NonNull Collection<UUID> entries) {
+        if (entries.isEmpty()) return;
+        List<Builder> builders = new ArrayList<>(entries.size());
+        for (UUID entry : entries) {
+            builders.add(new Builder(entry, "", null, false, 0, 0, null));
+        }
+        sendPacket(Action.REMOVE_PLAYER, builders);
     }
 
     @Override
     public void updateDisplayName0(@NonNull UUID entry, @Nullable Component displayName) {
-        player.sendPacket(FabricMultiVersion.buildTabListPacket(Action.UPDATE_DISPLAY_NAME,
-                new Builder(entry, "", null, false, 0, 0, displayName)));
+        Builder current = entries.get(entry);
+        if (current != null && Objects.equals(current.getDisplayName(), displayName)) return;
+        sendPacket(Action.UPDATE_DISPLAY_NAME, Collections.singletonList(new Builder(entry, "", null, false, 0, 0, displayName)));
     }
 
     @Override
-    public void updateLatency(@NonNull UUID entry, int latency) {
-        player.sendPacket(FabricMultiVersion.buildTabListPacket(Action.UPDATE_LATENCY,
-                new Builder(entry, "", null, false, latency, 0, null)));
+    public void updateLatency0(@NonNull UUID entry, int latency) {
+        Builder current = entries.get(entry);
+        if (current != null && current.getLatency() == latency) return;
+        sendPacket(Action.UPDATE_LATENCY, Collections.singletonList(new Builder(entry, "", null, false, latency, 0, null)));
     }
 
     @Override
-    public void updateGameMode(@NonNull UUID entry, int gameMode) {
-        player.sendPacket(FabricMultiVersion.buildTabListPacket(Action.UPDATE_GAME_MODE,
-                new Builder(entry, "", null, false, 0, gameMode, null)));
+    public void updateGameMode0(@NonNull UUID entry, int gameMode) {
+        Builder current = entries.get(entry);
+        if (current != null && current.getGameMode() == gameMode) return;
+        sendPacket(Action.UPDATE_GAME_MODE, Collections.singletonList(new Builder(entry, "", null, false, 0, gameMode, null)));
     }
 
     @Override
-    public void updateListed(@NonNull UUID entry, boolean listed) {
+    public void updateListed0(@NonNull UUID entry, boolean listed) {
         if (player.getPlatform().getServerVersion().getNetworkId() >= ProtocolVersion.V1_19_3.getNetworkId()) {
-            player.sendPacket(FabricMultiVersion.buildTabListPacket(Action.UPDATE_LISTED,
-                    new Builder(entry, "", null, listed, 0, 0, null)));
+            Builder current = entries.get(entry);
+            if (current != null && current.isListed() == listed) return;
+            sendPacket(Action.UPDATE_LISTED, Collections.singletonList(new Builder(entry, "", null, listed, 0, 0, null)));
         }
     }
 
     @Override
     public void addEntry0(@NonNull UUID id, @NonNull String name, @Nullable Skin skin, boolean listed, int latency, int gameMode, @Nullable Component displayName) {
-        player.sendPacket(FabricMultiVersion.buildTabListPacket(Action.ADD_PLAYER,
-                new Builder(id, name, skin, listed, latency, gameMode, displayName)));
+        sendPacket(Action.ADD_PLAYER, Collections.singletonList(new Builder(id, name, skin, listed, latency, gameMode, displayName)));
+    }
+
+    @Override
+    public void addEntries(@NonNull Collection<Entry> entries) {
+        if (entries.isEmpty()) return;
+        List<Builder> builders = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            Component component = entry.getDisplayName() == null ? null : toComponent(entry.getDisplayName());
+            setExpectedDisplayName(entry.getUniqueId(), component);
+            builders.add(new Builder(entry.getUniqueId(), entry.getName(), entry.getSkin(), entry.isListed(),
+                    entry.getLatency(), entry.getGameMode(), component));
+        }
+        sendPacket(Action.ADD_PLAYER, builders);
+        if (player.getVersion().getMinorVersion() == 8) {
+            // Compensation for 1.8.0 client sided bug
+            sendPacket(Action.UPDATE_DISPLAY_NAME, builders);
+        }
     }
 
     @Override
@@ -70,15 +121,91 @@ public class FabricTabList extends TabList<FabricTabPlayer, Component> {
         player.sendPacket(FabricMultiVersion.newHeaderFooter(header, footer));
     }
 
+    @Override
+    public void setSharedPlayerListHeaderFooter0(@NonNull Component header, @NonNull Component footer) {
+        player.sendPacket(headerFooterPackets.get(header, footer));
+    }
+
     @Override
     public boolean containsEntry(@NonNull UUID entry) {
-        return true; // TODO?
+        // Without tracking or for entries sent before plugin was loaded we cannot know
+        return !tracking || entries.containsKey(entry);
     }
 
     @Override
     public void onPacketSend(@NonNull Object packet) {
         if (FabricMultiVersion.isPlayerInfo((Packet<?>) packet)) {
-            FabricMultiVersion.onPlayerInfo(player, packet);
+            FabricMultiVersion.onPlayerInfo(player, packet, tracking && !sentPackets.remove(packet));
+        }
+    }
+
+    /**
+     * Builds and sends tablist packet, tracking its changes if tracking is enabled.
+     *
+     * @param   action
+     *          Packet action
+     * @param   builders
+     *          Affected entries
+     */
+    private void sendPacket(@NonNull Action action, @NonNull Collection<Builder> builders) {
+        Packet<?> packet = FabricMultiVersion.buildTabListPacket(action, builders);
+        if (tracking) {
+            for (Builder builder : builders) {
+                trackEntry(action, builder.getId(), builder.getDisplayName(), builder.isListed(), builder.getLatency(), builder.getGameMode());
+            }
+            sentPackets.add(packet);
+        }
+        player.sendPacket(packet);
+    }
+
+    /**
+     * Applies change of an entry to tracked client state.
+     *
+     * @param   action
+     *          Performed action
+     * @param   id
+     *          Entry UUID
+     * @param   displayName
+     *          Display name of the entry
+     * @param   listed
+     *          Listed flag of the entry
+     * @param   latency
+     *          Latency of the entry
+     * @param   gameMode
+     *          Game mode of the entry
+     */
+    public void trackEntry(@NonNull Action action, @NonNull UUID id, @Nullable Component displayName, boolean listed, int latency, int gameMode) {
+        switch (action) {
+            case ADD_PLAYER:
+                entries.put(id, new Builder(id, "", null, listed, latency, gameMode, displayName));
+                break;
+            case REMOVE_PLAYER:
+                entries.remove(id);
+                break;
+            case UPDATE_DISPLAY_NAME:
+                entries.computeIfPresent(id, (uuid, entry) -> {
+                    entry.setDisplayName(displayName);
+                    return entry;
+                });
+                break;
+            case UPDATE_LATENCY:
+                entries.computeIfPresent(id, (uuid, entry) -> {
+                    entry.setLatency(latency);
+                    return entry;
+                });
+                break;
+            case UPDATE_GAME_MODE:
+                entries.computeIfPresent(id, (uuid, entry) -> {
+                    entry.setGameMode(gameMode);
+                    return entry;
+                });
+                break;
+            case UPDATE_LISTED:
+                entries.computeIfPresent(id, (uuid, entry) -> {
+                    entry.setListed(listed);
+                    return entry;
+                });
+                break;
         }
     }
 
@@ -87,6 +214,7 @@ public class FabricTabList extends TabList<FabricTabPlayer, Component> {
      */
     @AllArgsConstructor
     @Getter
+    @Setter
     public static class Builder {
 
         @NonNull private final UUID id;
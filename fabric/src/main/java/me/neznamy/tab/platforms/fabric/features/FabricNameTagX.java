@@ -13,9 +13,6 @@ import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * Unlimited nametag mode implementation for Fabric.
  */
@@ -62,8 +59,8 @@ public class FabricNameTagX extends BackendNameTagX {
 
     @Override
     @NotNull
-    public List<Integer> getPassengers(@NotNull Object vehicle) {
-        return ((Entity)vehicle).getPassengers().stream().map(Entity::getId).collect(Collectors.toList());
+    public int[] getPassengers(@NotNull Object vehicle) {
+        return ((Entity)vehicle).getPassengers().stream().mapToInt(Entity::getId).toArray();
     }
 
     @Override
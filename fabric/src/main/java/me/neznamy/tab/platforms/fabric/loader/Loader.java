@@ -26,6 +26,7 @@ import net.minecraft.world.scores.criteria.ObjectiveCriteria.RenderType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -236,20 +237,22 @@ public interface Loader {
      *          Player who received the packet
      * @param   packet
      *          Received packet
+     * @param   track
+     *          Whether entry changes should be tracked as client state of receiver's tablist
      */
-    void onPlayerInfo(@NotNull TabPlayer receiver, @NotNull Object packet);
+    void onPlayerInfo(@NotNull TabPlayer receiver, @NotNull Object packet, boolean track);
 
     /**
      * Creates tablist entry packet using given parameters.
      *
      * @param   action
      *          Tablist action
-     * @param   builder
+     * @param   entries
      *          Entry data
      * @return  Tablist entry packet with given parameters
      */
     @NotNull
-    Packet<?> buildTabListPacket(@NotNull TabList.Action action, @NotNull FabricTabList.Builder builder);
+    Packet<?> buildTabListPacket(@NotNull TabList.Action action, @NotNull Collection<FabricTabList.Builder> entries);
 
     /**
      * Returns {@code true} if packet is bundle packet, {@code false} if not.
@@ -179,11 +179,20 @@ public class Loader_1_21 implements Loader {
 
     @Override
     public boolean isPlayerInfo(@NotNull Packet<?> packet) {
-        return packet instanceof ClientboundPlayerInfoUpdatePacket;
+        return packet instanceof ClientboundPlayerInfoUpdatePacket || packet instanceof ClientboundPlayerInfoRemovePacket;
     }
 
     @Override
-    public void onPlayerInfo(@NotNull TabPlayer receiver, @NotNull Object packet0) {
+    public void onPlayerInfo(@NotNull TabPlayer receiver, @NotNull Object packet0, boolean track) {
+        FabricTabList tabList = ((FabricTabPlayer)receiver).getTabList();
+        if (packet0 instanceof ClientboundPlayerInfoRemovePacket remove) {
+            if (track) {
+                for (UUID id : remove.profileIds()) {
+                    tabList.trackEntry(TabList.Action.REMOVE_PLAYER, id, null, false, 0, 0);
+                }
+            }
+            return;
+        }
         ClientboundPlayerInfoUpdatePacket packet = (ClientboundPlayerInfoUpdatePacket) packet0;
         EnumSet<ClientboundPlayerInfoUpdatePacket.Action> actions = packet.actions();
         List<ClientboundPlayerInfoUpdatePacket.Entry> updatedList = new ArrayList<>();
@@ -192,7 +201,7 @@ public class Loader_1_21 implements Loader {
             Component displayName = nmsData.displayName();
             int latency = nmsData.latency();
             if (actions.contains(ClientboundPlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME)) {
-                Component expectedDisplayName = ((FabricTabPlayer)receiver).getTabList().getExpectedDisplayName(nmsData.profileId());
+                Component expectedDisplayName = tabList.getExpectedDisplayName(nmsData.profileId());
                 if (expectedDisplayName != null) displayName = expectedDisplayName;
             }
             if (actions.contains(ClientboundPlayerInfoUpdatePacket.Action.UPDATE_LATENCY)) {
@@ -202,26 +211,46 @@ public class Loader_1_21 implements Loader {
                 TAB.getInstance().getFeatureManager().onEntryAdd(receiver, nmsData.profileId(), profile.getName());
             }
             updatedList.add(new ClientboundPlayerInfoUpdatePacket.Entry(nmsData.profileId(), profile, nmsData.listed(), latency, nmsData.gameMode(), displayName, nmsData.chatSession()));
+            if (track) {
+                int gameMode = nmsData.gameMode() == null ? 0 : nmsData.gameMode().getId();
+                for (ClientboundPlayerInfoUpdatePacket.Action action : actions) {
+                    TabList.Action tabAction = Register1_19_3.reverseActionMap.get(action);
+                    if (tabAction == TabList.Action.ADD_PLAYER) {
+                        // Add action only carries the profile, other values are only applied by their actions
+                        tabList.trackEntry(tabAction, nmsData.profileId(), null, false, 0, 0);
+                    } else if (tabAction != null) {
+                        tabList.trackEntry(tabAction, nmsData.profileId(), displayName, nmsData.listed(), latency, gameMode);
+                    }
+                }
+            }
         }
         packet.entries = updatedList;
     }
 
     @Override
     @NotNull
-    public Packet<?> buildTabListPacket(@NotNull TabList.Action action, @NotNull FabricTabList.Builder entry) {
+    public Packet<?> buildTabListPacket(@NotNull TabList.Action action, @NotNull Collection<FabricTabList.Builder> entries) {
         if (action == TabList.Action.REMOVE_PLAYER) {
-            return new ClientboundPlayerInfoRemovePacket(Collections.singletonList(entry.getId()));
+            List<UUID> ids = new ArrayList<>(entries.size());
+            for (FabricTabList.Builder entry : entries) {
+                ids.add(entry.getId());
+            }
+            return new ClientboundPlayerInfoRemovePacket(ids);
         }
         ClientboundPlayerInfoUpdatePacket packet = new ClientboundPlayerInfoUpdatePacket(Register1_19_3.actionMap.get(action), Collections.emptyList());
-        packet.entries = Collections.singletonList(new ClientboundPlayerInfoUpdatePacket.Entry(
-                entry.getId(),
-                action == TabList.Action.ADD_PLAYER ? entry.createProfile() : null,
-                entry.isListed(),
-                entry.getLatency(),
-                GameType.byId(entry.getGameMode()),
-                entry.getDisplayName(),
-                null
-        ));
+        List<ClientboundPlayerInfoUpdatePacket.Entry> list = new ArrayList<>(entries.size());
+        for (FabricTabList.Builder entry : entries) {
+            list.add(new ClientboundPlayerInfoUpdatePacket.Entry(
+                    entry.getId(),
+                    action == TabList.Action.ADD_PLAYER ? entry.createProfile() : null,
+                    entry.isListed(),
+                    entry.getLatency(),
+                    GameType.byId(entry.getGameMode()),
+                    entry.getDisplayName(),
+                    null
+            ));
+        }
+        packet.entries = list;
         return packet;
     }
 
@@ -361,6 +390,9 @@ public class Loader_1_21 implements Loader {
 
         static final Map<TabList.Action, EnumSet<ClientboundPlayerInfoUpdatePacket.Action>> actionMap = createActionMap();
 
+        /** Tablist action for each packet action which can be tracked */
+        static final Map<ClientboundPlayerInfoUpdatePacket.Action, TabList.Action> reverseActionMap = createReverseActionMap();
+
         public static EnumSet<ClientboundPlayerInfoUpdatePacket.Action> convertAction(TabList.Action action) {
             return EnumSet.of(ClientboundPlayerInfoUpdatePacket.Action.valueOf(action.name()));
         }
@@ -374,5 +406,15 @@ public class Loader_1_21 implements Loader {
             actions.put(TabList.Action.UPDATE_LISTED, EnumSet.of(ClientboundPlayerInfoUpdatePacket.Action.UPDATE_LISTED));
             return actions;
         }
+
+        private static Map<ClientboundPlayerInfoUpdatePacket.Action, TabList.Action> createReverseActionMap() {
+            Map<ClientboundPlayerInfoUpdatePacket.Action, TabList.Action> actions = new EnumMap<>(ClientboundPlayerInfoUpdatePacket.Action.class);
+            actions.put(ClientboundPlayerInfoUpdatePacket.Action.ADD_PLAYER, TabList.Action.ADD_PLAYER);
+            actions.put(ClientboundPlayerInfoUpdatePacket.Action.UPDATE_GAME_MODE, TabList.Action.UPDATE_GAME_MODE);
+            actions.put(ClientboundPlayerInfoUpdatePacket.Action.UPDATE_LISTED, TabList.Action.UPDATE_LISTED);
+            actions.put(ClientboundPlayerInfoUpdatePacket.Action.UPDATE_LATENCY, TabList.Action.UPDATE_LATENCY);
+            actions.put(ClientboundPlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME, TabList.Action.UPDATE_DISPLAY_NAME);
+            return actions;
+        }
     }
 }
@@ -190,7 +190,7 @@ public class Loader_1_14_4 implements Loader {
 
     @Override
     @SneakyThrows
-    public void onPlayerInfo(@NotNull TabPlayer receiver, @NotNull Object packet) {
+    public void onPlayerInfo(@NotNull TabPlayer receiver, @NotNull Object packet, boolean track) {
         ClientboundPlayerInfoPacket.Action action = (ClientboundPlayerInfoPacket.Action) ReflectionUtils.getFields(packet.getClass(), ClientboundPlayerInfoPacket.Action.class).get(0).get(packet);
         List<PlayerUpdate> players = (List<PlayerUpdate>) ReflectionUtils.getFields(packet.getClass(), List.class).get(0).get(packet);
         for (PlayerUpdate nmsData : players) {
@@ -207,16 +207,24 @@ public class Loader_1_14_4 implements Loader {
             if (action.name().equals(TabList.Action.ADD_PLAYER.name())) {
                 TAB.getInstance().getFeatureManager().onEntryAdd(receiver, profile.getId(), profile.getName());
             }
+            if (track) {
+                ((FabricTabPlayer)receiver).getTabList().trackEntry(TabList.Action.valueOf(action.name()), profile.getId(),
+                        (Component) displayNameField.get(nmsData), false, latencyField.getInt(nmsData),
+                        nmsData.getGameMode() == null ? 0 : nmsData.getGameMode().getId());
+            }
         }
     }
 
     @Override
     @NotNull
     @SneakyThrows
-    public Packet<?> buildTabListPacket(TabList.@NotNull Action action, @NotNull FabricTabList.Builder entry) {
+    public Packet<?> buildTabListPacket(TabList.@NotNull Action action, @NotNull Collection<FabricTabList.Builder> entries) {
         ClientboundPlayerInfoPacket packet = new ClientboundPlayerInfoPacket(ClientboundPlayerInfoPacket.Action.valueOf(action.name()));
-        ReflectionUtils.getFields(ClientboundPlayerInfoPacket.class, List.class).get(0).set(packet, Collections.singletonList(
-                packet.new PlayerUpdate(entry.createProfile(), entry.getLatency(), GameType.byId(entry.getGameMode()), entry.getDisplayName())));
+        List<PlayerUpdate> updates = new ArrayList<>(entries.size());
+        for (FabricTabList.Builder entry : entries) {
+            updates.add(packet.new PlayerUpdate(entry.createProfile(), entry.getLatency(), GameType.byId(entry.getGameMode()), entry.getDisplayName()));
+        }
+        ReflectionUtils.getFields(ClientboundPlayerInfoPacket.class, List.class).get(0).set(packet, updates);
         return packet;
     }
 
@@ -37,7 +37,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -63,24 +64,26 @@ public class Loader_1_18_2 implements Loader {
     @Override
     @NotNull
     @SneakyThrows
-    public Packet<?> buildTabListPacket(@NotNull TabList.Action action, @NotNull FabricTabList.Builder entry) {
-        PlayerUpdate update;
-        if (serverVersion.getMinorVersion() >= 19) {
-            // 1.19 - 1.19.2
-            update = (PlayerUpdate) PlayerUpdate.class.getConstructors()[0].newInstance(
-                    entry.createProfile(), entry.getLatency(), GameType.byId(entry.getGameMode()), entry.getDisplayName(), null);
-        } else {
-            update = new PlayerUpdate(entry.createProfile(), entry.getLatency(), GameType.byId(entry.getGameMode()), entry.getDisplayName());
+    public Packet<?> buildTabListPacket(@NotNull TabList.Action action, @NotNull Collection<FabricTabList.Builder> entries) {
+        List<PlayerUpdate> updates = new ArrayList<>(entries.size());
+        for (FabricTabList.Builder entry : entries) {
+            if (serverVersion.getMinorVersion() >= 19) {
+                // 1.19 - 1.19.2
+                updates.add((PlayerUpdate) PlayerUpdate.class.getConstructors()[0].newInstance(
+                        entry.createProfile(), entry.getLatency(), GameType.byId(entry.getGameMode()), entry.getDisplayName(), null));
+            } else {
+                updates.add(new PlayerUpdate(entry.createProfile(), entry.getLatency(), GameType.byId(entry.getGameMode()), entry.getDisplayName()));
+            }
         }
         ClientboundPlayerInfoPacket packet = new ClientboundPlayerInfoPacket(ClientboundPlayerInfoPacket.Action.valueOf(action.name()));
-        ReflectionUtils.getFields(ClientboundPlayerInfoPacket.class, List.class).get(0).set(packet, Collections.singletonList(update));
+        ReflectionUtils.getFields(ClientboundPlayerInfoPacket.class, List.class).get(0).set(packet, updates);
         return packet;
     }
 
     @Override
     @SneakyThrows
     @SuppressWarnings("unchecked")
-    public void onPlayerInfo(@NotNull TabPlayer receiver, @NotNull Object packet) {
+    public void onPlayerInfo(@NotNull TabPlayer receiver, @NotNull Object packet, boolean track) {
         ClientboundPlayerInfoPacket.Action action = (ClientboundPlayerInfoPacket.Action) ReflectionUtils.getFields(packet.getClass(), ClientboundPlayerInfoPacket.Action.class).get(0).get(packet);
         List<PlayerUpdate> players = (List<PlayerUpdate>) ReflectionUtils.getFields(packet.getClass(), List.class).get(0).get(packet);
         for (PlayerUpdate nmsData : players) {
@@ -97,6 +100,11 @@ public class Loader_1_18_2 implements Loader {
             if (action.name().equals(TabList.Action.ADD_PLAYER.name())) {
                 TAB.getInstance().getFeatureManager().onEntryAdd(receiver, profile.getId(), profile.getName());
             }
+            if (track) {
+                ((FabricTabPlayer)receiver).getTabList().trackEntry(TabList.Action.valueOf(action.name()), profile.getId(),
+                        (Component) displayNameField.get(nmsData), false, latencyField.getInt(nmsData),
+                        nmsData.getGameMode() == null ? 0 : nmsData.getGameMode().getId());
+            }
         }
     }
 
@@ -0,0 +1,12 @@
+plugins {
+    application
+}
+
+dependencies {
+    implementation(projects.shared)
+    implementation("com.google.guava:guava:31.1-jre")
+}
+
+application {
+    mainClass.set("me.neznamy.tab.loadtest.LoadTest")
+}
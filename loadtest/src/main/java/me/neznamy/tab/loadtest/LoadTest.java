@@ -0,0 +1,323 @@
+package me.neznamy.tab.loadtest;
+
+import lombok.Getter;
+import me.neznamy.tab.loadtest.platform.LoadTestPlatform;
+import me.neznamy.tab.loadtest.platform.SimulatedClient;
+import me.neznamy.tab.loadtest.redis.InMemoryBroker;
+import me.neznamy.tab.loadtest.redis.MirrorProxy;
+import me.neznamy.tab.loadtest.scenario.*;
+import me.neznamy.tab.shared.ProtocolVersion;
+import me.neznamy.tab.shared.TAB;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Headless load test running TAB in-process with simulated players. Runs selected scenarios
+ * one after another and reports throughput, latency percentiles, sent packets and CPU usage
+ * of each feature for every scenario. Random decisions are seeded, so runs with the same
+ * arguments perform the same operations.
+ */
+@Getter
+public class LoadTest {
+
+    /** Worlds players are spread across */
+    public static final String[] WORLDS = {"world", "world_nether", "world_the_end", "lobby"};
+
+    /** Sections enabled in default config, so all features are tested */
+    private static final String[] ENABLED_SECTIONS = {"belowname-objective", "bossbar", "scoreboard"};
+
+    /** All available scenarios */
+    private static final List<Scenario> SCENARIOS = Arrays.asList(
+            new JoinStorm(), new WorldSwitch(), new PlaceholderChurn(), new RedisTraffic(), new Reload(),
+            new GroupChanges(true), new GroupChanges(false), new RgbFormats(), new ScoreboardOperations()
+    );
+
+    /** Amount of simulated players */
+    private int playerCount = 500;
+
+    /** Duration of time-based scenarios in seconds */
+    private int durationSeconds = 10;
+
+    /** Seed for random decisions */
+    private long seed;
+
+    /** Game version of simulated clients */
+    @NotNull private ProtocolVersion clientVersion = ProtocolVersion.LATEST_KNOWN_VERSION;
+
+    /** Folder with configuration files to use instead of default configuration */
+    @Nullable private File configFolder;
+
+    /** Whether console output of the plugin should be printed or not */
+    private boolean verbose;
+
+    /** Scenarios to run in order */
+    @NotNull private final List<Scenario> scenarios = new ArrayList<>(SCENARIOS);
+
+    /** Random for decisions made by scenarios */
+    @NotNull private Random random;
+
+    /** Broker for redis support or {@code null} if no scenario needs it */
+    @Nullable private InMemoryBroker broker;
+
+    /** Platform running the plugin */
+    private LoadTestPlatform platform;
+
+    /**
+     * Runs load test with given arguments.
+     *
+     * @param   args
+     *          Command line arguments
+     * @throws  Exception
+     *          If the test fails
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTest test = new LoadTest();
+        if (!test.parseArguments(args)) {
+            System.out.println("Usage: [--players <amount>] [--duration <seconds>] [--scenarios <name,...>] [--version <1.x.x>] " +
+                    "[--seed <number>] [--config <folder>] [--verbose]");
+            System.out.println("Scenarios:");
+            for (Scenario scenario : SCENARIOS) {
+                System.out.printf("  %-14s %s%n", scenario.getName(), scenario.getDescription());
+            }
+            System.exit(1);
+        }
+        test.run();
+    }
+
+    /**
+     * Parses command line arguments and returns {@code true} if they are valid, {@code false} if not.
+     *
+     * @param   args
+     *          Command line arguments
+     * @return  {@code true} if arguments are valid, {@code false} if not
+     */
+    private boolean parseArguments(@NotNull String[] args) {
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--players":
+                        playerCount = Integer.parseInt(args[++i]);
+                        break;
+                    case "--duration":
+                        durationSeconds = Integer.parseInt(args[++i]);
+                        break;
+                    case "--scenarios":
+                        scenarios.clear();
+                        for (String name : args[++i].split(",")) {
+                            Scenario scenario = SCENARIOS.stream().filter(s -> s.getName().equals(name)).findFirst().orElse(null);
+                            if (scenario == null) return false;
+                            scenarios.add(scenario);
+                        }
+                        break;
+                    case "--version":
+                        clientVersion = ProtocolVersion.fromFriendlyName(args[++i]);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(args[++i]);
+                        break;
+                    case "--config":
+                        configFolder = new File(args[++i]);
+                        break;
+                    case "--verbose":
+                        verbose = true;
+                        break;
+                    default:
+                        return false;
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            return false;
+        }
+        return playerCount > 0 && durationSeconds > 0 && clientVersion != ProtocolVersion.UNKNOWN;
+    }
+
+    /**
+     * Starts the plugin, runs all selected scenarios, prints their results and stops the plugin.
+     *
+     * @throws  Exception
+     *          If the test fails
+     */
+    private void run() throws Exception {
+        random = new Random(seed);
+        if (scenarios.stream().anyMatch(s -> s instanceof RedisTraffic)) {
+            broker = new InMemoryBroker();
+            new MirrorProxy(broker);
+        }
+        File dataFolder = Files.createTempDirectory("tab-loadtest").toFile();
+        try {
+            prepareConfiguration(dataFolder);
+            platform = new LoadTestPlatform(dataFolder, clientVersion, broker, verbose);
+            TAB.create(platform);
+            if (TAB.getInstance().isPluginDisabled()) {
+                throw new IllegalStateException("Plugin failed to load, run with --verbose to see why");
+            }
+            enableCpuTracking();
+            System.out.printf("Running %d scenarios with %d players on %s%n%n", scenarios.size(), playerCount, clientVersion.getFriendlyName());
+            for (Scenario scenario : scenarios) {
+                run(scenario).print(System.out);
+            }
+            TAB.getInstance().unload();
+        } finally {
+            try (Stream<Path> files = Files.walk(dataFolder.toPath())) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs scenario and measures it.
+     *
+     * @param   scenario
+     *          Scenario to run
+     * @return  Result of the scenario
+     * @throws  InterruptedException
+     *          If interrupted while waiting
+     */
+    @NotNull
+    private ScenarioResult run(@NotNull Scenario scenario) throws InterruptedException {
+        scenario.prepare(this);
+        awaitProcessing();
+        platform.getPackets().reset();
+        if (broker != null) broker.reset();
+        TAB.getInstance().getCPUManager().createReport();
+        LatencyRecorder latency = new LatencyRecorder();
+        long time = System.nanoTime();
+        int operations = scenario.run(this, latency);
+        awaitProcessing();
+        long duration = System.nanoTime() - time;
+        ScenarioResult result = new ScenarioResult(scenario, operations, duration, latency, platform.getPackets().reset(),
+                broker == null ? Collections.emptyMap() : broker.reset(), TAB.getInstance().getCPUManager().createReport());
+        scenario.cleanup(this);
+        return result;
+    }
+
+    /**
+     * Prepares configuration files in given folder. If a configuration folder was specified, its
+     * files are copied. Otherwise, default configuration is used with all features enabled.
+     *
+     * @param   dataFolder
+     *          Data folder of the plugin
+     * @throws  IOException
+     *          If copying files fails
+     */
+    private void prepareConfiguration(@NotNull File dataFolder) throws IOException {
+        if (configFolder != null) {
+            File[] files = configFolder.listFiles((dir, name) -> name.endsWith(".yml"));
+            if (files == null) throw new IOException("Config folder " + configFolder + " does not exist");
+            for (File file : files) {
+                Files.copy(file.toPath(), new File(dataFolder, file.getName()).toPath());
+            }
+            return;
+        }
+        String config;
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("config/config.yml")) {
+            if (in == null) throw new IOException("Default config.yml was not found");
+            Scanner scanner = new Scanner(in, StandardCharsets.UTF_8.name()).useDelimiter("\\A");
+            config = scanner.hasNext() ? scanner.next() : "";
+        }
+        for (String section : ENABLED_SECTIONS) {
+            config = config.replace("\n" + section + ":\n  enabled: false", "\n" + section + ":\n  enabled: true");
+        }
+        Files.write(new File(dataFolder, "config.yml").toPath(), config.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Enables CPU usage tracking without periodic reports, as reports are created
+     * by the load test for each scenario. Must be called again after full reload.
+     */
+    public void enableCpuTracking() {
+        TAB.getInstance().getCPUManager().setTrackUsage(true);
+    }
+
+    /**
+     * Creates simulated client with given index. Clients with the same
+     * index have the same properties in every run with the same seed.
+     *
+     * @param   index
+     *          Index of the client
+     * @return  Simulated client
+     */
+    @NotNull
+    public SimulatedClient createClient(int index) {
+        Random clientRandom = new Random(seed * 31 + index);
+        return new SimulatedClient("Player" + index, WORLDS[clientRandom.nextInt(WORLDS.length)],
+                10 + clientRandom.nextInt(200), clientRandom.nextInt(20) == 0);
+    }
+
+    /**
+     * Connects all players who are not connected and waits until their joins are processed.
+     *
+     * @throws  InterruptedException
+     *          If interrupted while waiting
+     */
+    public void connectAll() throws InterruptedException {
+        for (int i = 0; i < playerCount; i++) {
+            SimulatedClient client = createClient(i);
+            if (!platform.getClients().containsKey(client.getUniqueId())) platform.connect(client);
+        }
+        awaitProcessing();
+    }
+
+    /**
+     * Returns all connected clients ordered by name, so scenarios
+     * iterate over them in the same order in every run.
+     *
+     * @return  Connected clients ordered by name
+     */
+    @NotNull
+    public List<SimulatedClient> getOnlineClients() {
+        List<SimulatedClient> clients = new ArrayList<>(platform.getConnectedClients());
+        clients.sort(Comparator.comparing(SimulatedClient::getName));
+        return clients;
+    }
+
+    /**
+     * Performs action and records time until all tasks it submitted to the processing thread
+     * are finished. Since the processing thread runs tasks in order of submission, this is
+     * measured by a task submitted right after the action.
+     *
+     * @param   action
+     *          Action to perform
+     * @param   latency
+     *          Recorder to record latency into
+     */
+    public void measure(@NotNull Runnable action, @NotNull LatencyRecorder latency) {
+        long time = System.nanoTime();
+        action.run();
+        TAB.getInstance().getCPUManager().runTask(() -> latency.record(System.nanoTime() - time));
+    }
+
+    /**
+     * Waits until all tasks submitted to the processing thread so far are finished,
+     * including processing of redis messages they sent and their mirrored copies.
+     *
+     * @throws  InterruptedException
+     *          If interrupted while waiting
+     */
+    public void awaitProcessing() throws InterruptedException {
+        awaitProcessingThread();
+        if (broker == null) return;
+        broker.awaitDelivery(); // Delivers sent messages, mirror publishes its copies
+        broker.awaitDelivery(); // Delivers the copies
+        awaitProcessingThread();
+    }
+
+    private void awaitProcessingThread() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        TAB.getInstance().getCPUManager().runTask(latch::countDown);
+        if (!latch.await(1, TimeUnit.MINUTES)) throw new IllegalStateException("Processing thread did not finish in 1 minute");
+    }
+}
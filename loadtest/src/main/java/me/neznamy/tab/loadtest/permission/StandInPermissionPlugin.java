@@ -0,0 +1,145 @@
+package me.neznamy.tab.loadtest.permission;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import me.neznamy.tab.shared.GroupManager;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Permission plugin replacing LuckPerms or Vault. Groups are stored in memory and can be
+ * changed by scenarios. If events are enabled, it notifies subscribers about changed players
+ * from its own thread like LuckPerms' user data recalculation does, so groups are detected
+ * through events. Otherwise, there are no events and groups are periodically polled like with Vault.
+ */
+public class StandInPermissionPlugin {
+
+    /** Group of players whose group was not changed */
+    public static final String DEFAULT_GROUP = "default";
+
+    /** Name of the permission plugin */
+    @Getter @NotNull private final String name;
+
+    /** Thread notifying subscribers or {@code null} if events are disabled */
+    @Nullable private final ExecutorService eventThread;
+
+    /** Groups of players by their UUID */
+    @NotNull private final Map<UUID, String> groups = new ConcurrentHashMap<>();
+
+    /** Subscribers notified about players whose group changed */
+    @NotNull private final List<Consumer<UUID>> subscribers = new CopyOnWriteArrayList<>();
+
+    /** Amount of group queries */
+    @NotNull private final LongAdder queries = new LongAdder();
+
+    /**
+     * Constructs new instance.
+     *
+     * @param   name
+     *          Name of the permission plugin
+     * @param   events
+     *          {@code true} if subscribers should be notified about group changes, {@code false} if not
+     */
+    public StandInPermissionPlugin(@NotNull String name, boolean events) {
+        this.name = name;
+        eventThread = events ? Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("TAB LoadTest Permission Event Thread").setDaemon(true).build()) : null;
+    }
+
+    /**
+     * Creates group manager using this permission plugin, subscribing to group changes if events are enabled.
+     *
+     * @return  Group manager using this permission plugin
+     */
+    @NotNull
+    public GroupManager createGroupManager() {
+        return new GroupManager(name, this::getGroup, eventThread == null ? null : this::subscribe);
+    }
+
+    /**
+     * Returns group of player.
+     *
+     * @param   player
+     *          Player to get group of
+     * @return  Group of player
+     */
+    @NotNull
+    public String getGroup(@NotNull TabPlayer player) {
+        queries.increment();
+        return getGroup(player.getUniqueId());
+    }
+
+    /**
+     * Returns group of player with given UUID without counting it as a query.
+     *
+     * @param   id
+     *          UUID of player
+     * @return  Group of player
+     */
+    @NotNull
+    public String getGroup(@NotNull UUID id) {
+        return groups.getOrDefault(id, DEFAULT_GROUP);
+    }
+
+    /**
+     * Changes group of player and notifies subscribers if events are enabled.
+     *
+     * @param   id
+     *          UUID of player
+     * @param   group
+     *          New group
+     */
+    public void setGroup(@NotNull UUID id, @NotNull String group) {
+        groups.put(id, group);
+        if (eventThread != null) eventThread.execute(() -> subscribers.forEach(subscriber -> subscriber.accept(id)));
+    }
+
+    /**
+     * Subscribes to group changes.
+     *
+     * @param   subscriber
+     *          Subscriber called with UUID of player whose group changed
+     * @return  Subscription which unsubscribes when closed
+     */
+    @NotNull
+    public AutoCloseable subscribe(@NotNull Consumer<UUID> subscriber) {
+        subscribers.add(subscriber);
+        return () -> subscribers.remove(subscriber);
+    }
+
+    /**
+     * Returns amount of active subscriptions.
+     *
+     * @return  Amount of active subscriptions
+     */
+    public int getSubscriptionCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Returns amount of group queries since last call and resets it.
+     *
+     * @return  Amount of group queries
+     */
+    public long resetQueries() {
+        return queries.sumThenReset();
+    }
+
+    /**
+     * Stops the event thread.
+     */
+    public void shutdown() {
+        if (eventThread != null) eventThread.shutdown();
+    }
+}
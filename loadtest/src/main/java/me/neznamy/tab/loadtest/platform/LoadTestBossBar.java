@@ -0,0 +1,64 @@
+package me.neznamy.tab.loadtest.platform;
+
+import lombok.RequiredArgsConstructor;
+import me.neznamy.tab.api.bossbar.BarColor;
+import me.neznamy.tab.api.bossbar.BarStyle;
+import me.neznamy.tab.shared.platform.BossBar;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BossBar implementation for simulated players, which counts packets
+ * and records titles of visible boss bars.
+ */
+@RequiredArgsConstructor
+public class LoadTestBossBar implements BossBar {
+
+    /** Player to send boss bars to */
+    @NotNull
+    private final LoadTestPlayer player;
+
+    /** Titles of boss bars the client currently sees */
+    @NotNull
+    private final Map<UUID, String> bossBars = new ConcurrentHashMap<>();
+
+    @Override
+    public void create(@NotNull UUID id, @NotNull String title, float progress, @NotNull BarColor color, @NotNull BarStyle style) {
+        bossBars.put(id, title);
+        count("bossbar.create");
+    }
+
+    @Override
+    public void update(@NotNull UUID id, @NotNull String title) {
+        bossBars.replace(id, title);
+        count("bossbar.update_title");
+    }
+
+    @Override
+    public void update(@NotNull UUID id, float progress) {
+        count("bossbar.update_progress");
+    }
+
+    @Override
+    public void update(@NotNull UUID id, @NotNull BarStyle style) {
+        count("bossbar.update_style");
+    }
+
+    @Override
+    public void update(@NotNull UUID id, @NotNull BarColor color) {
+        count("bossbar.update_color");
+    }
+
+    @Override
+    public void remove(@NotNull UUID id) {
+        bossBars.remove(id);
+        count("bossbar.remove");
+    }
+
+    private void count(@NotNull String type) {
+        player.getPlatform().getPackets().count(type);
+    }
+}
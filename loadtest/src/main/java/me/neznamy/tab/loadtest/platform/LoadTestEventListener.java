@@ -0,0 +1,19 @@
+package me.neznamy.tab.loadtest.platform;
+
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.platform.EventListener;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Event listener for simulated players. Events are fired by scenarios
+ * instead of a server, going through the same path as on real platforms.
+ */
+public class LoadTestEventListener implements EventListener<SimulatedClient> {
+
+    @Override
+    @NotNull
+    public TabPlayer createPlayer(@NotNull SimulatedClient player) {
+        return new LoadTestPlayer((LoadTestPlatform) TAB.getInstance().getPlatform(), player);
+    }
+}
@@ -0,0 +1,210 @@
+package me.neznamy.tab.loadtest.platform;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import me.neznamy.tab.loadtest.permission.StandInPermissionPlugin;
+import me.neznamy.tab.loadtest.redis.InMemoryBroker;
+import me.neznamy.tab.loadtest.redis.InMemoryRedisSupport;
+import me.neznamy.tab.shared.GroupManager;
+import me.neznamy.tab.shared.ProtocolVersion;
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.backend.BackendPlatform;
+import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.features.injection.PipelineInjector;
+import me.neznamy.tab.shared.features.nametags.NameTag;
+import me.neznamy.tab.shared.features.redis.RedisSupport;
+import me.neznamy.tab.shared.features.types.TabFeature;
+import me.neznamy.tab.shared.placeholders.expansion.EmptyTabExpansion;
+import me.neznamy.tab.shared.placeholders.expansion.TabExpansion;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Platform implementation running TAB in-process without a server.
+ * Players are simulated clients connected by load test scenarios.
+ */
+@Getter
+@RequiredArgsConstructor
+public class LoadTestPlatform implements BackendPlatform {
+
+    /** Folder with configuration files */
+    @NotNull
+    private final File dataFolder;
+
+    /** Game version of all simulated clients */
+    @NotNull
+    private final ProtocolVersion clientVersion;
+
+    /** Broker to connect redis support to or {@code null} if redis support should be disabled */
+    @Nullable
+    private final InMemoryBroker broker;
+
+    /** Whether console output of the plugin should be printed or not */
+    private final boolean verbose;
+
+    /** Counter of all packets sent to simulated players */
+    @NotNull
+    private final PacketCounter packets = new PacketCounter();
+
+    /** Event listener firing events of simulated clients */
+    @NotNull
+    private final LoadTestEventListener eventListener = new LoadTestEventListener();
+
+    /** Connected clients by their UUID */
+    @NotNull
+    private final Map<UUID, SimulatedClient> clients = new ConcurrentHashMap<>();
+
+    /** Permission plugin used on next load or {@code null} to use default detection */
+    @Setter
+    @Nullable
+    private volatile StandInPermissionPlugin permissionPlugin;
+
+    /**
+     * Connects client and fires join event.
+     *
+     * @param   client
+     *          Client to connect
+     */
+    public void connect(@NotNull SimulatedClient client) {
+        clients.put(client.getUniqueId(), client);
+        eventListener.join(client);
+    }
+
+    /**
+     * Disconnects client and fires quit event.
+     *
+     * @param   client
+     *          Client to disconnect
+     */
+    public void disconnect(@NotNull SimulatedClient client) {
+        clients.remove(client.getUniqueId());
+        eventListener.quit(client.getUniqueId());
+    }
+
+    /**
+     * Moves client into another world and fires world change event.
+     *
+     * @param   client
+     *          Client to move
+     * @param   world
+     *          New world
+     */
+    public void changeWorld(@NotNull SimulatedClient client, @NotNull String world) {
+        client.setWorld(world);
+        eventListener.worldChange(client.getUniqueId(), world);
+    }
+
+    /**
+     * Returns all connected clients.
+     *
+     * @return  All connected clients
+     */
+    @NotNull
+    public Collection<SimulatedClient> getConnectedClients() {
+        return clients.values();
+    }
+
+    @Override
+    public void registerUnknownPlaceholder(@NotNull String identifier) {
+        registerDummyPlaceholder(identifier);
+    }
+
+    @Override
+    public void loadPlayers() {
+        for (SimulatedClient client : clients.values()) {
+            TAB.getInstance().addPlayer(new LoadTestPlayer(this, client));
+        }
+    }
+
+    @Override
+    @NotNull
+    public GroupManager detectPermissionPlugin() {
+        StandInPermissionPlugin plugin = permissionPlugin;
+        if (plugin == null) return BackendPlatform.super.detectPermissionPlugin();
+        return plugin.createGroupManager();
+    }
+
+    @Override
+    @Nullable
+    public PipelineInjector createPipelineInjector() {
+        return null;
+    }
+
+    @Override
+    @NotNull
+    public NameTag getUnlimitedNameTags() {
+        return new NameTag();
+    }
+
+    @Override
+    @NotNull
+    public TabExpansion createTabExpansion() {
+        return new EmptyTabExpansion();
+    }
+
+    @Override
+    @Nullable
+    public RedisSupport getRedisSupport() {
+        return broker == null ? null : new InMemoryRedisSupport(broker);
+    }
+
+    @Override
+    @Nullable
+    public TabFeature getPerWorldPlayerList() {
+        return null;
+    }
+
+    @Override
+    public void logInfo(@NotNull TabComponent message) {
+        if (verbose) System.out.println("[TAB] " + message.toLegacyText());
+    }
+
+    @Override
+    public void logWarn(@NotNull TabComponent message) {
+        System.err.println("[TAB] [WARN] " + message.toLegacyText());
+    }
+
+    @Override
+    @NotNull
+    public String getServerVersionInfo() {
+        return "[LoadTest] " + clientVersion.getFriendlyName();
+    }
+
+    @Override
+    public void registerListener() {
+        // Events are fired by scenarios
+    }
+
+    @Override
+    public void registerCommand() {
+        // Not available
+    }
+
+    @Override
+    public void startMetrics() {
+        // Not available
+    }
+
+    @Override
+    @NotNull
+    public String convertComponent(@NotNull TabComponent component, boolean modern) {
+        return component.toLegacyText();
+    }
+
+    @Override
+    public double getTPS() {
+        return 20;
+    }
+
+    @Override
+    public double getMSPT() {
+        return -1; // Not available
+    }
+}
@@ -0,0 +1,106 @@
+package me.neznamy.tab.loadtest.platform;
+
+import lombok.Getter;
+import me.neznamy.tab.shared.backend.BackendTabPlayer;
+import me.neznamy.tab.shared.backend.entityview.DummyEntityView;
+import me.neznamy.tab.shared.backend.entityview.EntityView;
+import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.platform.BossBar;
+import me.neznamy.tab.shared.platform.TabList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * TabPlayer implementation for simulated players, which counts
+ * all packets instead of sending them.
+ */
+@Getter
+public class LoadTestPlayer extends BackendTabPlayer {
+
+    @NotNull
+    private final LoadTestScoreboard scoreboard = new LoadTestScoreboard(this);
+
+    @NotNull
+    private final LoadTestTabList tabList = new LoadTestTabList(this);
+
+    @NotNull
+    private final BossBar bossBar = new LoadTestBossBar(this);
+
+    @NotNull
+    private final EntityView entityView = new DummyEntityView();
+
+    /**
+     * Constructs new instance for given client.
+     *
+     * @param   platform
+     *          Server platform
+     * @param   client
+     *          Simulated client of this player
+     */
+    public LoadTestPlayer(@NotNull LoadTestPlatform platform, @NotNull SimulatedClient client) {
+        super(platform, client, client.getUniqueId(), client.getName(), client.getWorld(), platform.getClientVersion().getNetworkId());
+    }
+
+    @Override
+    public boolean hasPermission(@NotNull String permission) {
+        return getPlayer().isStaff();
+    }
+
+    @Override
+    public int getPing() {
+        return getPlayer().getPing();
+    }
+
+    @Override
+    public void sendMessage(@NotNull TabComponent message) {
+        getPlatform().getPackets().count("chat");
+    }
+
+    @Override
+    public boolean hasInvisibilityPotion() {
+        return false;
+    }
+
+    @Override
+    public boolean isDisguised() {
+        return false;
+    }
+
+    @Override
+    @Nullable
+    public TabList.Skin getSkin() {
+        return null;
+    }
+
+    @Override
+    @NotNull
+    public SimulatedClient getPlayer() {
+        return (SimulatedClient) player;
+    }
+
+    @Override
+    public LoadTestPlatform getPlatform() {
+        return (LoadTestPlatform) platform;
+    }
+
+    @Override
+    public boolean isVanished() {
+        return getPlayer().isVanished();
+    }
+
+    @Override
+    public int getGamemode() {
+        return 0;
+    }
+
+    @Override
+    public double getHealth() {
+        return 20;
+    }
+
+    @Override
+    @NotNull
+    public String getDisplayName() {
+        return getName();
+    }
+}
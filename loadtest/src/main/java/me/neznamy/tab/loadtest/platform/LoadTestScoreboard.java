@@ -0,0 +1,82 @@
+package me.neznamy.tab.loadtest.platform;
+
+import lombok.NonNull;
+import me.neznamy.tab.shared.chat.EnumChatFormat;
+import me.neznamy.tab.shared.platform.Scoreboard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * Scoreboard implementation for simulated players, which only counts packets.
+ * State tracking is already done by the superclass.
+ */
+public class LoadTestScoreboard extends Scoreboard<LoadTestPlayer, String> {
+
+    /**
+     * Constructs new instance with given player.
+     *
+     * @param   player
+     *          Player this scoreboard will belong to
+     */
+    public LoadTestScoreboard(@NotNull LoadTestPlayer player) {
+        super(player);
+    }
+
+    @Override
+    public void setDisplaySlot0(int slot, @NonNull String objective) {
+        count("scoreboard.display_objective");
+    }
+
+    @Override
+    public void setScore0(@NonNull String objective, @NonNull String scoreHolder, int score,
+                          @Nullable String displayName, @Nullable String numberFormat) {
+        count("scoreboard.set_score");
+    }
+
+    @Override
+    public void removeScore0(@NonNull String objective, @NonNull String scoreHolder) {
+        count("scoreboard.remove_score");
+    }
+
+    @Override
+    public void registerObjective0(@NonNull String objectiveName, @NonNull String title, int display,
+                                   @Nullable String numberFormat) {
+        count("scoreboard.register_objective");
+    }
+
+    @Override
+    public void unregisterObjective0(@NonNull String objectiveName) {
+        count("scoreboard.unregister_objective");
+    }
+
+    @Override
+    public void updateObjective0(@NonNull String objectiveName, @NonNull String title, int display,
+                                 @Nullable String numberFormat) {
+        count("scoreboard.update_objective");
+    }
+
+    @Override
+    public void registerTeam0(@NonNull String name, @NonNull String prefix, @NonNull String suffix,
+                              @NonNull NameVisibility visibility, @NonNull CollisionRule collision,
+                              @NonNull Collection<String> players, int options, @NonNull EnumChatFormat color) {
+        count("scoreboard.register_team");
+    }
+
+    @Override
+    public void unregisterTeam0(@NonNull String name) {
+        count("scoreboard.unregister_team");
+    }
+
+    @Override
+    public void updateTeam0(@NonNull String name, @NonNull String prefix, @NonNull String suffix,
+                            @NonNull NameVisibility visibility, @NonNull CollisionRule collision,
+                            int options, @NonNull EnumChatFormat color) {
+        count("scoreboard.update_team");
+    }
+
+    private void count(@NotNull String type) {
+        player.getPlatform().getPackets().count(type);
+    }
+}
@@ -0,0 +1,86 @@
+package me.neznamy.tab.loadtest.platform;
+
+import lombok.Getter;
+import lombok.NonNull;
+import me.neznamy.tab.shared.platform.TabList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TabList implementation for simulated players. Components are converted to legacy
+ * text. Packets are counted and entries are recorded so {@link #containsEntry(UUID)}
+ * behaves like on a real client.
+ */
+public class LoadTestTabList extends TabList<LoadTestPlayer, String> {
+
+    /** Entries the client currently has */
+    private final Set<UUID> entries = ConcurrentHashMap.newKeySet();
+
+    /** Last received header */
+    @Getter private String header;
+
+    /** Last received footer */
+    @Getter private String footer;
+
+    /**
+     * Constructs new instance.
+     *
+     * @param   player
+     *          Player this tablist will belong to
+     */
+    public LoadTestTabList(@NotNull LoadTestPlayer player) {
+        super(player);
+    }
+
+    @Override
+    public void removeEntry0(@NonNull UUID entry) {
+        entries.remove(entry);
+        count("tablist.remove_entry");
+    }
+
+    @Override
+    public void updateDisplayName0(@NonNull UUID entry, @Nullable String displayName) {
+        count("tablist.update_display_name");
+    }
+
+    @Override
+    public void updateLatency0(@NonNull UUID entry, int latency) {
+        count("tablist.update_latency");
+    }
+
+    @Override
+    public void updateGameMode0(@NonNull UUID entry, int gameMode) {
+        count("tablist.update_game_mode");
+    }
+
+    @Override
+    public void updateListed0(@NonNull UUID entry, boolean listed) {
+        count("tablist.update_listed");
+    }
+
+    @Override
+    public void addEntry0(@NonNull UUID id, @NonNull String name, @Nullable Skin skin, boolean listed, int latency, int gameMode, @Nullable String displayName) {
+        entries.add(id);
+        count("tablist.add_entry");
+    }
+
+    @Override
+    public void setPlayerListHeaderFooter0(@NonNull String header, @NonNull String footer) {
+        this.header = header;
+        this.footer = footer;
+        count("tablist.header_footer");
+    }
+
+    @Override
+    public boolean containsEntry(@NonNull UUID entry) {
+        return entries.contains(entry);
+    }
+
+    private void count(@NotNull String type) {
+        player.getPlatform().getPackets().count(type);
+    }
+}
@@ -0,0 +1,43 @@
+package me.neznamy.tab.loadtest.platform;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter of packets sent to simulated players by their type.
+ * Packets may be counted from any thread.
+ */
+public class PacketCounter {
+
+    /** Amount of sent packets by packet type */
+    private volatile Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    /**
+     * Counts a packet of given type.
+     *
+     * @param   type
+     *          Packet type
+     */
+    public void count(@NotNull String type) {
+        counts.computeIfAbsent(type, t -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns amounts of packets counted since previous call of this method
+     * sorted by packet type and starts counting from zero.
+     *
+     * @return  Amount of counted packets by packet type
+     */
+    @NotNull
+    public Map<String, Long> reset() {
+        Map<String, LongAdder> previous = counts;
+        counts = new ConcurrentHashMap<>();
+        Map<String, Long> result = new TreeMap<>();
+        previous.forEach((type, count) -> result.put(type, count.sum()));
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+package me.neznamy.tab.loadtest.platform;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Simulated connection of a player, used as platform-specific player object.
+ * It outlives {@link LoadTestPlayer} instances, which are created again on every reload.
+ */
+@Getter
+public class SimulatedClient {
+
+    /** Player's unique ID, derived from name to be the same in every run */
+    @NotNull private final UUID uniqueId;
+
+    /** Player's name */
+    @NotNull private final String name;
+
+    /** Player's latency in milliseconds */
+    private final int ping;
+
+    /** Whether player has all permissions or none */
+    private final boolean staff;
+
+    /** World the player is in */
+    @Setter @NotNull private volatile String world;
+
+    /** Whether player is vanished or not */
+    @Setter private volatile boolean vanished;
+
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   name
+     *          Player's name
+     * @param   world
+     *          World the player is in
+     * @param   ping
+     *          Player's latency
+     * @param   staff
+     *          Whether player has all permissions or none
+     */
+    public SimulatedClient(@NotNull String name, @NotNull String world, int ping, boolean staff) {
+        uniqueId = UUID.nameUUIDFromBytes(("LoadTest:" + name).getBytes(StandardCharsets.UTF_8));
+        this.name = name;
+        this.world = world;
+        this.ping = ping;
+        this.staff = staff;
+    }
+}
@@ -0,0 +1,93 @@
+package me.neznamy.tab.loadtest.redis;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Publish/subscribe broker replacing a redis server. Like redis, messages are delivered
+ * to all subscribers including the publisher on a separate thread in the order they were published.
+ */
+public class InMemoryBroker {
+
+    /** Thread delivering messages to subscribers */
+    private final ExecutorService deliveryThread = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("TAB LoadTest Broker Thread").setDaemon(true).build());
+
+    /** Subscribers receiving all published messages */
+    private final List<Consumer<String>> subscribers = new CopyOnWriteArrayList<>();
+
+    /** Amount of published messages */
+    private final LongAdder messages = new LongAdder();
+
+    /** Total length of published messages */
+    private final LongAdder bytes = new LongAdder();
+
+    /**
+     * Adds subscriber which will receive all messages published from now on.
+     *
+     * @param   subscriber
+     *          Subscriber to add
+     */
+    public void subscribe(@NotNull Consumer<String> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Removes subscriber.
+     *
+     * @param   subscriber
+     *          Subscriber to remove
+     */
+    public void unsubscribe(@NotNull Consumer<String> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Publishes message to all subscribers.
+     *
+     * @param   message
+     *          Message to publish
+     */
+    public void publish(@NotNull String message) {
+        messages.increment();
+        bytes.add(message.length()); // Frames are ISO-8859-1 strings, one character per byte
+        deliveryThread.submit(() -> {
+            for (Consumer<String> subscriber : subscribers) {
+                subscriber.accept(message);
+            }
+        });
+    }
+
+    /**
+     * Waits until all messages published so far are delivered.
+     *
+     * @throws  InterruptedException
+     *          If interrupted while waiting
+     */
+    public void awaitDelivery() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        deliveryThread.submit(latch::countDown);
+        latch.await(1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Returns amount and total size of messages published since previous
+     * call of this method and starts counting from zero.
+     *
+     * @return  Statistics of published messages
+     */
+    @NotNull
+    public Map<String, Long> reset() {
+        Map<String, Long> stats = new TreeMap<>();
+        stats.put("redis.messages", messages.sumThenReset());
+        stats.put("redis.bytes", bytes.sumThenReset());
+        return stats;
+    }
+}
@@ -0,0 +1,37 @@
+package me.neznamy.tab.loadtest.redis;
+
+import lombok.RequiredArgsConstructor;
+import me.neznamy.tab.shared.features.redis.RedisSupport;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Redis support implementation using an in-memory broker instead of a redis server.
+ */
+@RequiredArgsConstructor
+public class InMemoryRedisSupport extends RedisSupport {
+
+    /** Broker to send messages through */
+    @NotNull
+    private final InMemoryBroker broker;
+
+    /** Subscription for incoming messages */
+    @NotNull
+    private final Consumer<String> subscriber = this::processMessage;
+
+    @Override
+    public void register() {
+        broker.subscribe(subscriber);
+    }
+
+    @Override
+    public void unregister() {
+        broker.unsubscribe(subscriber);
+    }
+
+    @Override
+    public void sendMessage(@NotNull String message) {
+        broker.publish(message);
+    }
+}
@@ -0,0 +1,75 @@
+package me.neznamy.tab.loadtest.redis;
+
+import me.neznamy.tab.shared.features.redis.message.FrameWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Simulated remote proxy, which has a copy of every player connected to the tested proxy.
+ * Every frame received from another proxy is published back as if it came from this one,
+ * with UUIDs of all players changed, so the tested proxy processes the same amount of
+ * incoming redis traffic as it produces. Player names are not changed, as they are part of
+ * the message payloads.
+ */
+public class MirrorProxy implements Consumer<String> {
+
+    /** Bits flipped in the most significant part of UUIDs, which is the UUID version */
+    private static final long UUID_MASK = 0xF000L;
+
+    /** Broker to publish frames to */
+    @NotNull
+    private final InMemoryBroker broker;
+
+    /** ID of this proxy */
+    private final long proxy = ThreadLocalRandom.current().nextLong();
+
+    /**
+     * Constructs new instance and subscribes it to given broker.
+     *
+     * @param   broker
+     *          Broker to mirror frames of
+     */
+    public MirrorProxy(@NotNull InMemoryBroker broker) {
+        this.broker = broker;
+        broker.subscribe(this);
+    }
+
+    @Override
+    public void accept(@NotNull String frame) {
+        byte[] data = frame.getBytes(StandardCharsets.ISO_8859_1);
+        if (data.length == 0 || data[0] != FrameWriter.PROTOCOL_VERSION) return;
+        ByteBuffer buf = ByteBuffer.wrap(data);
+        buf.position(1);
+        if (buf.getLong() == proxy) return; // Our own frame
+        // Proxy ID and UUIDs have fixed length, so they can be replaced without re-encoding the frame
+        buf.putLong(1, proxy);
+        int names = readVarInt(buf);
+        for (int i = 0; i < names; i++) {
+            int length = readVarInt(buf);
+            buf.position(buf.position() + length);
+        }
+        int uuids = readVarInt(buf);
+        for (int i = 0; i < uuids; i++) {
+            int position = buf.position();
+            buf.putLong(position, buf.getLong(position) ^ UUID_MASK);
+            buf.position(position + 16);
+        }
+        broker.publish(new String(data, StandardCharsets.ISO_8859_1));
+    }
+
+    private int readVarInt(@NotNull ByteBuffer buf) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buf.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
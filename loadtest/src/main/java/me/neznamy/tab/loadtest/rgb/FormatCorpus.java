@@ -0,0 +1,98 @@
+package me.neznamy.tab.loadtest.rgb;
+
+import me.neznamy.tab.shared.chat.EnumChatFormat;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Input texts for comparing RGB format implementations. Consists of hand-written
+ * valid, malformed and edge-case tags of every format and font and randomly generated texts
+ * assembled from fragments of tags, which mostly produce almost-valid tags.
+ */
+public class FormatCorpus {
+
+    /** Hand-written inputs covering valid, malformed and edge-case tags */
+    private static final List<String> EDGE_CASES = Arrays.asList(
+            "",
+            "Plain text without any tags",
+            "&aLegacy &lcolors &rand %placeholder%",
+            // Hex formats
+            "<#FFFFFF>White", "<#ffffff", "<#FFFFF>Short", "<#GGGGGG>Not hex", "<#<#00ff00>Nested prefix",
+            "<#00ff00><#ff0000>Adjacent", "#<00ff00>Html", "#<00ff00", "#<#<00ff00>", "{#00ff00}CMI", "{#00ff00",
+            "{#00ff00>}", "{{#00ff00}}", "<#00ff00>Same <#00ff00>code twice",
+            // Bukkit format
+            "&x&f&f&0&0&0&0Text", EnumChatFormat.COLOR_CHAR + "x" + EnumChatFormat.COLOR_CHAR + "f" + EnumChatFormat.COLOR_CHAR + "f"
+                    + EnumChatFormat.COLOR_CHAR + "0" + EnumChatFormat.COLOR_CHAR + "0" + EnumChatFormat.COLOR_CHAR + "0"
+                    + EnumChatFormat.COLOR_CHAR + "0Section",
+            "&x&f&f&0&0&0", "&x&f&f&0&0&0&g", "&x&x&f&f&0&0&0&0", "&x&f&f&0&0&0&0&x&0&0&f&f&0&0Twice", "&x&&&&&&&&&&&&",
+            "&xffffffffffff", "Text&x&f&f&0&0&0&0", "&X&f&f&0&0&0&0",
+            // <#RRGGBB>text</#RRGGBB>
+            "<#ff0000>Gradient</#0000ff>", "<#ff0000|l>Legacy</#0000ff>", "<#ff0000|z>Bad legacy</#0000ff>",
+            "<#ff0000|>Empty legacy</#0000ff>", "<#ff0000>Unclosed", "<#ff0000>a<b</#0000ff>", "<#ff0000></#0000ff>",
+            "<#ff0000>x</#0000ff>", "<#ff0000>%player%</#0000ff>", "<#ff0000|c>%player%</#0000ff>",
+            "<#ff0000>&lBold</#0000ff>", "<#ff0000>Dup</#0000ff> <#ff0000>Dup</#0000ff>",
+            "<#ff0000><#00ff00>In</#0000ff></#0000ff>", "<#ff0000>One</#0000ff><#00ff00>Two</#ff00ff>",
+            "<#ff0000>Bad end</#0000f>", "<#ff0000>Bad end</#0000ff", "<#aaaaaa><#bbbbbb|l>x</#cccccc>",
+            "<#aaaaaa|l><#bbbbbb>x</#cccccc>", "<#ff0000>Line\nbreak</#0000ff>",
+            // <$#RRGGBB>text<$#RRGGBB>
+            "<$#ff0000>Text<$#0000ff>", "<$#ff0000|6>Text<$#0000ff>", "<$#ff0000>Text<$#0000f>", "<$#ff0000>Te<xt<$#0000ff>",
+            "<$#ff0000>%p%<$#0000ff>", "<$#ff0000><$#0000ff>",
+            // {#RRGGBB>}text{#RRGGBB<}
+            "{#ff0000>}Text{#0000ff<}", "{#ff0000<>}", "{#ff0000>}A{#00ff00<>}B{#0000ff<}", "{#ff0000|c>}Text{#0000ff<}",
+            "{#ff0000>}Te{xt{#0000ff<}", "{#ff0000>}%p%{#0000ff<}", "{#ff000<>}", "<>}", "{#ff0000>}Unclosed",
+            // <gradient:#RRGGBB>text</gradient:#RRGGBB>
+            "<gradient:#ff0000>Text</gradient:#0000ff>", "<gradient:#ff0000|l>Text</gradient:#0000ff>",
+            "<gradient:#ff0000|?>Text</gradient:#0000ff>", "<gradient:#ff0000>Line\nbreak</gradient:#0000ff>",
+            "<gradient:#ff0000>a</gradient:#00ff0>b</gradient:#0000ff>", "<gradient:#ff0000>&lBold</gradient:#0000ff>",
+            "<gradient:#ff0000><b>Tags</b></gradient:#0000ff>", "<gradient:#ff0000>%p%</gradient:#0000ff>",
+            "<gradient:#ff0000>Unclosed", "<gradient:#ff0000></gradient:#0000ff>", "<gradient:#ff0000>", "<grad",
+            "<gradient:#ff0000>Carriage\rreturn</gradient:#0000ff>", "<gradient:#ff0000|\n>Text</gradient:#0000ff>",
+            "<gradient:#aaaaaa>A<gradient:#bbbbbb|l>B</gradient:#cccccc>",
+            "<gradient:#aaaaaa|?>X<gradient:#bbbbbb|l>Y</gradient:#cccccc>",
+            "<gradient:#aaaaaa|l>%p%<gradient:#bbbbbb>x</gradient:#cccccc>",
+            "<gradient:#aaaaaa|l>A<gradient:#bbbbbb>B</gradient:#cccccc>",
+            "<gradient:#ff0000>Next\u2028line</gradient:#0000ff>", "<gradient:#ff0000|\u0085>Text</gradient:#0000ff>",
+            // <font:name>text</font>
+            "<font:minecraft:uniform>Text</font>", "Before <font:uniform>&aText</font> after", "<font:>Empty name</font>",
+            "<font:a>One</font><font:b>Two</font>", "<font:a><font:b>Nested</font></font>", "<font:uniform>Unclosed",
+            "<font:uniform Unclosed name</font>", "<font:a>Line\nbreak</font>", "<font:a\n>Name break</font>",
+            "<font:a>Carriage\rreturn</font>", "<font:a>Next\u2028line</font>", "<font:a>Next\u0085line</font>",
+            "<font:a>Break\n</font> <font:b>Same line</font>", "<font:a>x\n<font:b>y</font>",
+            "<font:a><#ff0000>Gradient</#0000ff></font>", "<font:a>#ff0000|lLegacy hex</font>", "<font:a>&x&f&f&0&0&0&0Bukkit</font>"
+    );
+
+    /** Fragments random inputs are assembled from */
+    private static final String[] FRAGMENTS = {
+            "<#", "</#", "<$#", "{#", "#<", "<gradient:#", "</gradient:#", ">", "}", ">}", "<}", "<>}", "<", "{",
+            "|", "|l", "|z", "&x", EnumChatFormat.COLOR_CHAR + "x", "&", EnumChatFormat.COLOR_CHAR + "", "&l", "%", "%p%",
+            "\n", "\r", "\u2028", "\u0085", " ", "Text", "a", "x", "ff00AA", "123abc", "00ff0", "00ff0g", "&f&f&0&0&A&a",
+            "<font:", "</font>", "uniform", "#"
+    };
+
+    /**
+     * Returns all hand-written inputs followed by given amount of random inputs.
+     *
+     * @param   random
+     *          Random for generating inputs
+     * @param   randomInputs
+     *          Amount of random inputs
+     * @return  Inputs for comparing implementations
+     */
+    @NotNull
+    public static List<String> create(@NotNull Random random, int randomInputs) {
+        List<String> corpus = new ArrayList<>(EDGE_CASES);
+        for (int i = 0; i < randomInputs; i++) {
+            StringBuilder sb = new StringBuilder();
+            int fragments = 1 + random.nextInt(20);
+            for (int j = 0; j < fragments; j++) {
+                sb.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            corpus.add(sb.toString());
+        }
+        return corpus;
+    }
+}
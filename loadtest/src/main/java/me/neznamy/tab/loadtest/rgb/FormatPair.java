@@ -0,0 +1,65 @@
+package me.neznamy.tab.loadtest.rgb;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.chat.rgb.format.*;
+import me.neznamy.tab.shared.chat.rgb.gradient.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Previous regex-based implementation of an RGB format or gradient paired
+ * with the current scanner replacing it. Both must produce the same output.
+ */
+@Getter
+@RequiredArgsConstructor
+public class FormatPair {
+
+    /** Name of the format for the report */
+    @NotNull private final String name;
+
+    /** Previous regex-based implementation */
+    @NotNull private final UnaryOperator<String> regex;
+
+    /** Current scanner */
+    @NotNull private final UnaryOperator<String> scanner;
+
+    /**
+     * Returns pairs of all formats and gradients whose regex was replaced by a scanner.
+     * Gradients are paired twice, with placeholders ignored and not ignored. The last pair
+     * compares the whole conversion of colored text into components, including fonts.
+     *
+     * @return  All pairs of regex and scanner implementations
+     */
+    @NotNull
+    public static List<FormatPair> all() {
+        List<FormatPair> pairs = new ArrayList<>();
+        pairs.add(format("<#RRGGBB>", new RegexHexFormat("<#", "<#[0-9a-fA-F]{6}>"), new KyoriFormat()));
+        pairs.add(format("#<RRGGBB>", new RegexHexFormat("#<", "#<[0-9a-fA-F]{6}>"), new HtmlFormat()));
+        pairs.add(format("{#RRGGBB}", new RegexHexFormat("{#", "\\{#[0-9a-fA-F]{6}}"), new CMIFormat()));
+        pairs.add(format("&x&R&R&G&G&B&B", new RegexBukkitFormat(), new BukkitFormat()));
+        gradient(pairs, "<#RRGGBB>text</#RRGGBB>", RegexGradient.hexTags(), new CommonGradient("<#", ">", "</#", ">"));
+        gradient(pairs, "<$#RRGGBB>text<$#RRGGBB>", RegexGradient.dollarTags(), new CommonGradient("<$#", ">", "<$#", ">"));
+        gradient(pairs, "{#RRGGBB>}text{#RRGGBB<}", new RegexCMIGradient(), new CMIGradient());
+        gradient(pairs, "<gradient:#RRGGBB>", new RegexNexEngineGradient(), new NexEngineGradient());
+        RegexComponents components = new RegexComponents();
+        pairs.add(new FormatPair("fromColoredText (end to end)", text -> RegexComponents.describe(components.fromColoredText(text)),
+                text -> RegexComponents.describe(TabComponent.fromColoredText(text))));
+        return pairs;
+    }
+
+    @NotNull
+    private static FormatPair format(@NotNull String name, @NotNull RGBFormatter regex, @NotNull RGBFormatter scanner) {
+        return new FormatPair(name, regex::reformat, scanner::reformat);
+    }
+
+    private static void gradient(@NotNull List<FormatPair> pairs, @NotNull String name,
+                                 @NotNull GradientPattern regex, @NotNull GradientPattern scanner) {
+        pairs.add(new FormatPair(name, text -> regex.applyPattern(text, false), text -> scanner.applyPattern(text, false)));
+        pairs.add(new FormatPair(name + " (ignore %)", text -> regex.applyPattern(text, true), text -> scanner.applyPattern(text, true)));
+    }
+}
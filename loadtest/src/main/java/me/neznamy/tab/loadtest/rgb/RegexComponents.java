@@ -0,0 +1,237 @@
+package me.neznamy.tab.loadtest.rgb;
+
+import me.neznamy.tab.shared.chat.ChatModifier;
+import me.neznamy.tab.shared.chat.EnumChatFormat;
+import me.neznamy.tab.shared.chat.SimpleComponent;
+import me.neznamy.tab.shared.chat.StructuredComponent;
+import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.chat.TextColor;
+import me.neznamy.tab.shared.chat.rgb.format.MiniMessageFormat;
+import me.neznamy.tab.shared.chat.rgb.format.RGBFormatter;
+import me.neznamy.tab.shared.chat.rgb.format.UnnamedFormat1;
+import me.neznamy.tab.shared.chat.rgb.gradient.GradientPattern;
+import me.neznamy.tab.shared.util.ReflectionUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Previous implementation of {@link TabComponent#fromColoredText(String)}, kept as reference
+ * for comparing output of the current one end to end. Fonts are located using a regex and
+ * all RGB formats and gradients are applied using their regex implementations in the same
+ * order as before, without skipping formats which cannot match. Components are compared
+ * using {@link #describe(TabComponent)}.
+ */
+public class RegexComponents {
+
+    /** Pattern for detecting fonts */
+    private static final Pattern fontPattern = Pattern.compile("<font:(.*?)>(.*?)</font>");
+
+    /** RGB formatters in the order they were applied */
+    private final List<RGBFormatter> formats = new ArrayList<>();
+
+    /** Gradient patterns in the order they were applied */
+    private final List<GradientPattern> gradients = new ArrayList<>();
+
+    /**
+     * Constructs new instance with all formats and gradients.
+     */
+    public RegexComponents() {
+        if (ReflectionUtils.classExists("net.kyori.adventure.text.minimessage.MiniMessage") &&
+                ReflectionUtils.classExists("net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer")) {
+            formats.add(new MiniMessageFormat());
+        }
+        formats.add(new RegexBukkitFormat());
+        formats.add(new RegexHexFormat("{#", "\\{#[0-9a-fA-F]{6}}"));
+        formats.add(new UnnamedFormat1());
+        formats.add(new RegexHexFormat("#<", "#<[0-9a-fA-F]{6}>"));
+        formats.add(new RegexHexFormat("<#", "<#[0-9a-fA-F]{6}>"));
+        gradients.add(new RegexCMIGradient());
+        gradients.add(RegexGradient.hexTags());
+        gradients.add(RegexGradient.dollarTags());
+        gradients.add(new RegexNexEngineGradient());
+    }
+
+    /**
+     * Returns organized component from colored text
+     *
+     * @param   originalText
+     *          text to convert
+     * @return  organized component from colored text
+     */
+    @NotNull
+    public TabComponent fromColoredText(@NotNull String originalText) {
+        String remainingText = originalText;
+        List<StructuredComponent> components = new ArrayList<>();
+        while (!remainingText.isEmpty()) {
+            Matcher m = fontPattern.matcher(remainingText);
+            if (m.find()) {
+                if (m.start() > 0) {
+                    // Something is before the text with font, process normally
+                    components.addAll(toComponentArray(remainingText.substring(0, m.start()), null));
+                }
+                // Process text with font
+                String match = m.group();
+                components.addAll(toComponentArray(
+                        match.substring(match.indexOf('>')+1, match.length()-7),
+                        match.substring(6, match.indexOf('>'))
+                ));
+                // Prepare the rest for next loop
+                remainingText = remainingText.substring(m.start() + match.length());
+            } else {
+                components.addAll(toComponentArray(remainingText, null));
+                break;
+            }
+        }
+        if (components.isEmpty()) {
+            return new SimpleComponent("");
+        } else {
+            return new StructuredComponent("", components);
+        }
+    }
+
+    @NotNull
+    private String applyFormats(@NotNull String text) {
+        String replaced = text;
+        for (GradientPattern pattern : gradients) {
+            replaced = pattern.applyPattern(replaced, false);
+        }
+        for (RGBFormatter formatter : formats) {
+            replaced = formatter.reformat(replaced);
+        }
+        return replaced;
+    }
+
+    @NotNull
+    private List<StructuredComponent> toComponentArray(@NotNull String originalText, @Nullable String font) {
+        String text = applyFormats(EnumChatFormat.color(originalText));
+        List<StructuredComponent> components = new ArrayList<>();
+        StringBuilder builder = new StringBuilder();
+        StructuredComponent component = new StructuredComponent();
+        component.getModifier().setFont(font);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == EnumChatFormat.COLOR_CHAR) {
+                i++;
+                if (i >= text.length()) {
+                    break;
+                }
+                c = text.charAt(i);
+                if ((c >= 'A') && (c <= 'Z')) {
+                    c = (char)(c + ' ');
+                }
+                EnumChatFormat format = EnumChatFormat.getByChar(c);
+                if (format != null) {
+                    if (builder.length() > 0) {
+                        component.setText(builder.toString());
+                        components.add(component);
+                        component = new StructuredComponent(component);
+                        component.setText("");
+                        component.getModifier().setFont(font);
+                        builder = new StringBuilder();
+                    }
+                    switch (format) {
+                        case BOLD:
+                            component.getModifier().setBold(true);
+                            break;
+                        case ITALIC:
+                            component.getModifier().setItalic(true);
+                            break;
+                        case UNDERLINE:
+                            component.getModifier().setUnderlined(true);
+                            break;
+                        case STRIKETHROUGH:
+                            component.getModifier().setStrikethrough(true);
+                            break;
+                        case OBFUSCATED:
+                            component.getModifier().setObfuscated(true);
+                            break;
+                        case RESET:
+                            component = new StructuredComponent();
+                            component.getModifier().setColor(TextColor.legacy(EnumChatFormat.WHITE));
+                            component.getModifier().setFont(font);
+                            break;
+                        default:
+                            component = new StructuredComponent();
+                            component.getModifier().setColor(TextColor.legacy(format));
+                            component.getModifier().setFont(font);
+                            break;
+                    }
+                }
+            } else if (c == '#' && text.length() > i+6) {
+                String hex = text.substring(i+1, i+7);
+                if (isHexCode(hex)) {
+                    TextColor color;
+                    EnumChatFormat code = text.length() - i >= 9 ? EnumChatFormat.getByChar(text.charAt(i+8)) : null;
+                    if (code != null && text.charAt(i+7) == '|') {
+                        color = new TextColor(hex, code);
+                        i += 8;
+                    } else {
+                        color = new TextColor(hex);
+                        i += 6;
+                    }
+                    if (builder.length() > 0) {
+                        component.setText(builder.toString());
+                        components.add(component);
+                        builder = new StringBuilder();
+                    }
+                    component = new StructuredComponent();
+                    component.getModifier().setColor(color);
+                    component.getModifier().setFont(font);
+                } else {
+                    builder.append('#');
+                }
+            } else {
+                builder.append(c);
+            }
+        }
+        component.setText(builder.toString());
+        components.add(component);
+        return components;
+    }
+
+    private boolean isHexCode(@NotNull String string) {
+        for (int i=0; i<string.length(); i++) {
+            if ("0123456789AaBbCcDdEeFf".indexOf(string.charAt(i)) == -1) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns text describing text, colors, magic codes and fonts of the component
+     * and all of its children, so components can be compared as text.
+     *
+     * @param   component
+     *          Component to describe
+     * @return  Description of the component
+     */
+    @NotNull
+    public static String describe(@NotNull TabComponent component) {
+        if (!(component instanceof StructuredComponent)) return "\"" + component.toLegacyText() + "\"";
+        StringBuilder builder = new StringBuilder();
+        describe((StructuredComponent) component, builder);
+        return builder.toString();
+    }
+
+    private static void describe(@NotNull StructuredComponent component, @NotNull StringBuilder builder) {
+        ChatModifier modifier = component.getModifier();
+        builder.append('[');
+        TextColor color = modifier.getColor();
+        if (color != null) builder.append('#').append(color.getHexCode()).append('|').append(color.getLegacyColor().getCharacter()).append(' ');
+        if (modifier.isBold()) builder.append("bold ");
+        if (modifier.isItalic()) builder.append("italic ");
+        if (modifier.isUnderlined()) builder.append("underlined ");
+        if (modifier.isStrikethrough()) builder.append("strikethrough ");
+        if (modifier.isObfuscated()) builder.append("obfuscated ");
+        if (modifier.getFont() != null) builder.append("font:").append(modifier.getFont()).append(' ');
+        builder.append('"').append(component.getText()).append('"');
+        for (StructuredComponent child : component.getExtra()) {
+            describe(child, builder);
+        }
+        builder.append(']');
+    }
+}
@@ -0,0 +1,80 @@
+package me.neznamy.tab.loadtest.rgb;
+
+import lombok.AllArgsConstructor;
+import me.neznamy.tab.shared.chat.EnumChatFormat;
+import me.neznamy.tab.shared.chat.TextColor;
+import me.neznamy.tab.shared.chat.rgb.gradient.GradientPattern;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Previous regex-based implementation of gradients in format
+ * {@code <prefix>RRGGBB[|L]<suffix>text<prefix>RRGGBB<suffix>}, kept as reference
+ * for comparing output of the current scanner. Gradient colors are computed by the same
+ * {@link GradientPattern#asGradient(TextColor, String, TextColor)}, so only scanning differs.
+ */
+@AllArgsConstructor
+public class RegexGradient implements GradientPattern {
+
+    @NotNull private final Pattern pattern;
+    @NotNull private final Pattern legacyPattern;
+    @NotNull private final String containCheck;
+    private final int legacyCharPosition;
+    private final int startColorStart;
+    private final int messageStart;
+    private final int endColorStartSub;
+
+    /**
+     * Returns gradient in format {@code <#RRGGBB>text</#RRGGBB>}.
+     *
+     * @return  Gradient in format {@code <#RRGGBB>text</#RRGGBB>}
+     */
+    @NotNull
+    public static RegexGradient hexTags() {
+        return new RegexGradient(Pattern.compile("<#[0-9a-fA-F]{6}>[^<]*</#[0-9a-fA-F]{6}>"),
+                Pattern.compile("<#[0-9a-fA-F]{6}\\|.>[^<]*</#[0-9a-fA-F]{6}>"),
+                "<#", 9, 2, 9, 7);
+    }
+
+    /**
+     * Returns gradient in format {@code <$#RRGGBB>text<$#RRGGBB>}.
+     *
+     * @return  Gradient in format {@code <$#RRGGBB>text<$#RRGGBB>}
+     */
+    @NotNull
+    public static RegexGradient dollarTags() {
+        return new RegexGradient(Pattern.compile("<\\$#[0-9a-fA-F]{6}>[^<]*<\\$#[0-9a-fA-F]{6}>"),
+                Pattern.compile("<\\$#[0-9a-fA-F]{6}\\|.>[^<]*<\\$#[0-9a-fA-F]{6}>"),
+                "<$", 10, 3, 10, 7);
+    }
+
+    @Override
+    public String applyPattern(@NotNull String text, boolean ignorePlaceholders) {
+        if (!text.contains(containCheck)) return text;
+        String replaced = text;
+        Matcher m = legacyPattern.matcher(replaced);
+        while (m.find()) {
+            String format = m.group();
+            EnumChatFormat legacyColor = EnumChatFormat.getByChar(format.charAt(legacyCharPosition));
+            if ((ignorePlaceholders && format.contains("%")) || legacyColor == null) continue;
+            TextColor start = new TextColor(format.substring(startColorStart, startColorStart+6), legacyColor);
+            String message = format.substring(messageStart+2, format.length()-10);
+            TextColor end = new TextColor(format.substring(format.length()-endColorStartSub, format.length()-endColorStartSub+6));
+            String applied = asGradient(start, message, end);
+            replaced = replaced.replace(format, applied);
+        }
+        m = pattern.matcher(replaced);
+        while (m.find()) {
+            String format = m.group();
+            if (ignorePlaceholders && format.contains("%")) continue;
+            TextColor start = new TextColor(format.substring(startColorStart, startColorStart+6));
+            String message = format.substring(messageStart, format.length()-10);
+            TextColor end = new TextColor(format.substring(format.length()-endColorStartSub, format.length()-endColorStartSub+6));
+            String applied = asGradient(start, message, end);
+            replaced = replaced.replace(format, applied);
+        }
+        return replaced;
+    }
+}
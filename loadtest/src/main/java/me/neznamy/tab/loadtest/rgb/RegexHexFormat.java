@@ -0,0 +1,47 @@
+package me.neznamy.tab.loadtest.rgb;
+
+import me.neznamy.tab.shared.chat.rgb.format.RGBFormatter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Previous regex-based implementation of hex formats wrapped in a 2-character prefix
+ * and a suffix (&lt;#RRGGBB&gt;, #&lt;RRGGBB&gt;, {#RRGGBB}), kept as reference
+ * for comparing output of the current scanners.
+ */
+public class RegexHexFormat implements RGBFormatter {
+
+    /** Text which must be present for the pattern to match */
+    @NotNull private final String containCheck;
+
+    /** Pattern of the whole code */
+    @NotNull private final Pattern pattern;
+
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   containCheck
+     *          Text which must be present for the pattern to match
+     * @param   pattern
+     *          Pattern of the whole code
+     */
+    public RegexHexFormat(@NotNull String containCheck, @NotNull String pattern) {
+        this.containCheck = containCheck;
+        this.pattern = Pattern.compile(pattern);
+    }
+
+    @Override
+    public @NotNull String reformat(@NotNull String text) {
+        if (!text.contains(containCheck)) return text;
+        String replaced = text;
+        Matcher m = pattern.matcher(replaced);
+        while (m.find()) {
+            String hexCode = m.group();
+            String fixed = hexCode.substring(2, 8);
+            replaced = replaced.replace(hexCode, "#" + fixed);
+        }
+        return replaced;
+    }
+}
@@ -0,0 +1,160 @@
+package me.neznamy.tab.loadtest.scenario;
+
+import lombok.RequiredArgsConstructor;
+import me.neznamy.tab.loadtest.LoadTest;
+import me.neznamy.tab.loadtest.permission.StandInPermissionPlugin;
+import me.neznamy.tab.loadtest.platform.SimulatedClient;
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scenario where a stand-in permission plugin changes groups of random players for the duration
+ * of the test. With events, groups are detected like with LuckPerms, where only players whose
+ * permissions changed are checked. Without events, groups are polled like with Vault. The scenario
+ * fails if any change is not detected, if subscription to events is not closed on unload or if
+ * groups are polled despite events being available. Latency is the delay between a group change
+ * and the plugin using the new group, checked every {@link #CHANGE_INTERVAL} milliseconds.
+ */
+public class GroupChanges extends Scenario {
+
+    /** Groups players are moved between, some of them have properties in default groups.yml */
+    private static final String[] GROUPS = {StandInPermissionPlugin.DEFAULT_GROUP, "Player", "example_group", "Owner"};
+
+    /** Percentage of players whose group changes every interval */
+    private static final int CHANGE_PERCENT = 2;
+
+    /** Interval between group changes in milliseconds */
+    private static final int CHANGE_INTERVAL = 100;
+
+    /** How long to wait for detection of changes after the test in seconds */
+    private static final int DETECTION_TIMEOUT = 30;
+
+    /** Whether the permission plugin fires events or is polled */
+    private final boolean events;
+
+    /** Changes which were not detected yet by player UUID */
+    private final Map<UUID, Change> pending = new ConcurrentHashMap<>();
+
+    /** Permission plugin used during the scenario */
+    private StandInPermissionPlugin plugin;
+
+    /**
+     * Constructs new instance.
+     *
+     * @param   events
+     *          {@code true} if permission plugin should notify about group changes like LuckPerms,
+     *          {@code false} if groups should be polled like with Vault
+     */
+    public GroupChanges(boolean events) {
+        super(events ? "groups-events" : "groups-polling", CHANGE_PERCENT + "% of players change group every " + CHANGE_INTERVAL +
+                "ms, detected " + (events ? "through permission plugin events" : "by polling the permission plugin"));
+        this.events = events;
+    }
+
+    @Override
+    public void prepare(@NotNull LoadTest test) throws InterruptedException {
+        super.prepare(test);
+        plugin = new StandInPermissionPlugin(events ? "LuckPerms (stand-in)" : "Vault (stand-in)", events);
+        test.getPlatform().setPermissionPlugin(plugin);
+        reload(test);
+        plugin.resetQueries();
+    }
+
+    @Override
+    public int run(@NotNull LoadTest test, @NotNull LatencyRecorder latency) throws InterruptedException {
+        int changes = 0;
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(test.getDurationSeconds());
+        while (System.nanoTime() < end) {
+            for (SimulatedClient client : test.getOnlineClients()) {
+                if (test.getRandom().nextInt(100) >= CHANGE_PERCENT) continue;
+                int current = Arrays.asList(GROUPS).indexOf(plugin.getGroup(client.getUniqueId()));
+                String group = GROUPS[(current + 1 + test.getRandom().nextInt(GROUPS.length - 1)) % GROUPS.length];
+                pending.put(client.getUniqueId(), new Change(group, System.nanoTime()));
+                plugin.setGroup(client.getUniqueId(), group);
+                changes++;
+            }
+            checkPending(latency);
+            Thread.sleep(CHANGE_INTERVAL);
+        }
+        long timeout = System.nanoTime() + TimeUnit.SECONDS.toNanos(DETECTION_TIMEOUT);
+        while (!pending.isEmpty() && System.nanoTime() < timeout) {
+            checkPending(latency);
+            Thread.sleep(CHANGE_INTERVAL);
+        }
+        if (!pending.isEmpty()) {
+            throw new IllegalStateException(pending.size() + " of " + changes + " group changes were not detected within " +
+                    DETECTION_TIMEOUT + " seconds using " + plugin.getName());
+        }
+        long queries = plugin.resetQueries();
+        System.out.printf("Group queries to %s: %d for %d changes%n", plugin.getName(), queries, changes);
+        if (events && queries > changes) {
+            throw new IllegalStateException(plugin.getName() + " was queried " + queries + " times for " + changes +
+                    " changes, groups should only be checked on events");
+        }
+        return changes;
+    }
+
+    @Override
+    public void cleanup(@NotNull LoadTest test) throws InterruptedException {
+        test.getPlatform().setPermissionPlugin(null);
+        reload(test);
+        plugin.shutdown();
+        if (plugin.getSubscriptionCount() != 0) {
+            throw new IllegalStateException("Subscription to group changes of " + plugin.getName() + " was not closed on unload");
+        }
+    }
+
+    /**
+     * Fully reloads the plugin, so permission plugin is detected again.
+     *
+     * @param   test
+     *          Load test running this scenario
+     * @throws  InterruptedException
+     *          If interrupted while waiting
+     */
+    private void reload(@NotNull LoadTest test) throws InterruptedException {
+        TAB.getInstance().unload();
+        TAB.getInstance().load();
+        test.enableCpuTracking();
+        test.awaitProcessing();
+    }
+
+    /**
+     * Submits a task to the processing thread, which records latency of all changes
+     * which were detected and removes them from pending changes.
+     *
+     * @param   latency
+     *          Recorder for detection latency
+     */
+    private void checkPending(@NotNull LatencyRecorder latency) {
+        TAB.getInstance().getCPUManager().runTask(() -> {
+            long now = System.nanoTime();
+            for (Map.Entry<UUID, Change> entry : pending.entrySet()) {
+                TabPlayer player = TAB.getInstance().getPlayer(entry.getKey());
+                if (player == null || !player.getGroup().equals(entry.getValue().group)) continue;
+                // Player might have been changed again in the meantime
+                if (pending.remove(entry.getKey(), entry.getValue())) latency.record(now - entry.getValue().time);
+            }
+        });
+    }
+
+    /**
+     * Group change waiting for detection.
+     */
+    @RequiredArgsConstructor
+    private static class Change {
+
+        /** New group of the player */
+        @NotNull private final String group;
+
+        /** Time of the change as returned by {@link System#nanoTime()} */
+        private final long time;
+    }
+}
@@ -0,0 +1,36 @@
+package me.neznamy.tab.loadtest.scenario;
+
+import me.neznamy.tab.loadtest.LoadTest;
+import me.neznamy.tab.loadtest.platform.SimulatedClient;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Scenario where all players connect at the same time. Latency is the
+ * time between connecting and the join being fully processed.
+ */
+public class JoinStorm extends Scenario {
+
+    /**
+     * Constructs new instance.
+     */
+    public JoinStorm() {
+        super("join", "All players connect at the same time");
+    }
+
+    @Override
+    public void prepare(@NotNull LoadTest test) throws InterruptedException {
+        for (SimulatedClient client : test.getOnlineClients()) {
+            test.getPlatform().disconnect(client);
+        }
+        test.awaitProcessing();
+    }
+
+    @Override
+    public int run(@NotNull LoadTest test, @NotNull LatencyRecorder latency) {
+        for (int i = 0; i < test.getPlayerCount(); i++) {
+            SimulatedClient client = test.createClient(i);
+            test.measure(() -> test.getPlatform().connect(client), latency);
+        }
+        return test.getPlayerCount();
+    }
+}
@@ -0,0 +1,61 @@
+package me.neznamy.tab.loadtest.scenario;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Recorder of operation latencies for calculating percentiles.
+ * Samples may be recorded from any thread.
+ */
+public class LatencyRecorder {
+
+    /** Recorded latencies in nanoseconds */
+    private long[] samples = new long[1024];
+
+    /** Amount of recorded latencies */
+    private int size;
+
+    /**
+     * Records latency of an operation.
+     *
+     * @param   nanoseconds
+     *          Latency in nanoseconds
+     */
+    public synchronized void record(long nanoseconds) {
+        if (size == samples.length) samples = Arrays.copyOf(samples, size * 2);
+        samples[size++] = nanoseconds;
+    }
+
+    /**
+     * Returns amount of recorded latencies.
+     *
+     * @return  Amount of recorded latencies
+     */
+    public synchronized int getCount() {
+        return size;
+    }
+
+    /**
+     * Returns latency percentiles in milliseconds formatted for the report.
+     *
+     * @return  Formatted latency percentiles
+     */
+    @NotNull
+    public synchronized String format() {
+        if (size == 0) return "no samples";
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return String.format("p50 %.2f ms, p95 %.2f ms, p99 %.2f ms, max %.2f ms (%d samples)",
+                millis(percentile(sorted, 0.5)), millis(percentile(sorted, 0.95)),
+                millis(percentile(sorted, 0.99)), millis(sorted[sorted.length - 1]), size);
+    }
+
+    private long percentile(@NotNull long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+    }
+
+    private double millis(long nanoseconds) {
+        return nanoseconds / 1_000_000d;
+    }
+}
@@ -0,0 +1,94 @@
+package me.neznamy.tab.loadtest.scenario;
+
+import me.neznamy.tab.api.TabAPI;
+import me.neznamy.tab.api.TabPlayer;
+import me.neznamy.tab.api.nametag.NameTagManager;
+import me.neznamy.tab.api.tablist.HeaderFooterManager;
+import me.neznamy.tab.api.tablist.TabListFormatManager;
+import me.neznamy.tab.loadtest.LoadTest;
+import me.neznamy.tab.shared.TAB;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scenario where placeholders used in tablist names, nametags and header of every player
+ * change on every refresh for the duration of the test. Latency is the delay of tasks
+ * submitted to the processing thread, sampled every {@link #PROBE_INTERVAL} milliseconds.
+ */
+public class PlaceholderChurn extends Scenario {
+
+    /** Player placeholder changing value on every refresh */
+    private static final String PLAYER_PLACEHOLDER = "%loadtest_player%";
+
+    /** Server placeholder changing value on every refresh */
+    private static final String SERVER_PLACEHOLDER = "%loadtest_server%";
+
+    /** Refresh interval of placeholders in milliseconds */
+    private static final int REFRESH = 50;
+
+    /** How often processing thread delay is sampled in milliseconds */
+    private static final int PROBE_INTERVAL = 10;
+
+    /** Amount of placeholder values retrieved */
+    private final AtomicInteger changes = new AtomicInteger();
+
+    /**
+     * Constructs new instance.
+     */
+    public PlaceholderChurn() {
+        super("placeholders", "Placeholders in tablist names, nametags and header change every " + REFRESH + "ms");
+    }
+
+    @Override
+    public void prepare(@NotNull LoadTest test) throws InterruptedException {
+        super.prepare(test);
+        TabAPI api = TabAPI.getInstance();
+        api.getPlaceholderManager().registerPlayerPlaceholder(PLAYER_PLACEHOLDER, REFRESH, p -> changes.incrementAndGet());
+        api.getPlaceholderManager().registerServerPlaceholder(SERVER_PLACEHOLDER, REFRESH, changes::incrementAndGet);
+        TAB.getInstance().getCPUManager().runTask(() -> apply(PLAYER_PLACEHOLDER, SERVER_PLACEHOLDER));
+        test.awaitProcessing();
+    }
+
+    @Override
+    public int run(@NotNull LoadTest test, @NotNull LatencyRecorder latency) throws InterruptedException {
+        int start = changes.get();
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(test.getDurationSeconds());
+        while (System.nanoTime() < end) {
+            test.measure(() -> {}, latency);
+            Thread.sleep(PROBE_INTERVAL);
+        }
+        return changes.get() - start;
+    }
+
+    @Override
+    public void cleanup(@NotNull LoadTest test) throws InterruptedException {
+        TAB.getInstance().getCPUManager().runTask(() -> apply(null, null));
+        test.awaitProcessing();
+        TabAPI.getInstance().getPlaceholderManager().unregisterPlaceholder(PLAYER_PLACEHOLDER);
+        TabAPI.getInstance().getPlaceholderManager().unregisterPlaceholder(SERVER_PLACEHOLDER);
+    }
+
+    /**
+     * Sets tablist suffix, nametag suffix and header of all players using API.
+     * Features which are disabled are skipped. Must be called on processing thread.
+     *
+     * @param   playerPlaceholder
+     *          Placeholder to use in suffixes or {@code null} to reset them
+     * @param   serverPlaceholder
+     *          Placeholder to use in header or {@code null} to reset it
+     */
+    private void apply(@Nullable String playerPlaceholder, @Nullable String serverPlaceholder) {
+        TabAPI api = TabAPI.getInstance();
+        TabListFormatManager tablist = api.getTabListFormatManager();
+        NameTagManager nametags = api.getNameTagManager();
+        HeaderFooterManager headerFooter = api.getHeaderFooterManager();
+        for (TabPlayer player : api.getOnlinePlayers()) {
+            if (tablist != null) tablist.setSuffix(player, playerPlaceholder == null ? null : " &7" + playerPlaceholder);
+            if (nametags != null) nametags.setSuffix(player, playerPlaceholder == null ? null : " &7" + playerPlaceholder);
+            if (headerFooter != null) headerFooter.setHeader(player, serverPlaceholder == null ? null : "&7Tick " + serverPlaceholder);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package me.neznamy.tab.loadtest.scenario;
+
+import me.neznamy.tab.loadtest.LoadTest;
+import me.neznamy.tab.loadtest.platform.SimulatedClient;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scenario where a part of players reconnects every second for the duration of the test,
+ * while a mirrored remote proxy connected through the in-memory broker sends the same traffic
+ * back. Latency is the time between reconnecting and the join being fully processed.
+ */
+public class RedisTraffic extends Scenario {
+
+    /** Percentage of players reconnecting every second */
+    private static final int RECONNECT_PERCENT = 10;
+
+    /**
+     * Constructs new instance.
+     */
+    public RedisTraffic() {
+        super("redis", RECONNECT_PERCENT + "% of players reconnect every second with a mirrored proxy connected through redis");
+    }
+
+    @Override
+    public void prepare(@NotNull LoadTest test) throws InterruptedException {
+        if (test.getBroker() == null) throw new IllegalStateException("Redis support is not enabled");
+        super.prepare(test);
+    }
+
+    @Override
+    public int run(@NotNull LoadTest test, @NotNull LatencyRecorder latency) throws InterruptedException {
+        int reconnects = 0;
+        for (int second = 0; second < test.getDurationSeconds(); second++) {
+            long nextSecond = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+            List<SimulatedClient> clients = test.getOnlineClients();
+            for (int i = 0; i < clients.size() * RECONNECT_PERCENT / 100; i++) {
+                SimulatedClient client = clients.get(test.getRandom().nextInt(clients.size()));
+                test.measure(() -> {
+                    test.getPlatform().disconnect(client);
+                    test.getPlatform().connect(client);
+                }, latency);
+                reconnects++;
+            }
+            long remaining = nextSecond - System.nanoTime();
+            if (remaining > 0) TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+        return reconnects;
+    }
+}
@@ -0,0 +1,46 @@
+package me.neznamy.tab.loadtest.scenario;
+
+import me.neznamy.tab.loadtest.LoadTest;
+import me.neznamy.tab.shared.TAB;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Scenario reloading the plugin like {@code /tab reload} does. Configuration is not changed,
+ * so first reloads are applied without restarting features, then the plugin is fully reloaded.
+ * Latency is the duration of a reload. CPU usage only covers time after the last full reload,
+ * because it creates a new CPU manager.
+ */
+public class Reload extends Scenario {
+
+    /** Amount of reloads without configuration changes */
+    private static final int RELOADS = 5;
+
+    /** Amount of full reloads */
+    private static final int FULL_RELOADS = 3;
+
+    /**
+     * Constructs new instance.
+     */
+    public Reload() {
+        super("reload", RELOADS + " reloads without configuration changes and " + FULL_RELOADS + " full reloads");
+    }
+
+    @Override
+    public int run(@NotNull LoadTest test, @NotNull LatencyRecorder latency) throws InterruptedException {
+        for (int i = 0; i < RELOADS; i++) {
+            long time = System.nanoTime();
+            TAB.getInstance().reload();
+            latency.record(System.nanoTime() - time);
+            test.enableCpuTracking(); // In case reload was not applied without restarting
+        }
+        for (int i = 0; i < FULL_RELOADS; i++) {
+            long time = System.nanoTime();
+            TAB.getInstance().unload();
+            TAB.getInstance().load();
+            latency.record(System.nanoTime() - time);
+            test.enableCpuTracking();
+        }
+        test.awaitProcessing();
+        return RELOADS + FULL_RELOADS;
+    }
+}
@@ -0,0 +1,146 @@
+package me.neznamy.tab.loadtest.scenario;
+
+import me.neznamy.tab.loadtest.LoadTest;
+import me.neznamy.tab.loadtest.rgb.FormatCorpus;
+import me.neznamy.tab.loadtest.rgb.FormatPair;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Scenario comparing RGB format and gradient scanners with the regex implementations they
+ * replaced. First, every input of {@link FormatCorpus} is passed through both implementations
+ * of each format and through both conversions of colored text into components, and the
+ * scenario fails if any output differs. Then, both implementations are
+ * benchmarked on the corpus for the duration of the test and their speed is printed. Latency
+ * is the time of one pass of a scanner over the whole corpus.
+ */
+public class RgbFormats extends Scenario {
+
+    /** Amount of randomly generated inputs in the corpus */
+    private static final int RANDOM_INPUTS = 10000;
+
+    /** Passes over the corpus with each implementation before measuring */
+    private static final int WARMUP_PASSES = 20;
+
+    /** Maximum amount of differences printed in the failure */
+    private static final int MAX_REPORTED_DIFFERENCES = 10;
+
+    /** Inputs used for comparison and benchmark */
+    private List<String> corpus;
+
+    /** Total length of outputs, so benchmarked calls cannot be optimized away */
+    private long outputLength;
+
+    /**
+     * Constructs new instance.
+     */
+    public RgbFormats() {
+        super("rgb", "RGB format and gradient scanners compared with previous regex implementations");
+    }
+
+    @Override
+    public void prepare(@NotNull LoadTest test) {
+        // Formats do not need any players
+        corpus = FormatCorpus.create(test.getRandom(), RANDOM_INPUTS);
+    }
+
+    @Override
+    public int run(@NotNull LoadTest test, @NotNull LatencyRecorder latency) {
+        List<FormatPair> pairs = FormatPair.all();
+        compare(pairs);
+        long timePerImplementation = TimeUnit.SECONDS.toNanos(test.getDurationSeconds()) / pairs.size() / 2;
+        int operations = 0;
+        System.out.printf("Format benchmark on %d inputs:%n", corpus.size());
+        for (FormatPair pair : pairs) {
+            for (int i = 0; i < WARMUP_PASSES; i++) {
+                pass(pair.getRegex());
+                pass(pair.getScanner());
+            }
+            long[] regex = benchmark(pair.getRegex(), timePerImplementation, null);
+            long[] scanner = benchmark(pair.getScanner(), timePerImplementation, latency);
+            double regexNanos = (double) regex[0] / regex[1] / corpus.size();
+            double scannerNanos = (double) scanner[0] / scanner[1] / corpus.size();
+            System.out.printf("  %-36s regex %8.1f ns, scanner %8.1f ns per input (%.1fx)%n",
+                    pair.getName(), regexNanos, scannerNanos, regexNanos / scannerNanos);
+            operations += scanner[1] * corpus.size();
+        }
+        System.out.println("  Total output length: " + outputLength);
+        return operations;
+    }
+
+    /**
+     * Passes all inputs through both implementations of every format and throws
+     * an exception describing the differences if any output differs.
+     *
+     * @param   pairs
+     *          Implementations to compare
+     */
+    private void compare(@NotNull List<FormatPair> pairs) {
+        List<String> differences = new ArrayList<>();
+        int count = 0;
+        for (FormatPair pair : pairs) {
+            for (String input : corpus) {
+                String expected = pair.getRegex().apply(input);
+                String actual = pair.getScanner().apply(input);
+                if (expected.equals(actual)) continue;
+                count++;
+                if (differences.size() < MAX_REPORTED_DIFFERENCES) {
+                    differences.add(String.format("%s: \"%s\"%n    regex:   \"%s\"%n    scanner: \"%s\"",
+                            pair.getName(), escape(input), escape(expected), escape(actual)));
+                }
+            }
+        }
+        if (count > 0) {
+            throw new IllegalStateException(count + " outputs of scanners differ from regex implementations, first " +
+                    differences.size() + ":" + System.lineSeparator() + "  " + String.join(System.lineSeparator() + "  ", differences));
+        }
+        System.out.printf("Format comparison: %d inputs, %d formats, no differences%n", corpus.size(), pairs.size());
+    }
+
+    /**
+     * Repeatedly passes the corpus through given implementation for given time.
+     *
+     * @param   implementation
+     *          Implementation to benchmark
+     * @param   nanos
+     *          How long to run the benchmark for
+     * @param   latency
+     *          Recorder for duration of each pass or {@code null} if it should not be recorded
+     * @return  Array of total time of all passes in nanoseconds and amount of passes
+     */
+    @NotNull
+    private long[] benchmark(@NotNull UnaryOperator<String> implementation, long nanos, @Nullable LatencyRecorder latency) {
+        long total = 0;
+        long passes = 0;
+        while (total < nanos) {
+            long time = System.nanoTime();
+            pass(implementation);
+            time = System.nanoTime() - time;
+            if (latency != null) latency.record(time);
+            total += time;
+            passes++;
+        }
+        return new long[] {total, passes};
+    }
+
+    private void pass(@NotNull UnaryOperator<String> implementation) {
+        for (String input : corpus) {
+            outputLength += implementation.apply(input).length();
+        }
+    }
+
+    @NotNull
+    private String escape(@NotNull String text) {
+        return text.replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    @Override
+    public void cleanup(@NotNull LoadTest test) {
+        corpus = null;
+    }
+}
@@ -0,0 +1,59 @@
+package me.neznamy.tab.loadtest.scenario;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import me.neznamy.tab.loadtest.LoadTest;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Scripted load test scenario. Only {@link #run(LoadTest, LatencyRecorder)} is measured,
+ * {@link #prepare(LoadTest)} and {@link #cleanup(LoadTest)} are not included in the report.
+ */
+@Getter
+@RequiredArgsConstructor
+public abstract class Scenario {
+
+    /** Name used to select the scenario from command line */
+    @NotNull private final String name;
+
+    /** Description of what the scenario does */
+    @NotNull private final String description;
+
+    /**
+     * Prepares environment for the scenario. By default, connects all players
+     * if they are not connected already.
+     *
+     * @param   test
+     *          Load test running this scenario
+     * @throws  InterruptedException
+     *          If interrupted while waiting
+     */
+    public void prepare(@NotNull LoadTest test) throws InterruptedException {
+        test.connectAll();
+    }
+
+    /**
+     * Runs the scenario and returns amount of performed operations.
+     *
+     * @param   test
+     *          Load test running this scenario
+     * @param   latency
+     *          Recorder for latencies of operations
+     * @return  Amount of performed operations
+     * @throws  InterruptedException
+     *          If interrupted while waiting
+     */
+    public abstract int run(@NotNull LoadTest test, @NotNull LatencyRecorder latency) throws InterruptedException;
+
+    /**
+     * Reverts changes made by the scenario which should not affect following scenarios.
+     *
+     * @param   test
+     *          Load test running this scenario
+     * @throws  InterruptedException
+     *          If interrupted while waiting
+     */
+    public void cleanup(@NotNull LoadTest test) throws InterruptedException {
+        // Nothing to clean up by default
+    }
+}
@@ -0,0 +1,76 @@
+package me.neznamy.tab.loadtest.scenario;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import me.neznamy.tab.shared.cpu.CpuReport;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measured result of a scenario.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ScenarioResult {
+
+    /** Scenario which was run */
+    @NotNull private final Scenario scenario;
+
+    /** Amount of performed operations */
+    private final int operations;
+
+    /** How long the scenario took including processing of all operations */
+    private final long durationNanos;
+
+    /** Latencies of operations */
+    @NotNull private final LatencyRecorder latency;
+
+    /** Amount of sent packets by packet type */
+    @NotNull private final Map<String, Long> packets;
+
+    /** Statistics of redis messages */
+    @NotNull private final Map<String, Long> redis;
+
+    /** CPU usage during the scenario */
+    @NotNull private final CpuReport cpu;
+
+    /**
+     * Prints this result in human-readable form.
+     *
+     * @param   out
+     *          Stream to print to
+     */
+    public void print(@NotNull PrintStream out) {
+        double seconds = durationNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        out.printf("=== %s: %s ===%n", scenario.getName(), scenario.getDescription());
+        out.printf("Operations: %d in %.2f s (%.1f/s)%n", operations, seconds, operations / seconds);
+        out.println("Latency: " + latency.format());
+        long total = packets.values().stream().mapToLong(Long::longValue).sum();
+        out.printf("Packets: %d (%.1f/s)%n", total, total / seconds);
+        packets.forEach((type, count) -> out.printf("  %-36s %10d%n", type, count));
+        redis.forEach((type, count) -> out.printf("  %-36s %10d%n", type, count));
+        out.printf("CPU: %.2f ms features, %.2f ms placeholders%n",
+                millis(cpu.getFeatureUsageTotal()), millis(cpu.getPlaceholderUsageTotal()));
+        cpu.getFeatureUsage().forEach((feature, usage) -> {
+            out.printf("  %-36s %10.2f ms%n", feature, millis(usage.values().stream().mapToDouble(Float::doubleValue).sum()));
+            usage.forEach((type, percent) -> out.printf("    %-34s %10.2f ms%n", type, millis(percent)));
+        });
+        cpu.getPlaceholderUsage().forEach((placeholder, percent) ->
+                out.printf("  %-36s %10.2f ms%n", placeholder, millis(percent)));
+        out.println();
+    }
+
+    /**
+     * Converts usage in % of the measured period to milliseconds.
+     *
+     * @param   percent
+     *          Usage in %
+     * @return  Usage in milliseconds
+     */
+    private double millis(double percent) {
+        return percent * cpu.getPeriodNanos() / 100 / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,124 @@
+package me.neznamy.tab.loadtest.scenario;
+
+import me.neznamy.tab.loadtest.LoadTest;
+import me.neznamy.tab.loadtest.platform.LoadTestPlayer;
+import me.neznamy.tab.loadtest.platform.LoadTestScoreboard;
+import me.neznamy.tab.loadtest.platform.SimulatedClient;
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.chat.EnumChatFormat;
+import me.neznamy.tab.shared.platform.Scoreboard;
+import me.neznamy.tab.shared.platform.Scoreboard.CollisionRule;
+import me.neznamy.tab.shared.platform.Scoreboard.NameVisibility;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scenario sending a sequence of team and objective operations similar to what nametags
+ * and scoreboard features send to new scoreboard instances of online players for the
+ * duration of the test. Every round registers teams, updates their prefixes, displays
+ * a sidebar objective with scores, updates its title and removes everything again, so
+ * it measures the scoreboard state tracking and packet sending of the platform.
+ * Latency is the duration of one round for one player.
+ */
+public class ScoreboardOperations extends Scenario {
+
+    /** Rounds run before measuring to let JIT compile all paths */
+    private static final int WARMUP_ROUNDS = 3;
+
+    /** Amount of teams registered in each round */
+    private static final int TEAMS = 100;
+
+    /** Amount of prefix updates of every team in each round */
+    private static final int TEAM_UPDATES = 10;
+
+    /** Amount of scores in the sidebar objective */
+    private static final int SCORES = 15;
+
+    /** Amount of sidebar title updates in each round */
+    private static final int TITLE_UPDATES = 20;
+
+    /** Name of objective used in the scenario */
+    private static final String OBJECTIVE = "TAB-bench";
+
+    /** Amount of scoreboard operations in one round */
+    private static final int OPERATIONS_PER_ROUND = TEAMS * (TEAM_UPDATES + 2) + 3 + SCORES * 2 + TITLE_UPDATES;
+
+    /**
+     * Constructs new instance.
+     */
+    public ScoreboardOperations() {
+        super("scoreboard", OPERATIONS_PER_ROUND + " team and objective operations per round sent to scoreboards of online players");
+    }
+
+    @Override
+    public int run(@NotNull LoadTest test, @NotNull LatencyRecorder latency) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            for (SimulatedClient client : test.getOnlineClients()) {
+                runRound(createScoreboard(client));
+            }
+        }
+        int rounds = 0;
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(test.getDurationSeconds());
+        while (System.nanoTime() < end) {
+            for (SimulatedClient client : test.getOnlineClients()) {
+                Scoreboard<LoadTestPlayer, String> scoreboard = createScoreboard(client);
+                long time = System.nanoTime();
+                runRound(scoreboard);
+                latency.record(System.nanoTime() - time);
+                rounds++;
+            }
+        }
+        return rounds * OPERATIONS_PER_ROUND;
+    }
+
+    /**
+     * Creates a new scoreboard for given client, so operations do not interfere
+     * with the scoreboard used by features.
+     *
+     * @param   client
+     *          Client to create scoreboard for
+     * @return  New scoreboard of the client
+     */
+    @NotNull
+    private Scoreboard<LoadTestPlayer, String> createScoreboard(@NotNull SimulatedClient client) {
+        LoadTestPlayer player = (LoadTestPlayer) TAB.getInstance().getPlayer(client.getUniqueId());
+        if (player == null) throw new IllegalStateException("Player " + client.getName() + " is not online");
+        return new LoadTestScoreboard(player);
+    }
+
+    /**
+     * Runs one round of operations on given scoreboard, which is left empty afterwards.
+     *
+     * @param   scoreboard
+     *          Scoreboard to run operations on
+     */
+    private void runRound(@NotNull Scoreboard<LoadTestPlayer, String> scoreboard) {
+        for (int i = 0; i < TEAMS; i++) {
+            scoreboard.registerTeam("TAB-bench-" + i, "&7[" + i + "] ", "", NameVisibility.ALWAYS, CollisionRule.ALWAYS,
+                    Collections.singletonList("bench" + i), 2, EnumChatFormat.RESET);
+        }
+        for (int update = 0; update < TEAM_UPDATES; update++) {
+            for (int i = 0; i < TEAMS; i++) {
+                scoreboard.updateTeam("TAB-bench-" + i, "&" + Integer.toHexString(update) + "[" + i + "] ", "",
+                        NameVisibility.ALWAYS, CollisionRule.ALWAYS, 2, EnumChatFormat.RESET);
+            }
+        }
+        scoreboard.registerObjective(OBJECTIVE, "&eBenchmark", Scoreboard.HealthDisplay.INTEGER, null);
+        scoreboard.setDisplaySlot(Scoreboard.DisplaySlot.SIDEBAR, OBJECTIVE);
+        for (int i = 0; i < SCORES; i++) {
+            scoreboard.setScore(OBJECTIVE, "bench" + i, i, null, null);
+        }
+        for (int i = 0; i < TITLE_UPDATES; i++) {
+            scoreboard.updateObjective(OBJECTIVE, "&" + Integer.toHexString(i % 16) + "Benchmark", Scoreboard.HealthDisplay.INTEGER, null);
+        }
+        for (int i = 0; i < SCORES; i++) {
+            scoreboard.removeScore(OBJECTIVE, "bench" + i);
+        }
+        scoreboard.unregisterObjective(OBJECTIVE);
+        for (int i = 0; i < TEAMS; i++) {
+            scoreboard.unregisterTeam("TAB-bench-" + i);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package me.neznamy.tab.loadtest.scenario;
+
+import me.neznamy.tab.loadtest.LoadTest;
+import me.neznamy.tab.loadtest.platform.SimulatedClient;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Scenario where every player switches to a random world several times as fast as possible.
+ * Latency is the time between switching world and the switch being fully processed.
+ */
+public class WorldSwitch extends Scenario {
+
+    /** How many times each player switches world */
+    private static final int ROUNDS = 5;
+
+    /**
+     * Constructs new instance.
+     */
+    public WorldSwitch() {
+        super("world", "Every player switches to a random world " + ROUNDS + " times");
+    }
+
+    @Override
+    public int run(@NotNull LoadTest test, @NotNull LatencyRecorder latency) {
+        List<SimulatedClient> clients = test.getOnlineClients();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (SimulatedClient client : clients) {
+                String world = LoadTest.WORLDS[test.getRandom().nextInt(LoadTest.WORLDS.length)];
+                test.measure(() -> test.getPlatform().changeWorld(client, world), latency);
+            }
+        }
+        return clients.size() * ROUNDS;
+    }
+}
@@ -24,6 +24,21 @@ dependencies {
     compileOnlyApi("net.kyori:adventure-text-minimessage:4.13.0")
 }
 
+// Java Flight Recorder events require Java 11, they are loaded reflectively when available
+val jfr by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
+tasks {
+    named<JavaCompile>(jfr.compileJavaTaskName) {
+        options.encoding = Charsets.UTF_8.name()
+        options.release.set(11)
+    }
+    jar {
+        from(jfr.output)
+    }
+}
+
 blossom {
     replaceToken("@name@", rootProject.name)
     replaceToken("@id@", rootProject.ext.get("id")!!.toString())
@@ -0,0 +1,30 @@
+package me.neznamy.tab.shared.cpu.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Event of a feature processing a player join, quit, world switch or another event.
+ */
+@Name("me.neznamy.tab.Feature")
+@Label("Feature Event")
+@Category("TAB")
+@Description("Feature processing an event")
+@StackTrace(false)
+public class FeatureEvent extends Event {
+
+    @Label("Feature")
+    String feature;
+
+    @Label("Event")
+    String event;
+
+    @Label("Player")
+    String player;
+
+    @Label("Online Players")
+    int onlinePlayers;
+
+    @Label("Packets")
+    @Description("Packets sent while processing the event")
+    int packets;
+}
@@ -0,0 +1,170 @@
+package me.neznamy.tab.shared.cpu.jfr;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.cpu.EventRecorder.Backend;
+import me.neznamy.tab.shared.cpu.EventRecorder.Operation;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Backend recording operations as Java Flight Recorder events. Events are only
+ * created while a recording is running, otherwise {@link Operation#NONE} is returned.
+ * Loaded reflectively by {@link me.neznamy.tab.shared.cpu.EventRecorder}.
+ */
+public class FlightRecorderBackend implements Backend {
+
+    /** Packets sent by each thread while recording */
+    private final ThreadLocal<int[]> packets = ThreadLocal.withInitial(() -> new int[1]);
+
+    /** Whether a recording is running or not */
+    private volatile boolean recording;
+
+    /**
+     * Constructs new instance and registers listener tracking running recordings.
+     */
+    public FlightRecorderBackend() {
+        FlightRecorder.addListener(new FlightRecorderListener() {
+
+            @Override
+            public void recorderInitialized(@NotNull FlightRecorder recorder) {
+                updateRecording(recorder);
+            }
+
+            @Override
+            public void recordingStateChanged(@NotNull Recording recording) {
+                updateRecording(FlightRecorder.getFlightRecorder());
+            }
+        });
+    }
+
+    private void updateRecording(@NotNull FlightRecorder recorder) {
+        recording = recorder.getRecordings().stream().anyMatch(r -> r.getState() == RecordingState.RUNNING);
+    }
+
+    private int packets() {
+        return packets.get()[0];
+    }
+
+    private int onlinePlayers() {
+        return TAB.getInstance().getOnlinePlayers().length;
+    }
+
+    @Override
+    @NotNull
+    public Operation featureEvent(@NotNull String feature, @NotNull String event, @Nullable TabPlayer player) {
+        if (!recording) return Operation.NONE;
+        FeatureEvent e = new FeatureEvent();
+        if (!e.isEnabled()) return Operation.NONE;
+        e.feature = feature;
+        e.event = event;
+        e.player = player == null ? null : player.getName();
+        int packets = packets();
+        e.begin();
+        return amount -> {
+            e.end();
+            if (!e.shouldCommit()) return;
+            e.onlinePlayers = onlinePlayers();
+            e.packets = packets() - packets;
+            e.commit();
+        };
+    }
+
+    @Override
+    @NotNull
+    public Operation placeholderRefresh(int placeholders) {
+        if (!recording) return Operation.NONE;
+        PlaceholderRefreshEvent e = new PlaceholderRefreshEvent();
+        if (!e.isEnabled()) return Operation.NONE;
+        e.placeholders = placeholders;
+        e.begin();
+        return amount -> {
+            e.end();
+            if (!e.shouldCommit()) return;
+            e.evaluations = amount;
+            e.onlinePlayers = onlinePlayers();
+            e.commit();
+        };
+    }
+
+    @Override
+    @NotNull
+    public Operation placeholderUpdate() {
+        if (!recording) return Operation.NONE;
+        PlaceholderUpdateEvent e = new PlaceholderUpdateEvent();
+        if (!e.isEnabled()) return Operation.NONE;
+        int packets = packets();
+        e.begin();
+        return amount -> {
+            e.end();
+            if (!e.shouldCommit()) return;
+            e.refreshes = amount;
+            e.onlinePlayers = onlinePlayers();
+            e.packets = packets() - packets;
+            e.commit();
+        };
+    }
+
+    @Override
+    @NotNull
+    public Operation packetInterception(@NotNull TabPlayer player, @NotNull Object packet) {
+        if (!recording) return Operation.NONE;
+        PacketInterceptionEvent e = new PacketInterceptionEvent();
+        if (!e.isEnabled()) return Operation.NONE;
+        e.player = player.getName();
+        e.packetType = packet.getClass().getSimpleName();
+        int packets = packets();
+        e.begin();
+        return amount -> {
+            e.end();
+            if (!e.shouldCommit()) return;
+            e.packets = packets() - packets;
+            e.commit();
+        };
+    }
+
+    @Override
+    @NotNull
+    public Operation redisMessage(int length) {
+        if (!recording) return Operation.NONE;
+        RedisMessageEvent e = new RedisMessageEvent();
+        if (!e.isEnabled()) return Operation.NONE;
+        e.length = length;
+        int packets = packets();
+        e.begin();
+        return amount -> {
+            e.end();
+            if (!e.shouldCommit()) return;
+            e.messages = amount;
+            e.packets = packets() - packets;
+            e.commit();
+        };
+    }
+
+    @Override
+    @NotNull
+    public Operation reload() {
+        if (!recording) return Operation.NONE;
+        ReloadEvent e = new ReloadEvent();
+        if (!e.isEnabled()) return Operation.NONE;
+        int packets = packets();
+        e.begin();
+        return amount -> {
+            e.end();
+            if (!e.shouldCommit()) return;
+            e.appliedFeatures = amount;
+            e.onlinePlayers = onlinePlayers();
+            e.packets = packets() - packets;
+            e.commit();
+        };
+    }
+
+    @Override
+    public void countPacket() {
+        if (recording) packets.get()[0]++;
+    }
+}
@@ -0,0 +1,24 @@
+package me.neznamy.tab.shared.cpu.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Event of reading an outgoing packet in the pipeline injector.
+ */
+@Name("me.neznamy.tab.PacketInterception")
+@Label("Packet Interception")
+@Category("TAB")
+@Description("Reading an outgoing packet in the pipeline injector")
+@StackTrace(false)
+public class PacketInterceptionEvent extends Event {
+
+    @Label("Player")
+    String player;
+
+    @Label("Packet Type")
+    String packetType;
+
+    @Label("Packets")
+    @Description("Packets sent while reading the packet")
+    int packets;
+}
@@ -0,0 +1,24 @@
+package me.neznamy.tab.shared.cpu.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Event of requesting new values of placeholders in a refresh loop.
+ */
+@Name("me.neznamy.tab.PlaceholderRefresh")
+@Label("Placeholder Refresh")
+@Category("TAB")
+@Description("Requesting values of placeholders in a refresh loop")
+@StackTrace(false)
+public class PlaceholderRefreshEvent extends Event {
+
+    @Label("Placeholders")
+    int placeholders;
+
+    @Label("Evaluations")
+    @Description("Amount of requested values, one per player for player placeholders and one per pair of players for relational placeholders")
+    int evaluations;
+
+    @Label("Online Players")
+    int onlinePlayers;
+}
@@ -0,0 +1,24 @@
+package me.neznamy.tab.shared.cpu.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Event of saving results of a placeholder refresh loop and refreshing features using them.
+ */
+@Name("me.neznamy.tab.PlaceholderUpdate")
+@Label("Placeholder Update")
+@Category("TAB")
+@Description("Saving refreshed placeholder values and refreshing features using them")
+@StackTrace(false)
+public class PlaceholderUpdateEvent extends Event {
+
+    @Label("Feature Refreshes")
+    int refreshes;
+
+    @Label("Online Players")
+    int onlinePlayers;
+
+    @Label("Packets")
+    @Description("Packets sent while refreshing features")
+    int packets;
+}
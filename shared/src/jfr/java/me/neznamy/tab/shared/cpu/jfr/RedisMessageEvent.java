@@ -0,0 +1,25 @@
+package me.neznamy.tab.shared.cpu.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Event of processing a frame received from redis.
+ */
+@Name("me.neznamy.tab.RedisMessage")
+@Label("Redis Message")
+@Category("TAB")
+@Description("Processing messages of a frame received from redis")
+@StackTrace(false)
+public class RedisMessageEvent extends Event {
+
+    @Label("Frame Length")
+    @DataAmount(DataAmount.BYTES)
+    int length;
+
+    @Label("Messages")
+    int messages;
+
+    @Label("Packets")
+    @Description("Packets sent while processing the messages")
+    int packets;
+}
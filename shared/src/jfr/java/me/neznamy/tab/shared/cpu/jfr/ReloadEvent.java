@@ -0,0 +1,25 @@
+package me.neznamy.tab.shared.cpu.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Event of a plugin reload.
+ */
+@Name("me.neznamy.tab.Reload")
+@Label("Reload")
+@Category("TAB")
+@Description("Reload of the plugin")
+@StackTrace(false)
+public class ReloadEvent extends Event {
+
+    @Label("Applied Features")
+    @Description("Features which applied changes without a full reload, 0 if a full reload was performed")
+    int appliedFeatures;
+
+    @Label("Online Players")
+    int onlinePlayers;
+
+    @Label("Packets")
+    @Description("Packets sent during the reload")
+    int packets;
+}
@@ -239,6 +239,20 @@ public class ErrorManager {
                 Collections.emptyList(), false, errorLog);
     }
 
+    /**
+     * Prints error message when RedisSupport received frame with different protocol version.
+     *
+     * @param   received
+     *          Protocol version of received frame
+     * @param   expected
+     *          Protocol version of this proxy
+     */
+    public void redisProtocolMismatch(int received, int expected) {
+        printError("RedisSupport received message with protocol version " + received + ", but this proxy uses version " +
+                expected + ". Make sure all proxies run the same version of TAB.",
+                Collections.emptyList(), false, errorLog);
+    }
+
     /**
      * Prints error message when MineSkin download failed with an error.
      *
@@ -1,11 +1,14 @@
 package me.neznamy.tab.shared;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import me.neznamy.tab.api.placeholder.PlayerPlaceholder;
 import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.shared.config.Configs;
 import me.neznamy.tab.shared.config.mysql.MySQLUserConfiguration;
+import me.neznamy.tab.shared.cpu.EventRecorder;
 import me.neznamy.tab.shared.features.*;
 import me.neznamy.tab.shared.features.GlobalPlayerList;
 import me.neznamy.tab.shared.features.injection.PipelineInjector;
@@ -29,6 +32,32 @@ import org.jetbrains.annotations.Nullable;
  */
 public class FeatureManager {
 
+    /**
+     * Features which only read their own config.yml section, so they can be restarted
+     * on their own when their section changes. Key is the section name.
+     */
+    private static final Map<String, SectionFeature> SECTION_FEATURES = new HashMap<>();
+
+    static {
+        SECTION_FEATURES.put("header-footer", new SectionFeature(TabConstants.Feature.HEADER_FOOTER, true, HeaderFooter::new,
+                p -> p.disabledHeaderFooter.set(false), false));
+        SECTION_FEATURES.put("scoreboard", new SectionFeature(TabConstants.Feature.SCOREBOARD, false, ScoreboardManagerImpl::new, p -> {
+            p.scoreboardData.joinDelayed = false;
+            p.scoreboardData.visible = false;
+            p.scoreboardData.activeScoreboard = null;
+            p.scoreboardData.forcedScoreboard = null;
+        }, false, TabConstants.Feature.scoreboardLine("")));
+        SECTION_FEATURES.put("bossbar", new SectionFeature(TabConstants.Feature.BOSS_BAR, false, () -> TAB.getInstance().getPlatform().getBossBar(),
+                p -> p.bossbarData.visible = false, false));
+        SECTION_FEATURES.put("belowname-objective", new SectionFeature(TabConstants.Feature.BELOW_NAME, false, BelowName::new,
+                p -> p.disabledBelowname.set(false), true));
+        SECTION_FEATURES.put("playerlist-objective", new SectionFeature(TabConstants.Feature.YELLOW_NUMBER, true, YellowNumber::new,
+                p -> p.disabledYellowNumber.set(false), true));
+        SECTION_FEATURES.put("ping-spoof", new SectionFeature(TabConstants.Feature.PING_SPOOF, false, PingSpoof::new, p -> {}, false));
+        SECTION_FEATURES.put("prevent-spectator-effect", new SectionFeature(TabConstants.Feature.SPECTATOR_FIX, false, SpectatorFix::new, p -> {}, false));
+        SECTION_FEATURES.put("metrics-endpoint", new SectionFeature(TabConstants.Feature.METRICS_ENDPOINT, false, MetricsEndpoint::new, p -> {}, false));
+    }
+
     /** Map of all registered feature where key is feature's identifier */
     private final Map<String, TabFeature> features = new LinkedHashMap<>();
 
@@ -101,6 +130,26 @@ public class FeatureManager {
         }
     }
 
+    /**
+     * Force refreshes all features for all loaded players, which makes them
+     * read their properties again and send changes if there are any.
+     *
+     * @return  Time in milliseconds each refreshable feature took by feature name
+     */
+    @NotNull
+    public Map<String, Long> refreshAll() {
+        Map<String, Long> times = new LinkedHashMap<>();
+        for (TabFeature f : values) {
+            if (!(f instanceof Refreshable)) continue;
+            long time = System.currentTimeMillis();
+            for (TabPlayer p : TAB.getInstance().getOnlinePlayers()) {
+                if (p.isLoaded()) ((Refreshable)f).refresh(p, true);
+            }
+            times.merge(f.getFeatureName(), System.currentTimeMillis()-time, Long::sum);
+        }
+        return times;
+    }
+
     /**
      * Forwards gamemode change to all enabled features.
      *
@@ -111,7 +160,9 @@ public class FeatureManager {
         for (TabFeature f : values) {
             if (!(f instanceof GameModeListener)) continue;
             long time = System.nanoTime();
+            EventRecorder.Operation operation = EventRecorder.featureEvent(f.getFeatureName(), TabConstants.CpuUsageCategory.GAMEMODE_CHANGE, player);
             ((GameModeListener) f).onGameModeChange(player);
+            operation.end();
             TAB.getInstance().getCPUManager().addTime(f.getFeatureName(), TabConstants.CpuUsageCategory.GAMEMODE_CHANGE, System.nanoTime() - time);
         }
     }
@@ -129,7 +180,9 @@ public class FeatureManager {
         for (TabFeature f : values) {
             if (!(f instanceof QuitListener)) continue;
             long time = System.nanoTime();
+            EventRecorder.Operation operation = EventRecorder.featureEvent(f.getFeatureName(), TabConstants.CpuUsageCategory.PLAYER_QUIT, disconnectedPlayer);
             ((QuitListener)f).onQuit(disconnectedPlayer);
+            operation.end();
             TAB.getInstance().getCPUManager().addTime(f.getFeatureName(), TabConstants.CpuUsageCategory.PLAYER_QUIT, System.nanoTime()-time);
         }
         TAB.getInstance().removePlayer(disconnectedPlayer);
@@ -148,7 +201,9 @@ public class FeatureManager {
         for (TabFeature f : values) {
             if (!(f instanceof JoinListener)) continue;
             long time = System.nanoTime();
+            EventRecorder.Operation operation = EventRecorder.featureEvent(f.getFeatureName(), TabConstants.CpuUsageCategory.PLAYER_JOIN, connectedPlayer);
             ((JoinListener)f).onJoin(connectedPlayer);
+            operation.end();
             TAB.getInstance().getCPUManager().addTime(f.getFeatureName(), TabConstants.CpuUsageCategory.PLAYER_JOIN, System.nanoTime()-time);
             TAB.getInstance().debug("Feature " + f.getClass().getSimpleName() + " processed player join in " + (System.nanoTime()-time)/1000000 + "ms");
 
@@ -177,7 +232,9 @@ public class FeatureManager {
         for (TabFeature f : values) {
             if (!(f instanceof WorldSwitchListener)) continue;
             long time = System.nanoTime();
+            EventRecorder.Operation operation = EventRecorder.featureEvent(f.getFeatureName(), TabConstants.CpuUsageCategory.WORLD_SWITCH, changed);
             ((WorldSwitchListener) f).onWorldChange(changed, from, to);
+            operation.end();
             TAB.getInstance().getCPUManager().addTime(f.getFeatureName(), TabConstants.CpuUsageCategory.WORLD_SWITCH, System.nanoTime()-time);
         }
         ((PlayerPlaceholder)TAB.getInstance().getPlaceholderManager().getPlaceholder(TabConstants.Placeholder.WORLD)).updateValue(changed, to);
@@ -200,7 +257,9 @@ public class FeatureManager {
         for (TabFeature f : values) {
             if (!(f instanceof ServerSwitchListener)) continue;
             long time = System.nanoTime();
+            EventRecorder.Operation operation = EventRecorder.featureEvent(f.getFeatureName(), TabConstants.CpuUsageCategory.SERVER_SWITCH, changed);
             ((ServerSwitchListener) f).onServerChange(changed, from, to);
+            operation.end();
             TAB.getInstance().getCPUManager().addTime(f.getFeatureName(), TabConstants.CpuUsageCategory.SERVER_SWITCH, System.nanoTime()-time);
         }
         ((PlayerPlaceholder)TAB.getInstance().getPlaceholderManager().getPlaceholder(TabConstants.Placeholder.SERVER)).updateValue(changed, to);
@@ -223,7 +282,9 @@ public class FeatureManager {
         for (TabFeature f : values) {
             if (!(f instanceof CommandListener)) continue;
             long time = System.nanoTime();
+            EventRecorder.Operation operation = EventRecorder.featureEvent(f.getFeatureName(), TabConstants.CpuUsageCategory.COMMAND_PREPROCESS, sender);
             if (((CommandListener)f).onCommand(sender, command)) cancel = true;
+            operation.end();
             TAB.getInstance().getCPUManager().addTime(f.getFeatureName(), TabConstants.CpuUsageCategory.COMMAND_PREPROCESS, System.nanoTime()-time);
         }
         return cancel;
@@ -295,7 +356,9 @@ public class FeatureManager {
         for (TabFeature f : values) {
             if (!(f instanceof VanishListener)) continue;
             long time = System.nanoTime();
+            EventRecorder.Operation operation = EventRecorder.featureEvent(f.getFeatureName(), TabConstants.CpuUsageCategory.VANISH_CHANGE, player);
             ((VanishListener)f).onVanishStatusChange(player);
+            operation.end();
             TAB.getInstance().getCPUManager().addTime(f.getFeatureName(), TabConstants.CpuUsageCategory.VANISH_CHANGE, System.nanoTime()-time);
         }
     }
@@ -353,7 +416,9 @@ public class FeatureManager {
         for (TabFeature f : values) {
             if (!(f instanceof LoginPacketListener)) continue;
             long time = System.nanoTime();
+            EventRecorder.Operation operation = EventRecorder.featureEvent(f.getFeatureName(), TabConstants.CpuUsageCategory.PACKET_LOGIN, packetReceiver);
             ((LoginPacketListener)f).onLoginPacket(packetReceiver);
+            operation.end();
             TAB.getInstance().getCPUManager().addTime(f.getFeatureName(), TabConstants.CpuUsageCategory.PACKET_LOGIN, System.nanoTime() - time);
         }
     }
@@ -368,7 +433,9 @@ public class FeatureManager {
         for (TabFeature f : values) {
             if (!(f instanceof TabListClearListener)) continue;
             long time = System.nanoTime();
+            EventRecorder.Operation operation = EventRecorder.featureEvent(f.getFeatureName(), TabConstants.CpuUsageCategory.TABLIST_CLEAR, packetReceiver);
             ((TabListClearListener)f).onTabListClear(packetReceiver);
+            operation.end();
             TAB.getInstance().getCPUManager().addTime(f.getFeatureName(), TabConstants.CpuUsageCategory.TABLIST_CLEAR, System.nanoTime() - time);
         }
     }
@@ -411,6 +478,25 @@ public class FeatureManager {
     public void unregisterFeature(@NotNull String featureName) {
         features.remove(featureName);
         values = features.values().toArray(new TabFeature[0]);
+        updateListenerFlags();
+    }
+
+    /**
+     * Recalculates listener flags and listened commands from registered features.
+     */
+    private void updateListenerFlags() {
+        hasPacketSendListener = false;
+        hasLatencyChangeListener = false;
+        hasCommandListener = false;
+        listeningCommands.clear();
+        for (TabFeature f : values) {
+            if (f instanceof PacketSendListener) hasPacketSendListener = true;
+            if (f instanceof LatencyListener) hasLatencyChangeListener = true;
+            if (f instanceof CommandListener) {
+                hasCommandListener = true;
+                listeningCommands.add(((CommandListener) f).getCommand());
+            }
+        }
     }
 
     /**
@@ -438,6 +524,74 @@ public class FeatureManager {
         return (T) features.get(name);
     }
 
+    /**
+     * Returns {@code true} if all features reading given config.yml sections can be restarted
+     * on their own, {@code false} if any of them requires all features to be reloaded.
+     *
+     * @param   sections
+     *          Changed config.yml sections
+     * @return  {@code true} if owners of the sections can be restarted, {@code false} if not
+     */
+    public boolean canRestart(@NotNull Collection<String> sections) {
+        for (String section : sections) {
+            SectionFeature owner = SECTION_FEATURES.get(section);
+            if (owner == null) return false;
+            // Nick compatibility is restarted with the feature, redis support is not
+            if (owner.usedByNickCompatibility && isFeatureEnabled(TabConstants.Feature.REDIS_BUNGEE)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Restarts features reading given config.yml sections, so they read their section again.
+     * Old instances and features they registered are unloaded and unregistered, and new instances
+     * are registered and loaded if the feature is still enabled. Other features are not touched.
+     * All sections must pass {@link #canRestart(Collection)}.
+     *
+     * @param   sections
+     *          Changed config.yml sections
+     * @return  Time in milliseconds each restarted feature took by feature name
+     */
+    @NotNull
+    public Map<String, Long> restart(@NotNull Collection<String> sections) {
+        Map<String, Long> times = new LinkedHashMap<>();
+        boolean nickDependencyRestarted = false;
+        for (String section : sections) {
+            SectionFeature owner = SECTION_FEATURES.get(section);
+            long time = System.currentTimeMillis();
+            TabFeature previous = features.get(owner.featureName);
+            if (previous instanceof UnLoadable) ((UnLoadable) previous).unload();
+            List<Refreshable> removed = new ArrayList<>();
+            for (Iterator<Map.Entry<String, TabFeature>> iterator = features.entrySet().iterator(); iterator.hasNext();) {
+                Map.Entry<String, TabFeature> entry = iterator.next();
+                if (!owner.owns(entry.getKey())) continue;
+                entry.getValue().deactivate();
+                if (entry.getValue() instanceof Refreshable) removed.add((Refreshable) entry.getValue());
+                // Main feature is replaced in place to keep its position
+                if (!entry.getKey().equals(owner.featureName)) iterator.remove();
+            }
+            values = features.values().toArray(new TabFeature[0]);
+            TAB.getInstance().getPlaceholderManager().removeUsedPlaceholders(removed);
+            for (TabPlayer p : TAB.getInstance().getOnlinePlayers()) {
+                owner.playerReset.accept(p);
+            }
+            if (TAB.getInstance().getConfiguration().getConfig().getBoolean(section + ".enabled", owner.enabledByDefault)) {
+                TabFeature feature = owner.constructor.get();
+                registerFeature(owner.featureName, feature);
+                if (feature instanceof Loadable) ((Loadable) feature).load();
+            } else {
+                unregisterFeature(owner.featureName);
+            }
+            nickDependencyRestarted |= owner.usedByNickCompatibility;
+            times.put(owner.featureName, System.currentTimeMillis()-time);
+        }
+        if (nickDependencyRestarted) {
+            registerFeature(TabConstants.Feature.NICK_COMPATIBILITY, new NickCompatibility());
+        }
+        updateListenerFlags();
+        return times;
+    }
+
     /**
      * Loads features from config
      */
@@ -458,6 +612,7 @@ public class FeatureManager {
         boolean unlimitedTags      = configuration.getConfig().getBoolean("scoreboard-teams.unlimited-nametag-mode.enabled", false);
         boolean globalPlayerList   = configuration.getConfig().getBoolean("global-playerlist.enabled", false);
         boolean tablistFormatting  = configuration.getConfig().getBoolean("tablist-name-formatting.enabled", true);
+        boolean metricsEndpoint    = configuration.getConfig().getBoolean("metrics-endpoint.enabled", false);
 
         if (perWorldPlayerList && layout) TAB.getInstance().getConfigHelper().startup().bothPerWorldPlayerListAndLayoutEnabled();
         if (yellowNumber && layout)       TAB.getInstance().getConfigHelper().startup().layoutBreaksYellowNumber();
@@ -524,5 +679,59 @@ public class FeatureManager {
         if (redis != null) TAB.getInstance().getFeatureManager().registerFeature(TabConstants.Feature.REDIS_BUNGEE, redis);
 
         featureManager.registerFeature(TabConstants.Feature.NICK_COMPATIBILITY, new NickCompatibility());
+
+        // Must be loaded after: Redis support
+        if (metricsEndpoint) featureManager.registerFeature(TabConstants.Feature.METRICS_ENDPOINT, new MetricsEndpoint());
+    }
+
+    /**
+     * Feature owning a config.yml section, which can be restarted when the section changes.
+     */
+    private static class SectionFeature {
+
+        /** Name the feature is registered as */
+        @NotNull private final String featureName;
+
+        /** Value of "enabled" option if it is missing */
+        private final boolean enabledByDefault;
+
+        /** Function creating new instance of the feature */
+        @NotNull private final Supplier<TabFeature> constructor;
+
+        /** Function clearing data the feature stored in players */
+        @NotNull private final Consumer<TabPlayer> playerReset;
+
+        /** Whether nick compatibility and redis support hold a reference to this feature */
+        private final boolean usedByNickCompatibility;
+
+        /** Prefixes of names of features registered by this feature in addition to {@link #featureName} */
+        @NotNull private final String[] subFeaturePrefixes;
+
+        private SectionFeature(@NotNull String featureName, boolean enabledByDefault, @NotNull Supplier<TabFeature> constructor,
+                               @NotNull Consumer<TabPlayer> playerReset, boolean usedByNickCompatibility, @NotNull String... subFeaturePrefixes) {
+            this.featureName = featureName;
+            this.enabledByDefault = enabledByDefault;
+            this.constructor = constructor;
+            this.playerReset = playerReset;
+            this.usedByNickCompatibility = usedByNickCompatibility;
+            this.subFeaturePrefixes = subFeaturePrefixes;
+        }
+
+        /**
+         * Returns {@code true} if feature registered with given name belongs to this feature,
+         * {@code false} if not.
+         *
+         * @param   name
+         *          Name of registered feature
+         * @return  {@code true} if the feature belongs to this feature, {@code false} if not
+         */
+        private boolean owns(@NotNull String name) {
+            // Sub-features are registered with this feature's name as a prefix, such as "HeaderFooter-Condition"
+            if (name.startsWith(featureName)) return true;
+            for (String prefix : subFeaturePrefixes) {
+                if (name.startsWith(prefix)) return true;
+            }
+            return false;
+        }
     }
-}
\ No newline at end of file
+}
@@ -3,9 +3,12 @@ package me.neznamy.tab.shared;
 import lombok.Getter;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -14,6 +17,9 @@ import java.util.function.Function;
 @Getter
 public class GroupManager {
 
+    /** Maximum multiplier of configured refresh interval when groups did not change */
+    private static final int MAX_INTERVAL_MULTIPLIER = 8;
+
     /** Permission plugin's name */
     @NotNull private final String permissionPlugin;
 
@@ -27,7 +33,17 @@ public class GroupManager {
     private final List<String> primaryGroupFindingList = TAB.getInstance().getConfiguration().getConfig().getStringList("primary-group-finding-list", Arrays.asList("Owner", "Admin", "Helper", "default"));
 
     /**
-     * Constructs new instance with given permission plugin and registers group placeholder.
+     * Function subscribing to permission changes of players if permission plugin supports it, {@code null} if not.
+     * Other features may use it to react to permission changes as well.
+     */
+    @Nullable private final Function<Consumer<UUID>, AutoCloseable> groupChangeSubscriber;
+
+    /** Subscription to group changes if permission plugin supports it, {@code null} if groups are polled */
+    @Nullable private final AutoCloseable groupChangeSubscription;
+
+    /**
+     * Constructs new instance with given permission plugin and starts
+     * periodic group refreshing.
      *
      * @param   permissionPlugin
      *          Name of detected permission plugin
@@ -35,16 +51,70 @@ public class GroupManager {
      *          Function returning group of a player
      */
     public GroupManager(@NotNull String permissionPlugin, @NotNull Function<TabPlayer, String> groupFunction) {
+        this(permissionPlugin, groupFunction, null);
+    }
+
+    /**
+     * Constructs new instance with given permission plugin. If group change subscriber is
+     * provided, groups are only refreshed for players whose permissions changed. Otherwise,
+     * all players are periodically checked.
+     *
+     * @param   permissionPlugin
+     *          Name of detected permission plugin
+     * @param   groupFunction
+     *          Function returning group of a player
+     * @param   groupChangeSubscriber
+     *          Function registering listener called with UUID of player whose permissions or contexts changed
+     *          and returning the subscription, {@code null} if permission plugin does not support it
+     */
+    public GroupManager(@NotNull String permissionPlugin, @NotNull Function<TabPlayer, String> groupFunction,
+                        @Nullable Function<Consumer<UUID>, AutoCloseable> groupChangeSubscriber) {
         this.permissionPlugin = permissionPlugin;
         this.groupFunction = groupFunction;
-        TAB.getInstance().getCPUManager().startRepeatingMeasuredTask(TAB.getInstance().getConfiguration().getPermissionRefreshInterval(),
-                "Permission group refreshing", "Refreshing task", () -> {
+        this.groupChangeSubscriber = groupChangeSubscriber;
+        if (groupChangeSubscriber != null) {
+            groupChangeSubscription = groupChangeSubscriber.apply(id -> TAB.getInstance().getCPUManager().runMeasuredTask(
+                    "Permission group refreshing", "Processing permission change", () -> {
+                        TabPlayer player = TAB.getInstance().getPlayer(id);
+                        if (player != null) player.setGroup(detectPermissionGroup(player));
+                    }));
+        } else {
+            groupChangeSubscription = null;
+            scheduleRefresh(TAB.getInstance().getConfiguration().getPermissionRefreshInterval());
+        }
+    }
+
+    /**
+     * Schedules refresh of groups of all online players. If no group changed, the next
+     * refresh is scheduled with double the interval, up to {@link #MAX_INTERVAL_MULTIPLIER}
+     * times the configured interval. If any group changed, configured interval is used again.
+     *
+     * @param   interval
+     *          Delay before the refresh in milliseconds
+     */
+    private void scheduleRefresh(int interval) {
+        TAB.getInstance().getCPUManager().runTaskLater(interval, "Permission group refreshing", "Refreshing task", () -> {
+            boolean changed = false;
             for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
-                all.setGroup(detectPermissionGroup(all));
+                if (all.setGroup(detectPermissionGroup(all))) changed = true;
             }
+            int baseInterval = TAB.getInstance().getConfiguration().getPermissionRefreshInterval();
+            scheduleRefresh(changed ? baseInterval : Math.min(interval * 2, baseInterval * MAX_INTERVAL_MULTIPLIER));
         });
     }
 
+    /**
+     * Cancels subscription to group changes if there is any.
+     */
+    public void unload() {
+        if (groupChangeSubscription == null) return;
+        try {
+            groupChangeSubscription.close();
+        } catch (Exception e) {
+            TAB.getInstance().getErrorManager().printError("Failed to unsubscribe from group changes of " + permissionPlugin, e);
+        }
+    }
+
     /**
      * Detects player's permission group using configured method and returns it
      *
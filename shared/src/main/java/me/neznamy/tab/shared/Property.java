@@ -1,6 +1,7 @@
 package me.neznamy.tab.shared;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import lombok.Getter;
@@ -8,8 +9,11 @@ import me.neznamy.tab.shared.features.types.Refreshable;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.chat.rgb.RGBUtils;
 import me.neznamy.tab.shared.placeholders.expansion.TabExpansion;
+import me.neznamy.tab.shared.placeholders.types.PlayerPlaceholderImpl;
 import me.neznamy.tab.shared.placeholders.types.RelationalPlaceholderImpl;
+import me.neznamy.tab.shared.placeholders.types.TabPlaceholder;
 import me.neznamy.tab.shared.platform.TabPlayer;
+import me.neznamy.tab.shared.util.ComponentCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -22,6 +26,16 @@ public class Property {
 
     private static long counter;
 
+    /**
+     * Formatted values by raw formatted value and values of used placeholders. Players with the
+     * same text and same placeholder values share the result instead of each formatting it again.
+     * Since they also share the same String instance, its component conversion is shared as well.
+     * Values of player-specific properties are not cached, because they are rarely shared and would
+     * only evict entries which are.
+     */
+    private static final ComponentCache<FormatKey, String> formattedValues = new ComponentCache<>("Property values", 5000,
+            (key, clientVersion) -> format(key.format, key.values));
+
     /** Internal identifier for this text for PlaceholderAPI expansion, null if it should not be exposed */
     @Nullable private final String name;
 
@@ -228,17 +242,14 @@ public class Property {
      */
     public boolean update() {
         if (placeholders.length == 0) return false;
-        String string;
-        if ("%s".equals(rawFormattedValue)) {
-            string = TAB.getInstance().getPlaceholderManager().getPlaceholder(placeholders[0]).set(placeholders[0], owner);
-        } else {
-            Object[] values = new String[placeholders.length];
-            for (int i=0; i<placeholders.length; i++) {
-                values[i] = TAB.getInstance().getPlaceholderManager().getPlaceholder(placeholders[i]).set(placeholders[i], owner);
-            }
-            string = String.format(rawFormattedValue, values);
+        String[] values = new String[placeholders.length];
+        boolean playerSpecific = relPlaceholders.length > 0;
+        for (int i=0; i<placeholders.length; i++) {
+            TabPlaceholder placeholder = TAB.getInstance().getPlaceholderManager().getPlaceholder(placeholders[i]);
+            if (placeholder instanceof PlayerPlaceholderImpl) playerSpecific = true;
+            values[i] = placeholder.set(placeholders[i], owner);
         }
-        string = EnumChatFormat.color(string);
+        String string = playerSpecific ? format(rawFormattedValue, values) : formattedValues.get(new FormatKey(rawFormattedValue, values), null);
         if (!lastReplacedValue.equals(string)) {
             lastReplacedValue = string;
             if (name != null) {
@@ -249,6 +260,21 @@ public class Property {
         return false;
     }
 
+    /**
+     * Returns {@code true} if value of this property may be different for every player,
+     * because it uses player or relational placeholders, {@code false} if all players
+     * with the same raw value see the same result.
+     *
+     * @return  {@code true} if value may be unique to the player, {@code false} if not
+     */
+    public boolean isPlayerSpecific() {
+        if (relPlaceholders.length > 0) return true;
+        for (String identifier : placeholders) {
+            if (TAB.getInstance().getPlaceholderManager().getPlaceholder(identifier) instanceof PlayerPlaceholderImpl) return true;
+        }
+        return false;
+    }
+
     /**
      * Returns last known value
      *
@@ -291,4 +317,46 @@ public class Property {
     public static String randomName() {
         return String.valueOf(counter++);
     }
+
+    /**
+     * Fills values of placeholders into raw formatted value and colorizes the result.
+     *
+     * @param   format
+     *          Raw formatted value
+     * @param   values
+     *          Values of placeholders in the order they appear in
+     * @return  Formatted and colorized value
+     */
+    @NotNull
+    private static String format(@NotNull String format, @NotNull String[] values) {
+        return EnumChatFormat.color(String.format(format, (Object[]) values));
+    }
+
+    /**
+     * Raw formatted value with values of its placeholders, identifying the formatted result.
+     */
+    private static class FormatKey {
+
+        @NotNull private final String format;
+        @NotNull private final String[] values;
+        private final int hash;
+
+        private FormatKey(@NotNull String format, @NotNull String[] values) {
+            this.format = format;
+            this.values = values;
+            hash = 31 * format.hashCode() + Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof FormatKey)) return false;
+            FormatKey other = (FormatKey) o;
+            return hash == other.hash && format.equals(other.format) && Arrays.equals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
\ No newline at end of file
@@ -13,6 +13,7 @@ import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.chat.SimpleComponent;
 import me.neznamy.tab.shared.config.helper.ConfigHelper;
 import me.neznamy.tab.shared.cpu.CpuManager;
+import me.neznamy.tab.shared.cpu.EventRecorder;
 import me.neznamy.tab.shared.features.nametags.NameTag;
 import me.neznamy.tab.shared.platform.Platform;
 import me.neznamy.tab.shared.command.DisabledCommand;
@@ -21,6 +22,7 @@ import me.neznamy.tab.shared.config.Configs;
 import me.neznamy.tab.shared.event.EventBusImpl;
 import me.neznamy.tab.shared.event.impl.TabLoadEventImpl;
 import me.neznamy.tab.shared.features.PlaceholderManagerImpl;
+import me.neznamy.tab.shared.features.OnlinePlayerCounterImpl;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.proxy.ProxyPlatform;
 import org.jetbrains.annotations.NotNull;
@@ -28,9 +30,13 @@ import org.jetbrains.annotations.Nullable;
 import org.yaml.snakeyaml.error.YAMLException;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -50,9 +56,19 @@ public class TAB extends TabAPI {
     /** Players by their TabList UUID for faster lookup */
     private final Map<UUID, TabPlayer> playersByTabListId = new ConcurrentHashMap<>();
 
-    /** Online player array to avoid memory allocation when iterating */
+    /** Players by their lowercase name for faster lookup */
+    private final Map<String, TabPlayer> playersByName = new ConcurrentHashMap<>();
+
+    /**
+     * Online player array to avoid memory allocation when iterating. The array is never
+     * modified, a new copy is created on every join and quit instead, so it can be
+     * iterated from any thread without locking.
+     */
     private volatile TabPlayer[] onlinePlayers = new TabPlayer[0];
 
+    /** Immutable view of {@link #onlinePlayers} returned by API, recreated together with the array */
+    private volatile Collection<TabPlayer> onlinePlayerView = Collections.emptyList();
+
     /** Instance of plugin's main command */
     private TabCommand command;
 
@@ -88,6 +104,9 @@ public class TAB extends TabAPI {
     /** Placeholder manager for fast access */
     private PlaceholderManagerImpl placeholderManager;
 
+    /** Online player counter for online placeholders */
+    private OnlinePlayerCounterImpl onlinePlayerCounter;
+
     /** Group manager for getting groups of players */
     private GroupManager groupManager;
 
@@ -167,37 +186,131 @@ public class TAB extends TabAPI {
      * @return  Load status message.
      */
     public String load() {
+        return load(null);
+    }
+
+    /**
+     * Loads the plugin using given configuration or parses configuration files
+     * if {@code null}. See {@link #load()}.
+     *
+     * @param   parsedConfiguration
+     *          Already parsed configuration files or {@code null} to parse them
+     * @return  Load status message.
+     */
+    private String load(@Nullable Configs parsedConfiguration) {
         try {
             long time = System.currentTimeMillis();
+            StringJoiner phases = new StringJoiner(", ", " (", ")");
+            long phase = time;
             cpu = new CpuManager();
-            configuration = new Configs();
+            configuration = parsedConfiguration == null ? new Configs() : parsedConfiguration;
+            configuration.connectMySQL();
+            phase = endPhase(phases, "configuration", phase);
             featureManager = new FeatureManager();
             placeholderManager = new PlaceholderManagerImpl(cpu);
             featureManager.registerFeature(TabConstants.Feature.PLACEHOLDER_MANAGER, placeholderManager);
+            onlinePlayerCounter = new OnlinePlayerCounterImpl();
+            featureManager.registerFeature(TabConstants.Feature.ONLINE_PLAYER_COUNTER, onlinePlayerCounter);
             groupManager = platform.detectPermissionPlugin();
             platform.registerPlaceholders();
+            phase = endPhase(phases, "placeholders", phase);
             featureManager.loadFeaturesFromConfig();
+            phase = endPhase(phases, "features", phase);
             platform.loadPlayers();
             command = new TabCommand();
+            phase = endPhase(phases, "players", phase);
             featureManager.load();
             for (TabPlayer p : onlinePlayers) p.markAsLoaded(false);
+            endPhase(phases, "feature loading", phase);
             if (eventBus != null) eventBus.fire(TabLoadEventImpl.getInstance());
             pluginDisabled = false;
             cpu.enable();
             configHelper.startup().checkErrorLog();
             configHelper.startup().printWarnCount();
-            platform.logInfo(new SimpleComponent(EnumChatFormat.GREEN + "Enabled in " + (System.currentTimeMillis()-time) + "ms"));
+            platform.logInfo(new SimpleComponent(EnumChatFormat.GREEN + "Enabled in " + (System.currentTimeMillis()-time) + "ms" + phases));
             return configuration.getMessages().getReloadSuccess();
-        } catch (YAMLException e) {
-            platform.logWarn(new SimpleComponent(EnumChatFormat.RED + "Did not enable due to a broken configuration file."));
+        } catch (Throwable e) {
             kill();
+            return reportLoadFailure(e);
+        }
+    }
+
+    /**
+     * Prints reason why the plugin failed to load into the console and returns
+     * failure message to send to command sender.
+     *
+     * @param   e
+     *          Exception which prevented the plugin from loading
+     * @return  Load failure message
+     */
+    @NotNull
+    private String reportLoadFailure(@NotNull Throwable e) {
+        if (e instanceof YAMLException) {
+            platform.logWarn(new SimpleComponent(EnumChatFormat.RED + "Did not enable due to a broken configuration file."));
             return (configuration == null ? "&4Failed to reload, file %file% has broken syntax. Check console for more info."
                     : configuration.getMessages().getReloadFailBrokenFile()).replace("%file%", brokenFile);
+        }
+        errorManager.criticalError("Failed to enable. Did you just invent a new way to break the plugin by misconfiguring it?", e);
+        return "&cFailed to enable due to an internal plugin error. Check console for more info.";
+    }
+
+    /**
+     * Adds time since start of a startup phase to the phase list and returns current time
+     * as start of the next phase.
+     *
+     * @param   phases
+     *          List of phases with their times
+     * @param   name
+     *          Name of the phase that ended
+     * @param   start
+     *          Time when the phase started
+     * @return  Current time
+     */
+    private long endPhase(@NotNull StringJoiner phases, @NotNull String name, long start) {
+        long now = System.currentTimeMillis();
+        phases.add(name + " " + (now-start) + "ms");
+        return now;
+    }
+
+    /**
+     * Reloads configuration files. Groups, users and messages are applied to running features,
+     * which only send packets for values that actually changed. Features owning changed config.yml
+     * sections are restarted on their own. If anything else changed, all features are unloaded
+     * and loaded again.
+     * Returns reload status message, which is either success or failure.
+     *
+     * @return  Reload status message.
+     */
+    public String reload() {
+        EventRecorder.Operation operation = EventRecorder.reload();
+        Configs newConfiguration;
+        try {
+            newConfiguration = new Configs();
         } catch (Throwable e) {
-            errorManager.criticalError("Failed to enable. Did you just invent a new way to break the plugin by misconfiguring it?", e);
-            kill();
-            return "&cFailed to enable due to an internal plugin error. Check console for more info.";
+            unload();
+            operation.end();
+            return reportLoadFailure(e);
+        }
+        if (!pluginDisabled) {
+            Set<String> changedSections = configuration.getChangedSections(newConfiguration);
+            if (changedSections != null && featureManager.canRestart(changedSections)) {
+                long time = System.currentTimeMillis();
+                newConfiguration.takeOver(configuration);
+                configuration = newConfiguration;
+                Map<String, Long> featureTimes = featureManager.restart(changedSections);
+                featureManager.refreshAll().forEach((feature, featureTime) -> featureTimes.merge(feature, featureTime, Long::sum));
+                featureTimes.forEach((feature, featureTime) -> debug("Feature " + feature + " applied changes in " + featureTime + "ms"));
+                platform.logInfo(new SimpleComponent(EnumChatFormat.GREEN + "Applied changes to " + featureTimes.size() + " features" +
+                        (changedSections.isEmpty() ? "" : " and restarted features of " + String.join(", ", changedSections)) +
+                        " in " + (System.currentTimeMillis()-time) + "ms"));
+                operation.end(featureTimes.size());
+                return configuration.getMessages().getReloadSuccess();
+            }
         }
+        unload();
+        String message = load(newConfiguration);
+        operation.end();
+        return message;
     }
 
     /**
@@ -222,34 +335,77 @@ public class TAB extends TabAPI {
      */
     private void kill() {
         pluginDisabled = true;
-        data.clear();
-        playersByTabListId.clear();
-        onlinePlayers = new TabPlayer[0];
+        if (groupManager != null) groupManager.unload();
+        synchronized (data) {
+            data.clear();
+            playersByTabListId.clear();
+            playersByName.clear();
+            setOnlinePlayers(new TabPlayer[0]);
+        }
         cpu.cancelAllTasks();
     }
 
     /**
-     * Adds specified player to online players
+     * Adds specified player to online players. If a player with the same
+     * UUID is already online, it is replaced.
      *
      * @param   player
      *          Player to add
      */
     public void addPlayer(@NotNull TabPlayer player) {
-        data.put(player.getUniqueId(), player);
-        playersByTabListId.put(player.getTablistId(), player);
-        onlinePlayers = data.values().toArray(new TabPlayer[0]);
+        synchronized (data) {
+            TabPlayer previous = data.put(player.getUniqueId(), player);
+            if (previous != null) {
+                playersByTabListId.remove(previous.getTablistId(), previous);
+                playersByName.remove(previous.getName().toLowerCase(Locale.US), previous);
+            }
+            playersByTabListId.put(player.getTablistId(), player);
+            playersByName.put(player.getName().toLowerCase(Locale.US), player);
+            TabPlayer[] players = onlinePlayers;
+            int index = previous == null ? -1 : indexOf(players, previous);
+            if (index == -1) {
+                players = Arrays.copyOf(players, players.length + 1);
+                index = players.length - 1;
+            } else {
+                players = players.clone();
+            }
+            players[index] = player;
+            setOnlinePlayers(players);
+        }
     }
 
     /**
-     * Removes specified player from online players
+     * Removes specified player from online players. If the player was already
+     * replaced by another instance with the same UUID, nothing happens.
      *
      * @param   player
      *          Player to remove
      */
     public void removePlayer(@NotNull TabPlayer player) {
-        data.remove(player.getUniqueId());
-        playersByTabListId.remove(player.getTablistId());
-        onlinePlayers = data.values().toArray(new TabPlayer[0]);
+        synchronized (data) {
+            if (!data.remove(player.getUniqueId(), player)) return;
+            playersByTabListId.remove(player.getTablistId(), player);
+            playersByName.remove(player.getName().toLowerCase(Locale.US), player);
+            TabPlayer[] players = onlinePlayers;
+            int index = indexOf(players, player);
+            if (index == -1) return;
+            TabPlayer[] newPlayers = new TabPlayer[players.length - 1];
+            System.arraycopy(players, 0, newPlayers, 0, index);
+            System.arraycopy(players, index + 1, newPlayers, index, newPlayers.length - index);
+            setOnlinePlayers(newPlayers);
+        }
+    }
+
+    private int indexOf(@NotNull TabPlayer[] players, @NotNull TabPlayer player) {
+        for (int i = 0; i < players.length; i++) {
+            if (players[i] == player) return i;
+        }
+        return -1;
+    }
+
+    private void setOnlinePlayers(@NotNull TabPlayer[] players) {
+        onlinePlayers = players;
+        onlinePlayerView = Collections.unmodifiableList(Arrays.asList(players));
     }
 
     /**
@@ -279,10 +435,7 @@ public class TAB extends TabAPI {
 
     @Override
     public @Nullable TabPlayer getPlayer(@NotNull String name) {
-        for (TabPlayer p : data.values()) {
-            if (p.getName().equalsIgnoreCase(name)) return p;
-        }
-        return null;
+        return playersByName.get(name.toLowerCase(Locale.US));
     }
 
     @Override
@@ -297,7 +450,7 @@ public class TAB extends TabAPI {
 
     @Override
     public @NotNull Collection<? extends TabPlayer> onlinePlayers() {
-        return Collections.unmodifiableCollection(data.values());
+        return onlinePlayerView;
     }
 
     @Override
@@ -315,6 +468,11 @@ public class TAB extends TabAPI {
         return featureManager.getFeature(TabConstants.Feature.SORTING);
     }
 
+    @Override
+    public @NotNull OnlinePlayerCounterImpl getOnlinePlayerCounter() {
+        return onlinePlayerCounter;
+    }
+
     /**
      * Sends a debug message into console if the option
      * is enabled in config.
@@ -57,7 +57,6 @@ public class TabConstants {
         public static final String NICK_PLUGIN_COMPATIBILITY = "Compatibility with nick plugins";
         public static final String BYTE_BUF = "ByteBuf";
         public static final String PACKET_PLAYER_MOVE = "Processing player move";
-        public static final String PACKET_ENTITY_MOVE_PASSENGER = "Processing entity move (with player passenger)";
         public static final String PACKET_ENTITY_SPAWN = "Processing entity spawn";
         public static final String PACKET_ENTITY_DESTROY = "Processing entity destroy";
         public static final String RAW_PACKET_OUT = "Packet reading (out)";
@@ -76,6 +75,47 @@ public class TabConstants {
         public static final String REFRESHING_NAME_TAG_VISIBILITY = "Refreshing NameTag visibility";
         public static final String PROCESSING_PLAYER_MOVEMENT = "Processing player movement";
         public static final String TELEPORTING_WITHER = "Teleporting wither";
+        public static final String STAFF_STATUS_REFRESH = "Refreshing staff status";
+    }
+
+    /**
+     * Types of packets sent by the plugin, used to count them
+     * in the metrics endpoint.
+     */
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class PacketCategory {
+
+        // Scoreboard
+        public static final String DISPLAY_OBJECTIVE = "display_objective";
+        public static final String SCORE_SET = "score_set";
+        public static final String SCORE_REMOVE = "score_remove";
+        public static final String OBJECTIVE_REGISTER = "objective_register";
+        public static final String OBJECTIVE_UNREGISTER = "objective_unregister";
+        public static final String OBJECTIVE_UPDATE = "objective_update";
+        public static final String TEAM_REGISTER = "team_register";
+        public static final String TEAM_UNREGISTER = "team_unregister";
+        public static final String TEAM_UPDATE = "team_update";
+
+        // TabList
+        public static final String TABLIST_ADD_ENTRY = "tablist_add_entry";
+        public static final String TABLIST_DISPLAY_NAME = "tablist_display_name";
+        public static final String TABLIST_HEADER_FOOTER = "tablist_header_footer";
+        public static final String TABLIST_REMOVE_ENTRY = "tablist_remove_entry";
+        public static final String TABLIST_LATENCY = "tablist_latency";
+        public static final String TABLIST_GAME_MODE = "tablist_game_mode";
+        public static final String TABLIST_LISTED = "tablist_listed";
+
+        // BossBar
+        public static final String BOSSBAR_CREATE = "bossbar_create";
+        public static final String BOSSBAR_UPDATE = "bossbar_update";
+        public static final String BOSSBAR_REMOVE = "bossbar_remove";
+
+        // Entities (unlimited nametags)
+        public static final String ENTITY_SPAWN = "entity_spawn";
+        public static final String ENTITY_METADATA = "entity_metadata";
+        public static final String ENTITY_TELEPORT = "entity_teleport";
+        public static final String ENTITY_MOVE = "entity_move";
+        public static final String ENTITY_DESTROY = "entity_destroy";
     }
 
     /**
@@ -173,6 +213,8 @@ public class TabConstants {
         public static final String UNLIMITED_NAME_TAGS_PACKET_LISTENER = "nametagx-packet";
         public static final String UNLIMITED_NAME_TAGS_VEHICLE_REFRESHER = "nametagx-vehicle";
         public static final String PING_SPOOF = "PingSpoof";
+        public static final String METRICS_ENDPOINT = "MetricsEndpoint";
+        public static final String ONLINE_PLAYER_COUNTER = "OnlinePlayerCounter";
 
         //Bukkit only
         public static final String PER_WORLD_PLAYER_LIST = "PerWorldPlayerList";
@@ -18,7 +18,8 @@ public interface BackendPlatform extends Platform {
     @Override
     @NotNull default GroupManager detectPermissionPlugin() {
         if (LuckPermsHook.getInstance().isInstalled()) {
-            return new GroupManager("LuckPerms", LuckPermsHook.getInstance().getGroupFunction());
+            return new GroupManager("LuckPerms", LuckPermsHook.getInstance().getGroupFunction(),
+                    LuckPermsHook.getInstance()::subscribeGroupChanges);
         }
         return new GroupManager("None", p -> TabConstants.NO_GROUP);
     }
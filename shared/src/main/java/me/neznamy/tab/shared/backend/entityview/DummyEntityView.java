@@ -97,4 +97,9 @@ public class DummyEntityView implements EntityView {
     public void moveEntity(int entityId, @NotNull Location moveDiff) {
         // Do nothing
     }
+
+    @Override
+    public void sendBundled(@NotNull Runnable task) {
+        task.run();
+    }
 }
@@ -12,6 +12,9 @@ import java.util.UUID;
  */
 public interface EntityView {
 
+    /** Maximum amount of packets in a bundle accepted by the client */
+    int MAX_BUNDLE_SIZE = 4096;
+
     /**
      * Sends spawn entity packet.
      *
@@ -165,6 +168,16 @@ public interface EntityView {
     @NotNull
     Location getMoveDiff(@NotNull Object movePacket);
 
+    /**
+     * Returns the highest absolute value of a coordinate difference which can be
+     * sent in a relative move packet, in units returned by {@link #getMoveDiff(Object)}.
+     *
+     * @return  Highest coordinate difference of a relative move packet
+     */
+    default int getMaxMoveDiff() {
+        return Short.MAX_VALUE;
+    }
+
     /**
      * Moves entity by given position difference.
      *
@@ -174,4 +187,14 @@ public interface EntityView {
      *          Relative position difference
      */
     void moveEntity(int entityId, @NotNull Location moveDiff);
+
+    /**
+     * Runs given task and sends all packets sent by this view from the current thread
+     * during it at once. Packets sent from other threads in the meantime are sent directly.
+     * On 1.19.4+ they are sent in bundle packets, on older versions one by one.
+     *
+     * @param   task
+     *          Task sending packets
+     */
+    void sendBundled(@NotNull Runnable task);
 }
@@ -230,21 +230,11 @@ public class ArmorStand {
     public double getYLocation(@NotNull TabPlayer viewer) {
         double y = manager.getY(owner.getPlayer());
         //1.14+ server sided bug
-        Object vehicle = manager.getVehicle(owner);
+        Object vehicle = manager.getVehicleManager().getVehicle(owner);
         if (vehicle != null) {
-            String type = manager.getEntityType(vehicle);
-            double vehicleY = manager.getY(vehicle);
-            if (type.contains("horse")) { //covering all 3 horse types
-                y = vehicleY + 0.85;
-            }
-            if (type.equals("donkey")) { //1.11+
-                y = vehicleY + 0.525;
-            }
-            if (type.equals("pig")) {
-                y = vehicleY + 0.325;
-            }
-            if (type.equals("strider")) { //1.16+
-                y = vehicleY + 1.15;
+            double vehicleOffset = manager.getVehicleManager().getVehicleOffset(owner);
+            if (!Double.isNaN(vehicleOffset)) {
+                y = manager.getY(vehicle) + vehicleOffset;
             }
         } else {
             //1.13+ swimming or 1.9+ flying with elytra
@@ -26,7 +26,7 @@ public class BackendArmorStandManager implements ArmorStandManager {
     private final ArmorStand[] armorStandArray;
 
     /** Players in entity tracking range of owner */
-    private final List<BackendTabPlayer> nearbyPlayerList = new ArrayList<>();
+    private final Set<BackendTabPlayer> nearbyPlayerSet = new LinkedHashSet<>();
 
     /** Nearby players in an array for speed while iterating */
     @Getter private BackendTabPlayer[] nearbyPlayers = new BackendTabPlayer[0];
@@ -96,7 +96,7 @@ public class BackendArmorStandManager implements ArmorStandManager {
      * @return  {@code true} if player nearby, {@code false} if not
      */
     public boolean isNearby(@NotNull BackendTabPlayer viewer) {
-        return nearbyPlayerList.contains(viewer);
+        return nearbyPlayerSet.contains(viewer);
     }
 
     /**
@@ -155,8 +155,7 @@ public class BackendArmorStandManager implements ArmorStandManager {
      *          player to spawn armor stands for
      */
     public void spawn(@NotNull BackendTabPlayer viewer) {
-        nearbyPlayerList.add(viewer);
-        nearbyPlayers = nearbyPlayerList.toArray(new BackendTabPlayer[0]);
+        if (nearbyPlayerSet.add(viewer)) nearbyPlayers = nearbyPlayerSet.toArray(new BackendTabPlayer[0]);
         if (viewer.getVersion().getMinorVersion() < 8) return;
         for (ArmorStand a : armorStandArray) a.spawn(viewer);
     }
@@ -182,7 +181,7 @@ public class BackendArmorStandManager implements ArmorStandManager {
      *          player to remove
      */
     public void unregisterPlayer(@NotNull BackendTabPlayer viewer) {
-        if (nearbyPlayerList.remove(viewer)) nearbyPlayers = nearbyPlayerList.toArray(new BackendTabPlayer[0]);
+        if (nearbyPlayerSet.remove(viewer)) nearbyPlayers = nearbyPlayerSet.toArray(new BackendTabPlayer[0]);
     }
 
     public void updateVisibility(boolean force) {
@@ -209,7 +208,7 @@ public class BackendArmorStandManager implements ArmorStandManager {
                 viewer.getEntityView().destroyEntities(as.getEntityId());
             }
         }
-        nearbyPlayerList.clear();
+        nearbyPlayerSet.clear();
         nearbyPlayers = new BackendTabPlayer[0];
     }
 
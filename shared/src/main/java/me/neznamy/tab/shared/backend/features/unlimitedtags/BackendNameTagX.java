@@ -12,7 +12,6 @@ import me.neznamy.tab.shared.features.nametags.unlimited.NameTagX;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
 import java.util.UUID;
 
 public abstract class BackendNameTagX extends NameTagX implements GameModeListener, PacketSendListener {
@@ -52,9 +51,10 @@ public abstract class BackendNameTagX extends NameTagX implements GameModeListen
     @Override
     public void load() {
         super.load();
+        PlayerGrid grid = new PlayerGrid(this, ENTITY_TRACKING_RANGE, TAB.getInstance().onlinePlayers());
         for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
             if (isPlayerDisabled(all)) continue;
-            for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
+            for (TabPlayer viewer : grid.getNearbyCandidates(all)) {
                 spawnArmorStands(viewer, all);
             }
         }
@@ -157,9 +157,7 @@ public abstract class BackendNameTagX extends NameTagX implements GameModeListen
 
     @Override
     public void onGameModeChange(@NotNull TabPlayer player) {
-        for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
-            getArmorStandManager(player).updateMetadata((BackendTabPlayer) viewer);
-        }
+        getArmorStandManager(player).updateMetadata();
     }
 
     @Override
@@ -210,7 +208,7 @@ public abstract class BackendNameTagX extends NameTagX implements GameModeListen
 
     public abstract void unregisterListener();
 
-    public abstract @NotNull List<Integer> getPassengers(@NotNull Object vehicle);
+    public abstract @NotNull int[] getPassengers(@NotNull Object vehicle);
 
     public abstract @Nullable Object getVehicle(@NotNull TabPlayer player);
 
@@ -10,11 +10,12 @@ import me.neznamy.tab.shared.features.types.TabFeature;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.backend.BackendTabPlayer;
+import me.neznamy.tab.shared.util.IntMap;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * The packet listening part for securing proper functionality of armor stands.
@@ -22,6 +23,8 @@ import java.util.concurrent.ConcurrentHashMap;
  * if trying to listen to move event.
  * For entering/leaving tracking range there are no events and
  * periodic / move-triggered distance checks would cause high CPU usage.
+ * Armor stand movements are not sent for every packet, but collected and sent
+ * together by a single task as soon as the processing thread gets to it.
  */
 @RequiredArgsConstructor
 public class PacketListener extends TabFeature implements JoinListener, QuitListener, Loadable {
@@ -29,8 +32,20 @@ public class PacketListener extends TabFeature implements JoinListener, QuitList
     /** Reference to the main feature */
     protected final BackendNameTagX nameTagX;
 
-    /** A player map by entity id, used for better performance */
-    private final Map<Integer, TabPlayer> entityIdMap = new ConcurrentHashMap<>();
+    /** Pending movement requiring a teleport instead of relative move */
+    private static final Location TELEPORT = new Location(0, 0, 0);
+
+    /** A player map by entity id, used for better performance without boxing on netty threads */
+    private final IntMap<TabPlayer> entityIdMap = new IntMap<>();
+
+    /**
+     * Armor stand movements waiting to be sent by viewer and armor stand owner. Value is
+     * either summed relative position difference or {@link #TELEPORT}.
+     */
+    private final Map<BackendTabPlayer, Map<TabPlayer, Location>> pendingMovements = new ConcurrentHashMap<>();
+
+    /** Flag tracking whether sending of pending movements is already scheduled */
+    private final AtomicBoolean sendScheduled = new AtomicBoolean();
 
     @Override
     public void load() {
@@ -47,6 +62,10 @@ public class PacketListener extends TabFeature implements JoinListener, QuitList
     @Override
     public void onQuit(@NotNull TabPlayer disconnectedPlayer) {
         entityIdMap.remove(nameTagX.getEntityId(disconnectedPlayer));
+        pendingMovements.remove(disconnectedPlayer);
+        for (Map<TabPlayer, Location> movements : pendingMovements.values()) {
+            movements.remove(disconnectedPlayer);
+        }
     }
 
     /**
@@ -114,19 +133,15 @@ public class PacketListener extends TabFeature implements JoinListener, QuitList
         if (pl != null) {
             // player moved
             if (nameTagX.isPlayerDisabled(pl) || !pl.isLoaded()) return;
-            BackendArmorStandManager asm = nameTagX.getArmorStandManager(pl);
-            TAB.getInstance().getCPUManager().runMeasuredTask(getFeatureName(), TabConstants.CpuUsageCategory.PACKET_PLAYER_MOVE,
-                    () -> asm.move(receiver, positionDiff));
+            addMovement(receiver, pl, positionDiff);
         } else {
             // a non-player entity moved
-            for (Integer entity : nameTagX.getVehicleManager().getVehicles().getOrDefault(entityId, Collections.emptyList())) {
+            int[] passengers = nameTagX.getVehicleManager().getVehicles().get(entityId);
+            if (passengers == null) return;
+            for (int entity : passengers) {
                 TabPlayer passenger = entityIdMap.get(entity);
                 if (passenger != null) {
-                    BackendArmorStandManager asm = nameTagX.getArmorStandManager(passenger);
-                    if (asm != null) {
-                        TAB.getInstance().getCPUManager().runMeasuredTask(getFeatureName(), TabConstants.CpuUsageCategory.PACKET_ENTITY_MOVE_PASSENGER,
-                                () -> asm.move(receiver, positionDiff));
-                    }
+                    addMovement(receiver, passenger, positionDiff);
                 }
             }
         }
@@ -148,24 +163,86 @@ public class PacketListener extends TabFeature implements JoinListener, QuitList
         if (pl != null) {
             // player teleported
             if (nameTagX.isPlayerDisabled(pl) || !pl.isLoaded()) return;
-            BackendArmorStandManager asm = nameTagX.getArmorStandManager(pl);
-            TAB.getInstance().getCPUManager().runMeasuredTask(getFeatureName(), TabConstants.CpuUsageCategory.PACKET_PLAYER_MOVE,
-                    () -> asm.teleport(receiver));
+            addMovement(receiver, pl, TELEPORT);
         } else {
             // a non-player entity teleported
-            for (Integer entity : nameTagX.getVehicleManager().getVehicles().getOrDefault(entityId, Collections.emptyList())) {
+            int[] passengers = nameTagX.getVehicleManager().getVehicles().get(entityId);
+            if (passengers == null) return;
+            for (int entity : passengers) {
                 TabPlayer passenger = entityIdMap.get(entity);
                 if (passenger != null) {
-                    BackendArmorStandManager asm = nameTagX.getArmorStandManager(passenger);
-                    if (asm != null) {
-                        TAB.getInstance().getCPUManager().runMeasuredTask(getFeatureName(), TabConstants.CpuUsageCategory.PACKET_ENTITY_MOVE_PASSENGER,
-                                () -> asm.teleport(receiver));
-                    }
+                    addMovement(receiver, passenger, TELEPORT);
                 }
             }
         }
     }
 
+    /**
+     * Adds armor stand movement to be sent with other movements. If armor stands of the
+     * player already have a pending movement for the viewer, relative moves are added together.
+     *
+     * @param   viewer
+     *          Player viewing the armor stands
+     * @param   owner
+     *          Owner of the armor stands
+     * @param   movement
+     *          Relative position difference or {@link #TELEPORT}
+     */
+    private void addMovement(@NotNull BackendTabPlayer viewer, @NotNull TabPlayer owner, @NotNull Location movement) {
+        pendingMovements.computeIfAbsent(viewer, v -> new ConcurrentHashMap<>()).merge(owner, movement,
+                (previous, current) -> combine(viewer, previous, current));
+        if (sendScheduled.compareAndSet(false, true)) {
+            TAB.getInstance().getCPUManager().runMeasuredTask(getFeatureName(),
+                    TabConstants.CpuUsageCategory.PACKET_PLAYER_MOVE, this::sendMovements);
+        }
+    }
+
+    /**
+     * Combines two pending movements into one. Relative moves are added together,
+     * unless the result would not fit into a single relative move packet.
+     *
+     * @param   viewer
+     *          Player viewing the armor stands
+     * @param   previous
+     *          Movement which is already pending
+     * @param   current
+     *          New movement
+     * @return  Combined movement
+     */
+    @NotNull
+    private Location combine(@NotNull BackendTabPlayer viewer, @NotNull Location previous, @NotNull Location current) {
+        if (previous == TELEPORT || current == TELEPORT) return TELEPORT;
+        Location sum = new Location(previous.getX() + current.getX(), previous.getY() + current.getY(), previous.getZ() + current.getZ());
+        int max = viewer.getEntityView().getMaxMoveDiff();
+        if (Math.abs(sum.getX()) > max || Math.abs(sum.getY()) > max || Math.abs(sum.getZ()) > max) return TELEPORT;
+        return sum;
+    }
+
+    /**
+     * Sends all pending armor stand movements, for each viewer at once.
+     */
+    private void sendMovements() {
+        sendScheduled.set(false);
+        for (Map.Entry<BackendTabPlayer, Map<TabPlayer, Location>> entry : pendingMovements.entrySet()) {
+            BackendTabPlayer viewer = entry.getKey();
+            Map<TabPlayer, Location> movements = entry.getValue();
+            if (movements.isEmpty()) continue;
+            viewer.getEntityView().sendBundled(() -> {
+                for (TabPlayer owner : movements.keySet()) {
+                    Location movement = movements.remove(owner);
+                    if (movement == null || nameTagX.isPlayerDisabled(owner) || !owner.isLoaded()) continue;
+                    BackendArmorStandManager asm = nameTagX.getArmorStandManager(owner);
+                    if (asm == null) continue;
+                    if (movement == TELEPORT) {
+                        asm.teleport(viewer);
+                    } else {
+                        asm.move(viewer, movement);
+                    }
+                }
+            });
+        }
+    }
+
     /**
      * Processes entity destroy packet and destroys armor stands if
      * entity ID belongs to an online player.
@@ -0,0 +1,80 @@
+package me.neznamy.tab.shared.backend.features.unlimitedtags;
+
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Snapshot of player positions split into square cells per world. Used to
+ * find players who may be in entity tracking range of a player without
+ * checking distance to every online player.
+ */
+public class PlayerGrid {
+
+    /** Main feature for retrieving player positions */
+    private final BackendNameTagX nameTagX;
+
+    /** Size of a cell in blocks */
+    private final int cellSize;
+
+    /** Players by world and cell */
+    private final Map<String, Map<Long, List<TabPlayer>>> cells = new HashMap<>();
+
+    /**
+     * Constructs new instance and puts all given players into their cells.
+     *
+     * @param   nameTagX
+     *          Main feature
+     * @param   cellSize
+     *          Size of a cell in blocks, players further than this
+     *          are never returned as candidates
+     * @param   players
+     *          Players to put into the grid
+     */
+    public PlayerGrid(@NotNull BackendNameTagX nameTagX, int cellSize, @NotNull Collection<? extends TabPlayer> players) {
+        this.nameTagX = nameTagX;
+        this.cellSize = cellSize;
+        for (TabPlayer player : players) {
+            cells.computeIfAbsent(player.getWorld(), w -> new HashMap<>())
+                    .computeIfAbsent(cellKey(cellX(player), cellZ(player)), c -> new ArrayList<>()).add(player);
+        }
+    }
+
+    /**
+     * Returns players from cells surrounding specified player, including the player
+     * itself. Since cells are as big as the searched distance, all players within
+     * that distance are included, but players slightly further may be included as well.
+     *
+     * @param   player
+     *          Player to get nearby players of
+     * @return  Players who may be within cell size distance from specified player
+     */
+    @NotNull
+    public List<TabPlayer> getNearbyCandidates(@NotNull TabPlayer player) {
+        Map<Long, List<TabPlayer>> world = cells.get(player.getWorld());
+        if (world == null) return Collections.emptyList();
+        int x = cellX(player);
+        int z = cellZ(player);
+        List<TabPlayer> candidates = new ArrayList<>();
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                List<TabPlayer> cell = world.get(cellKey(x + dx, z + dz));
+                if (cell != null) candidates.addAll(cell);
+            }
+        }
+        return candidates;
+    }
+
+    private int cellX(@NotNull TabPlayer player) {
+        return (int) Math.floor(nameTagX.getX(player) / cellSize);
+    }
+
+    private int cellZ(@NotNull TabPlayer player) {
+        return (int) Math.floor(nameTagX.getZ(player) / cellSize);
+    }
+
+    private long cellKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+}
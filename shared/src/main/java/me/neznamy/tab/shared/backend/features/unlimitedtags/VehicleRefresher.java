@@ -7,7 +7,9 @@ import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.backend.BackendTabPlayer;
 import me.neznamy.tab.shared.features.types.*;
+import me.neznamy.tab.shared.util.IntMap;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -20,19 +22,23 @@ import java.util.concurrent.ConcurrentHashMap;
  * animation.
  * Additionally, when entering a vehicle, no move packet is sent
  * and therefore manual teleporting of armor stands is required.
+ * While riding, armor stands follow move packets of the vehicle.
  */
 @RequiredArgsConstructor
 public class VehicleRefresher extends TabFeature implements JoinListener, QuitListener, Loadable, Refreshable {
 
-    /** Map of players currently in a vehicle */
-    private final HashMap<TabPlayer, Object> playersInVehicle = new HashMap<>();
+    /**
+     * Height of armor stands above vehicle position by vehicle type, {@code NaN} for vehicles
+     * where player's own position is correct. Computed once per type.
+     */
+    private static final Map<String, Double> VEHICLE_OFFSETS = new ConcurrentHashMap<>();
 
-    /** Array of players in vehicles to iterate over */
-    private TabPlayer[] playersInVehicleArray = new TabPlayer[0];
+    /** Map of players currently in a vehicle */
+    private final Map<TabPlayer, RiddenVehicle> playersInVehicle = new ConcurrentHashMap<>();
 
-    /** Map of vehicles carrying players */
+    /** Entity ids of passengers by entity id of vehicles carrying players */
     @Getter
-    private final Map<Integer, List<Integer>> vehicles = new ConcurrentHashMap<>();
+    private final IntMap<int[]> vehicles = new IntMap<>();
 
     /** Reference to the main feature */
     private final BackendNameTagX feature;
@@ -41,9 +47,6 @@ public class VehicleRefresher extends TabFeature implements JoinListener, QuitLi
     public void load() {
         TAB.getInstance().getCPUManager().startRepeatingMeasuredTask(50,
                 getFeatureName(), TabConstants.CpuUsageCategory.PROCESSING_PLAYER_MOVEMENT, () -> {
-                    for (TabPlayer inVehicle : playersInVehicleArray) {
-                        feature.getArmorStandManager(inVehicle).teleport();
-                    }
                     for (TabPlayer p : TAB.getInstance().getOnlinePlayers()) {
                         if (p.unlimitedNametagData.previewing) {
                             feature.getArmorStandManager(p).teleport((BackendTabPlayer) p);
@@ -76,10 +79,14 @@ public class VehicleRefresher extends TabFeature implements JoinListener, QuitLi
 
     @Override
     public void onQuit(@NotNull TabPlayer disconnectedPlayer) {
-        if (playersInVehicle.containsKey(disconnectedPlayer)) vehicles.remove(feature.getEntityId(playersInVehicle.remove(disconnectedPlayer)));
-        playersInVehicleArray = playersInVehicle.keySet().toArray(new TabPlayer[0]);
-        for (List<Integer> entities : vehicles.values()) {
-            entities.remove((Integer)feature.getEntityId(disconnectedPlayer));
+        RiddenVehicle vehicle = playersInVehicle.remove(disconnectedPlayer);
+        if (vehicle != null) vehicles.remove(feature.getEntityId(vehicle.entity));
+        int entityId = feature.getEntityId(disconnectedPlayer);
+        for (int vehicleId : vehicles.keys()) {
+            int[] passengers = vehicles.get(vehicleId);
+            if (passengers == null) continue;
+            int[] remaining = Arrays.stream(passengers).filter(id -> id != entityId).toArray();
+            if (remaining.length != passengers.length) vehicles.put(vehicleId, remaining);
         }
     }
 
@@ -89,9 +96,8 @@ public class VehicleRefresher extends TabFeature implements JoinListener, QuitLi
         Object vehicle = feature.getVehicle(p);
         if (playersInVehicle.containsKey(p) && vehicle == null) {
             //vehicle exit
-            vehicles.remove(feature.getEntityId(playersInVehicle.remove(p)));
+            vehicles.remove(feature.getEntityId(playersInVehicle.remove(p).entity));
             feature.getArmorStandManager(p).teleport();
-            playersInVehicleArray = playersInVehicle.keySet().toArray(new TabPlayer[0]);
             if (feature.isDisableOnBoats() && p.unlimitedNametagData.onBoat) {
                 p.unlimitedNametagData.onBoat = false;
                 feature.updateTeamData(p);
@@ -101,8 +107,8 @@ public class VehicleRefresher extends TabFeature implements JoinListener, QuitLi
         if (!playersInVehicle.containsKey(p) && vehicle != null) {
             //vehicle enter
             updateVehicle(vehicle);
-            feature.getArmorStandManager(p).respawn(); //making teleport instant instead of showing teleport animation
             addToVehicle(p, vehicle);
+            feature.getArmorStandManager(p).respawn(); //making teleport instant instead of showing teleport animation
             if (feature.isDisableOnBoats() && feature.getEntityType(vehicle).contains("boat")) {
                 p.unlimitedNametagData.onBoat = true;
                 feature.updateTeamData(p);
@@ -118,8 +124,50 @@ public class VehicleRefresher extends TabFeature implements JoinListener, QuitLi
     }
 
     private void addToVehicle(@NotNull TabPlayer player, @NotNull Object vehicle) {
-        playersInVehicle.put(player, vehicle);
-        playersInVehicleArray = playersInVehicle.keySet().toArray(new TabPlayer[0]);
+        String type = feature.getEntityType(vehicle);
+        playersInVehicle.put(player, new RiddenVehicle(vehicle, VEHICLE_OFFSETS.computeIfAbsent(type, VehicleRefresher::computeOffset)));
+    }
+
+    /**
+     * Returns height of armor stands above vehicle position for given vehicle type
+     * to compensate for player position being incorrect on 1.14+ servers.
+     *
+     * @param   type
+     *          Vehicle type
+     * @return  Height above vehicle position or {@code NaN} if player position is correct
+     */
+    private static double computeOffset(@NotNull String type) {
+        if (type.equals("donkey")) return 0.525; //1.11+
+        if (type.contains("horse")) return 0.85; //covering all 3 horse types
+        if (type.equals("pig")) return 0.325;
+        if (type.equals("strider")) return 1.15; //1.16+
+        return Double.NaN;
+    }
+
+    /**
+     * Returns vehicle the player is riding, {@code null} if not riding any vehicle.
+     *
+     * @param   player
+     *          Player to get vehicle of
+     * @return  Vehicle the player is riding
+     */
+    @Nullable
+    public Object getVehicle(@NotNull TabPlayer player) {
+        RiddenVehicle vehicle = playersInVehicle.get(player);
+        return vehicle == null ? null : vehicle.entity;
+    }
+
+    /**
+     * Returns height of player's armor stands above position of vehicle they are riding,
+     * {@code NaN} if player is not riding a vehicle or their own position is correct.
+     *
+     * @param   player
+     *          Player to get offset of
+     * @return  Height above vehicle position
+     */
+    public double getVehicleOffset(@NotNull TabPlayer player) {
+        RiddenVehicle vehicle = playersInVehicle.get(player);
+        return vehicle == null ? Double.NaN : vehicle.offset;
     }
 
     private void updateVehicle(Object vehicle) {
@@ -131,4 +179,14 @@ public class VehicleRefresher extends TabFeature implements JoinListener, QuitLi
     public String getFeatureName() {
         return feature.getExtraFeatureName();
     }
+
+    /**
+     * Vehicle ridden by a player with armor stand offset for its type.
+     */
+    @RequiredArgsConstructor
+    private static class RiddenVehicle {
+
+        @NotNull private final Object entity;
+        private final double offset;
+    }
 }
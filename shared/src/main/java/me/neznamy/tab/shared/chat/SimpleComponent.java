@@ -1,5 +1,6 @@
 package me.neznamy.tab.shared.chat;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
@@ -9,6 +10,7 @@ import org.jetbrains.annotations.NotNull;
  */
 @Getter
 @RequiredArgsConstructor
+@EqualsAndHashCode(callSuper = false)
 public class SimpleComponent extends TabComponent {
 
     @NotNull
@@ -1,5 +1,6 @@
 package me.neznamy.tab.shared.chat;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -15,6 +16,7 @@ import java.util.stream.Collectors;
  */
 @NoArgsConstructor
 @Getter
+@EqualsAndHashCode(callSuper = false)
 public class StructuredComponent extends TabComponent {
 
     /** Text of the component */
@@ -9,22 +9,17 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Base class for managing minecraft components.
  */
 public abstract class TabComponent {
 
-    /** Pattern for detecting fonts */
-    private static final Pattern fontPattern = Pattern.compile("<font:(.*?)>(.*?)</font>");
-
     /**
      * Component cache maps to avoid large memory allocations as well as
      * higher CPU usage when using animations which send the same text on repeat.
      */
-    private static final ComponentCache<String, TabComponent> stringCache = new ComponentCache<>(1000, (text, clientVersion) -> {
+    private static final ComponentCache<String, TabComponent> stringCache = new ComponentCache<>("String to component", 5000, (text, clientVersion) -> {
         return text.contains("#") || text.contains("&x") || text.contains(EnumChatFormat.COLOR_CHAR + "x") || text.contains("<") ?
                 fromColoredText(text) : //contains RGB colors or font
                 new SimpleComponent(text); //no RGB
@@ -87,25 +82,26 @@ public abstract class TabComponent {
      */
     @NotNull
     public static TabComponent fromColoredText(@NotNull String originalText) {
-        String remainingText = originalText;
         List<StructuredComponent> components = new ArrayList<>();
-        while (!remainingText.isEmpty()) {
-            Matcher m = fontPattern.matcher(remainingText);
-            if (m.find()) {
-                if (m.start() > 0) {
+        int position = 0;
+        while (position < originalText.length()) {
+            int fontStart = findFont(originalText, position);
+            if (fontStart != -1) {
+                int nameEnd = originalText.indexOf('>', fontStart + 6);
+                int fontEnd = originalText.indexOf("</font>", nameEnd + 1);
+                if (fontStart > position) {
                     // Something is before the text with font, process normally
-                    components.addAll(toComponentArray(remainingText.substring(0, m.start()), null));
+                    components.addAll(toComponentArray(originalText.substring(position, fontStart), null));
                 }
                 // Process text with font
-                String match = m.group();
                 components.addAll(toComponentArray(
-                        match.substring(match.indexOf('>')+1, match.length()-7),
-                        match.substring(6, match.indexOf('>'))
+                        originalText.substring(nameEnd + 1, fontEnd),
+                        originalText.substring(fontStart + 6, nameEnd)
                 ));
                 // Prepare the rest for next loop
-                remainingText = remainingText.substring(m.start() + match.length());
+                position = fontEnd + 7;
             } else {
-                components.addAll(toComponentArray(remainingText, null));
+                components.addAll(toComponentArray(originalText.substring(position), null));
                 break;
             }
         }
@@ -116,6 +112,31 @@ public abstract class TabComponent {
         }
     }
 
+    /**
+     * Returns index of the first complete {@code <font:name>text</font>} on a single line
+     * starting at or after given index, or -1 if there is none.
+     *
+     * @param   text
+     *          Text to search in
+     * @param   from
+     *          Index to start searching at
+     * @return  Index where font tag starts or -1 if not found
+     */
+    private static int findFont(@NotNull String text, int from) {
+        int start = text.indexOf("<font:", from);
+        while (start != -1) {
+            int nameEnd = text.indexOf('>', start + 6);
+            if (nameEnd == -1) return -1;
+            int end = text.indexOf("</font>", nameEnd + 1);
+            if (end == -1) return -1;
+            int lineEnd = start;
+            while (lineEnd < text.length() && !RGBUtils.isLineTerminator(text.charAt(lineEnd))) lineEnd++;
+            if (end < lineEnd) return start;
+            start = text.indexOf("<font:", lineEnd);
+        }
+        return -1;
+    }
+
     @NotNull
     private static List<StructuredComponent> toComponentArray(@NotNull String originalText, @Nullable String font) {
         String text = RGBUtils.getInstance().applyFormats(EnumChatFormat.color(originalText));
@@ -142,7 +163,7 @@ public abstract class TabComponent {
                         component = new StructuredComponent(component);
                         component.setText("");
                         component.getModifier().setFont(font);
-                        builder = new StringBuilder();
+                        builder.setLength(0);
                     }
                     switch (format) {
                         case BOLD:
@@ -173,8 +194,8 @@ public abstract class TabComponent {
                     }
                 }
             } else if (c == '#' && text.length() > i+6) {
-                String hex = text.substring(i+1, i+7);
-                if (isHexCode(hex)) {
+                if (RGBUtils.isHexCode(text, i+1)) {
+                    String hex = text.substring(i+1, i+7);
                     TextColor color;
                     EnumChatFormat code = text.length() - i >= 9 ? EnumChatFormat.getByChar(text.charAt(i+8)) : null;
                     if (code != null && text.charAt(i+7) == '|') {
@@ -187,7 +208,7 @@ public abstract class TabComponent {
                     if (builder.length() > 0) {
                         component.setText(builder.toString());
                         components.add(component);
-                        builder = new StringBuilder();
+                        builder.setLength(0);
                     }
                     component = new StructuredComponent();
                     component.getModifier().setColor(color);
@@ -203,19 +224,4 @@ public abstract class TabComponent {
         components.add(component);
         return components;
     }
-
-    /**
-     * Returns true if entered string is a valid 6-digit combination of
-     * hexadecimal numbers, false if not
-     *
-     * @param   string
-     *          string to check
-     * @return  {@code true} if valid, {@code false} if not
-     */
-    private static boolean isHexCode(@NotNull String string) {
-        for (int i=0; i<string.length(); i++) {
-            if ("0123456789AaBbCcDdEeFf".indexOf(string.charAt(i)) == -1) return false;
-        }
-        return true;
-    }
 }
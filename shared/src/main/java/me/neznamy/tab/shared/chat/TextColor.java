@@ -193,4 +193,18 @@ public class TextColor {
     public static TextColor legacy(@NotNull EnumChatFormat format) {
         return legacyColors[format.ordinal()];
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TextColor)) return false;
+        TextColor other = (TextColor) o;
+        return getRgb() == other.getRgb() && legacyColorForced == other.legacyColorForced &&
+                (!legacyColorForced || legacyColor == other.legacyColor);
+    }
+
+    @Override
+    public int hashCode() {
+        return getRgb();
+    }
+}
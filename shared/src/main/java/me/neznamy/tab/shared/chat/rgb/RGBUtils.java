@@ -1,6 +1,7 @@
 package me.neznamy.tab.shared.chat.rgb;
 
 import lombok.Getter;
+import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.shared.chat.rgb.format.BukkitFormat;
 import me.neznamy.tab.shared.chat.rgb.format.HtmlFormat;
@@ -11,26 +12,48 @@ import me.neznamy.tab.shared.chat.rgb.gradient.CMIGradient;
 import me.neznamy.tab.shared.chat.rgb.gradient.CommonGradient;
 import me.neznamy.tab.shared.chat.rgb.gradient.GradientPattern;
 import me.neznamy.tab.shared.chat.rgb.gradient.NexEngineGradient;
+import me.neznamy.tab.shared.util.ComponentCache;
 import me.neznamy.tab.shared.util.ReflectionUtils;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 import me.neznamy.tab.shared.chat.rgb.format.CMIFormat;
 import me.neznamy.tab.shared.chat.rgb.format.RGBFormatter;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * A helper class to reformat all RGB formats into the default #RRGGBB and apply gradients
+ * A helper class to reformat all RGB formats into the default #RRGGBB and apply gradients.
+ * Text is first scanned once for characters each syntax requires, and only formats
+ * which can possibly match are applied. Results are cached per input text.
  */
 public class RGBUtils {
 
+    /** Flag of text containing {@code #}, required by gradients and most formats */
+    private static final int HEX = 1;
+
+    /** Flag of text containing {@code <}, required by MiniMessage */
+    private static final int TAG = 2;
+
+    /** Flag of text containing {@code &x} or {@code §x}, required by bukkit format */
+    private static final int BUKKIT = 4;
+
     /** Instance of the class */
     @Getter private static final RGBUtils instance = new RGBUtils();
 
     /** Registered RGB formatters */
     private final RGBFormatter[] formats;
 
+    /** Flags which must be present in text for formatter on the same index to be applied */
+    private final int[] formatFlags;
+
+    /** Cache of texts with applied formats */
+    private final ComponentCache<String, String> formatCache = new ComponentCache<>("RGB formats", 1000,
+            (text, clientVersion) -> applyFormats0(text));
+
+    /** Cache of texts converted to legacy colors */
+    private final ComponentCache<String, String> legacyCache = new ComponentCache<>("RGB to legacy", 1000,
+            (text, clientVersion) -> TabComponent.fromColoredText(text).toLegacyText());
+
     /** Registered gradient patterns */
     private final GradientPattern[] gradients;
 
@@ -39,28 +62,32 @@ public class RGBUtils {
      */
     public RGBUtils() {
         List<RGBFormatter> list = new ArrayList<>();
+        List<Integer> flags = new ArrayList<>();
         if (ReflectionUtils.classExists("net.kyori.adventure.text.minimessage.MiniMessage") &&
                 ReflectionUtils.classExists("net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer")) {
             list.add(new MiniMessageFormat());
+            flags.add(TAG);
         }
         list.add(new BukkitFormat());
+        flags.add(BUKKIT);
         list.add(new CMIFormat());
+        flags.add(HEX);
         list.add(new UnnamedFormat1());
+        flags.add(HEX);
         list.add(new HtmlFormat());
+        flags.add(HEX);
         list.add(new KyoriFormat());
+        flags.add(HEX);
         formats = list.toArray(new RGBFormatter[0]);
+        formatFlags = flags.stream().mapToInt(Integer::intValue).toArray();
 
         gradients = new GradientPattern[] {
                 //{#RRGGBB>}text{#RRGGBB<}
                 new CMIGradient(),
                 //<#RRGGBB>Text</#RRGGBB>
-                new CommonGradient(Pattern.compile("<#[0-9a-fA-F]{6}>[^<]*</#[0-9a-fA-F]{6}>"),
-                        Pattern.compile("<#[0-9a-fA-F]{6}\\|.>[^<]*</#[0-9a-fA-F]{6}>"),
-                        "<#", 9, 2, 9, 7),
+                new CommonGradient("<#", ">", "</#", ">"),
                 //<$#RRGGBB>Text<$#RRGGBB>
-                new CommonGradient(Pattern.compile("<\\$#[0-9a-fA-F]{6}>[^<]*<\\$#[0-9a-fA-F]{6}>"),
-                        Pattern.compile("<\\$#[0-9a-fA-F]{6}\\|.>[^<]*<\\$#[0-9a-fA-F]{6}>"),
-                        "<$", 10, 3, 10, 7),
+                new CommonGradient("<$#", ">", "<$#", ">"),
                 new NexEngineGradient()
         };
     }
@@ -73,16 +100,60 @@ public class RGBUtils {
      * @return  text where everything is converted to #RRGGBB
      */
     public @NotNull String applyFormats(@NotNull String text) {
+        if (getFlags(text) == 0) return text;
+        return formatCache.get(text, null);
+    }
+
+    /**
+     * Applies all formats which can possibly match given text without using cache.
+     *
+     * @param   text
+     *          original text
+     * @return  text where everything is converted to #RRGGBB
+     */
+    @NotNull
+    private String applyFormats0(@NotNull String text) {
         String replaced = text;
-        for (GradientPattern pattern : gradients) {
-            replaced = pattern.applyPattern(replaced, false);
+        int flags = getFlags(text);
+        if ((flags & HEX) != 0) {
+            for (GradientPattern pattern : gradients) {
+                replaced = pattern.applyPattern(replaced, false);
+            }
         }
-        for (RGBFormatter formatter : formats) {
-            replaced = formatter.reformat(replaced);
+        for (int i = 0; i < formats.length; i++) {
+            if ((flags & formatFlags[i]) == 0) continue;
+            String reformatted = formats[i].reformat(replaced);
+            if (reformatted != replaced) {
+                replaced = reformatted;
+                flags = getFlags(replaced);
+            }
         }
         return replaced;
     }
 
+    /**
+     * Scans the text once and returns flags of characters required by formats
+     * which are present in it. If {@code 0} is returned, no format can match.
+     *
+     * @param   text
+     *          text to scan
+     * @return  flags of present format characters
+     */
+    private int getFlags(@NotNull String text) {
+        int flags = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '#') {
+                flags |= HEX;
+            } else if (c == '<') {
+                flags |= TAG;
+            } else if ((c == '&' || c == EnumChatFormat.COLOR_CHAR) && i + 1 < text.length() && text.charAt(i + 1) == 'x') {
+                flags |= BUKKIT;
+            }
+        }
+        return flags;
+    }
+
     /**
      * Applies all gradient formats to text and returns it. This only affects
      * usage where no placeholder is used inside.
@@ -92,6 +163,7 @@ public class RGBUtils {
      * @return  text where all gradients with static text are converted to #RRGGBB
      */
     public @NotNull String applyCleanGradients(@NotNull String text) {
+        if (text.indexOf('#') == -1) return text;
         String replaced = text;
         for (GradientPattern pattern : gradients) {
             replaced = pattern.applyPattern(replaced, true);
@@ -99,6 +171,37 @@ public class RGBUtils {
         return replaced;
     }
 
+    /**
+     * Returns {@code true} if given text contains a 6-digit hex code starting
+     * at given index, {@code false} if not.
+     *
+     * @param   text
+     *          text to check
+     * @param   start
+     *          index where the hex code should start
+     * @return  {@code true} if a hex code starts at given index, {@code false} if not
+     */
+    public static boolean isHexCode(@NotNull String text, int start) {
+        if (start < 0 || start + 6 > text.length()) return false;
+        for (int i = start; i < start + 6; i++) {
+            char c = text.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if given character ends a line, {@code false} if not.
+     * These are the characters {@code .} in regular expressions does not match.
+     *
+     * @param   c
+     *          Character to check
+     * @return  {@code true} if character ends a line, {@code false} if not
+     */
+    public static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
     /**
      * Converts all hex codes in given string to legacy codes.
      * Also removes redundant color codes caused by this operation
@@ -109,6 +212,6 @@ public class RGBUtils {
      * @return  translated text
      */
     public @NotNull String convertRGBtoLegacy(@NotNull String text) {
-        return TabComponent.fromColoredText(text).toLegacyText();
+        return legacyCache.get(text, null);
     }
 }
\ No newline at end of file
@@ -1,8 +1,5 @@
 package me.neznamy.tab.shared.chat.rgb.format;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import me.neznamy.tab.shared.chat.EnumChatFormat;
 import org.jetbrains.annotations.NotNull;
 
@@ -11,18 +8,46 @@ import org.jetbrains.annotations.NotNull;
  */
 public class BukkitFormat implements RGBFormatter {
 
-    private final Pattern pattern = Pattern.compile("[" + EnumChatFormat.COLOR_CHAR + "&]x[" + EnumChatFormat.COLOR_CHAR + "&\\p{XDigit}]{12}");
-    
     @Override
     public @NotNull String reformat(@NotNull String text) {
         if (!text.contains("&x") && !text.contains(EnumChatFormat.COLOR_CHAR + "x")) return text;
-        String replaced = text;
-        Matcher m = pattern.matcher(replaced);
-        while (m.find()) {
-            String hexCode = m.group();
-            String fixed = new String(new char[] {'#', hexCode.charAt(3), hexCode.charAt(5), hexCode.charAt(7), hexCode.charAt(9), hexCode.charAt(11), hexCode.charAt(13)});
-            replaced = replaced.replace(hexCode, fixed);
+        StringBuilder sb = null;
+        int copied = 0;
+        int i = 0;
+        while (i < text.length() - 13) {
+            char c = text.charAt(i);
+            if ((c == '&' || c == EnumChatFormat.COLOR_CHAR) && text.charAt(i+1) == 'x' && isCode(text, i+2)) {
+                if (sb == null) sb = new StringBuilder(text.length());
+                sb.append(text, copied, i).append('#');
+                for (int j = i+3; j <= i+13; j += 2) {
+                    sb.append(text.charAt(j));
+                }
+                i += 14;
+                copied = i;
+            } else {
+                i++;
+            }
+        }
+        if (sb == null) return text;
+        return sb.append(text, copied, text.length()).toString();
+    }
+
+    /**
+     * Returns {@code true} if 12 characters starting at given index are all
+     * color symbols or hex digits, {@code false} otherwise.
+     *
+     * @param   text
+     *          Text to check
+     * @param   start
+     *          Index to start at
+     * @return  {@code true} if characters form a code, {@code false} if not
+     */
+    private boolean isCode(@NotNull String text, int start) {
+        for (int i = start; i < start + 12; i++) {
+            char c = text.charAt(i);
+            if (!(c == '&' || c == EnumChatFormat.COLOR_CHAR || (c >= '0' && c <= '9') ||
+                    (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'))) return false;
         }
-        return replaced;
+        return true;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package me.neznamy.tab.shared.chat.rgb.format;
+
+import lombok.RequiredArgsConstructor;
+import me.neznamy.tab.shared.chat.rgb.RGBUtils;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Formatter for hex codes wrapped in a fixed prefix and suffix,
+ * such as &lt;#RRGGBB&gt;. Text is scanned once without using regex
+ * and only copied if it contains at least one code.
+ */
+@RequiredArgsConstructor
+public abstract class HexTagFormat implements RGBFormatter {
+
+    /** Text before the hex code */
+    @NotNull private final String prefix;
+
+    /** Text after the hex code */
+    @NotNull private final String suffix;
+
+    @Override
+    public @NotNull String reformat(@NotNull String text) {
+        int index = text.indexOf(prefix);
+        if (index == -1) return text;
+        StringBuilder sb = null;
+        int copied = 0;
+        while (index != -1) {
+            int hexStart = index + prefix.length();
+            if (RGBUtils.isHexCode(text, hexStart) && text.startsWith(suffix, hexStart + 6)) {
+                if (sb == null) sb = new StringBuilder(text.length());
+                sb.append(text, copied, index).append('#').append(text, hexStart, hexStart + 6);
+                copied = hexStart + 6 + suffix.length();
+                index = text.indexOf(prefix, copied);
+            } else {
+                index = text.indexOf(prefix, index + 1);
+            }
+        }
+        if (sb == null) return text;
+        return sb.append(text, copied, text.length()).toString();
+    }
+}
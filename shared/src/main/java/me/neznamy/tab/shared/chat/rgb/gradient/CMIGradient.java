@@ -1,32 +1,47 @@
 package me.neznamy.tab.shared.chat.rgb.gradient;
 
+import me.neznamy.tab.shared.chat.rgb.RGBUtils;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
+/**
+ * Gradient in format {#RRGGBB>}text{#RRGGBB<}, also supporting
+ * {#RRGGBB<>} as a shortcut for ending a gradient and starting a new one.
+ */
 public class CMIGradient extends CommonGradient {
 
-    //pattern for {#RRGGBB<>}
-    private final Pattern shortcutPattern = Pattern.compile("\\{#[0-9a-fA-F]{6}<>}");
-    
     public CMIGradient() {
-        super(Pattern.compile("\\{#[0-9a-fA-F]{6}>}[^{]*\\{#[0-9a-fA-F]{6}<}"),
-                Pattern.compile("\\{#[0-9a-fA-F]{6}\\|.>}[^{]*\\{#[0-9a-fA-F]{6}<}"),
-                "{#", 9, 2, 10, 8);
+        super("{#", ">}", "{#", "<}");
     }
     
     @Override
     public String applyPattern(@NotNull String text, boolean ignorePlaceholders) {
-        String replaced = text;
-        if (replaced.contains("<>}")) {
-            Matcher m = shortcutPattern.matcher(replaced);
-            while (m.find()) {
-                String format = m.group();
-                String code = format.substring(2, 8);
-                replaced = replaced.replace(format, "{#" + code + "<}{#" + code + ">}");
+        return super.applyPattern(expandShortcuts(text), ignorePlaceholders);
+    }
+
+    /**
+     * Replaces all {#RRGGBB<>} with {#RRGGBB<}{#RRGGBB>}.
+     *
+     * @param   text
+     *          Text to expand shortcuts in
+     * @return  Text with expanded shortcuts
+     */
+    @NotNull
+    private String expandShortcuts(@NotNull String text) {
+        int index = text.indexOf("<>}");
+        if (index == -1) return text;
+        StringBuilder sb = null;
+        int copied = 0;
+        while (index != -1) {
+            int start = index - 8;
+            if (start >= 0 && text.startsWith("{#", start) && RGBUtils.isHexCode(text, start + 2)) {
+                if (sb == null) sb = new StringBuilder(text.length() + 16);
+                String code = text.substring(start + 2, index);
+                sb.append(text, copied, start).append("{#").append(code).append("<}{#").append(code).append(">}");
+                copied = index + 3;
             }
+            index = text.indexOf("<>}", index + 3);
         }
-        return super.applyPattern(replaced, ignorePlaceholders);
+        if (sb == null) return text;
+        return sb.append(text, copied, text.length()).toString();
     }
-}
\ No newline at end of file
+}
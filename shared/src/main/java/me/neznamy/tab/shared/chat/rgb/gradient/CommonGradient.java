@@ -1,49 +1,72 @@
 package me.neznamy.tab.shared.chat.rgb.gradient;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import lombok.AllArgsConstructor;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.chat.TextColor;
+import me.neznamy.tab.shared.chat.rgb.RGBUtils;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * Gradient in format {@code <openPrefix>RRGGBB[|L]<openSuffix>text<closePrefix>RRGGBB<closeSuffix>},
+ * where text cannot contain the first character of close prefix.
+ * Text is scanned once without using regex.
+ */
 @AllArgsConstructor
 public class CommonGradient implements GradientPattern {
 
-    @NotNull private final Pattern pattern;
-    @NotNull private final Pattern legacyPattern;
-    @NotNull private final String containCheck;
-    private final int legacyCharPosition;
-    private final int startColorStart;
-    private final int messageStart;
-    private final int endColorStartSub;
+    /** Text before start color */
+    @NotNull private final String openPrefix;
+
+    /** Text after start color */
+    @NotNull private final String openSuffix;
+
+    /** Text before end color */
+    @NotNull private final String closePrefix;
+
+    /** Text after end color */
+    @NotNull private final String closeSuffix;
 
     @Override
     public String applyPattern(@NotNull String text, boolean ignorePlaceholders) {
-        if (!text.contains(containCheck)) return text;
-        String replaced = text;
-        Matcher m = legacyPattern.matcher(replaced);
-        while (m.find()) {
-            String format = m.group();
-            EnumChatFormat legacyColor = EnumChatFormat.getByChar(format.charAt(legacyCharPosition));
-            if ((ignorePlaceholders && format.contains("%")) || legacyColor == null) continue;
-            TextColor start = new TextColor(format.substring(startColorStart, startColorStart+6), legacyColor);
-            String message = format.substring(messageStart+2, format.length()-10);
-            TextColor end = new TextColor(format.substring(format.length()-endColorStartSub, format.length()-endColorStartSub+6));
-            String applied = asGradient(start, message, end);
-            replaced = replaced.replace(format, applied);
-        }
-        m = pattern.matcher(replaced);
-        while (m.find()) {
-            String format = m.group();
-            if (ignorePlaceholders && format.contains("%")) continue;
-            TextColor start = new TextColor(format.substring(startColorStart, startColorStart+6));
-            String message = format.substring(messageStart, format.length()-10);
-            TextColor end = new TextColor(format.substring(format.length()-endColorStartSub, format.length()-endColorStartSub+6));
-            String applied = asGradient(start, message, end);
-            replaced = replaced.replace(format, applied);
+        int index = text.indexOf(openPrefix);
+        if (index == -1) return text;
+        StringBuilder sb = null;
+        int copied = 0;
+        char stopChar = closePrefix.charAt(0);
+        while (index != -1) {
+            int end = -1;
+            int startHex = index + openPrefix.length();
+            if (RGBUtils.isHexCode(text, startHex)) {
+                int afterHex = startHex + 6;
+                EnumChatFormat legacyColor = null;
+                boolean legacy = afterHex + 1 < text.length() && text.charAt(afterHex) == '|' &&
+                        text.startsWith(openSuffix, afterHex + 2);
+                if (legacy) legacyColor = EnumChatFormat.getByChar(text.charAt(afterHex + 1));
+                int messageStart = legacy ? afterHex + 2 + openSuffix.length() : afterHex + openSuffix.length();
+                if (legacy || text.startsWith(openSuffix, afterHex)) {
+                    int messageEnd = text.indexOf(stopChar, messageStart);
+                    int endHex = messageEnd + closePrefix.length();
+                    if (messageEnd != -1 && text.startsWith(closePrefix, messageEnd) && RGBUtils.isHexCode(text, endHex) &&
+                            text.startsWith(closeSuffix, endHex + 6)) {
+                        end = endHex + 6 + closeSuffix.length();
+                        boolean skip = (legacy && legacyColor == null) ||
+                                (ignorePlaceholders && text.substring(index, end).contains("%"));
+                        if (!skip) {
+                            TextColor startColor = legacy ? new TextColor(text.substring(startHex, afterHex), legacyColor) :
+                                    new TextColor(text.substring(startHex, afterHex));
+                            TextColor endColor = new TextColor(text.substring(endHex, endHex + 6));
+                            if (sb == null) sb = new StringBuilder(text.length() * 4);
+                            sb.append(text, copied, index).append(asGradient(startColor, text.substring(messageStart, messageEnd), endColor));
+                            copied = end;
+                        } else if (legacy && legacyColor == null) {
+                            end = -1; // Not a gradient at all
+                        }
+                    }
+                }
+            }
+            index = text.indexOf(openPrefix, end == -1 ? index + 1 : end);
         }
-        return replaced;
+        if (sb == null) return text;
+        return sb.append(text, copied, text.length()).toString();
     }
 }
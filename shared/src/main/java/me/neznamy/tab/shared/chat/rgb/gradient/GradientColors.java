@@ -0,0 +1,61 @@
+package me.neznamy.tab.shared.chat.rgb.gradient;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import me.neznamy.tab.shared.chat.TextColor;
+import me.neznamy.tab.shared.util.ComponentCache;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Cache of computed gradient color steps, so that the same gradient
+ * applied on text of the same length does not need to compute
+ * and format the colors again.
+ */
+@AllArgsConstructor
+@EqualsAndHashCode
+public class GradientColors {
+
+    /** Cache of hex codes of each step of a gradient */
+    private static final ComponentCache<GradientColors, String[]> cache = new ComponentCache<>("Gradient colors", 1000,
+            (gradient, version) -> gradient.compute());
+
+    /** Start color as rgb */
+    private final int start;
+
+    /** End color as rgb */
+    private final int end;
+
+    /** Amount of steps */
+    private final int length;
+
+    /**
+     * Returns hex codes of all steps of gradient from start to end color.
+     * The returned array is shared and must not be modified.
+     *
+     * @param   start
+     *          Start color
+     * @param   end
+     *          End color
+     * @param   length
+     *          Amount of steps, must be at least 2
+     * @return  Hex codes of each step
+     */
+    @NotNull
+    public static String[] of(@NotNull TextColor start, @NotNull TextColor end, int length) {
+        return cache.get(new GradientColors(start.getRgb(), end.getRgb(), length), null);
+    }
+
+    @NotNull
+    private String[] compute() {
+        TextColor startColor = new TextColor((start >> 16) & 0xFF, (start >> 8) & 0xFF, start & 0xFF);
+        TextColor endColor = new TextColor((end >> 16) & 0xFF, (end >> 8) & 0xFF, end & 0xFF);
+        String[] colors = new String[length];
+        for (int i=0; i<length; i++) {
+            int red = (int) (startColor.getRed() + (float)(endColor.getRed() - startColor.getRed())/(length-1)*i);
+            int green = (int) (startColor.getGreen() + (float)(endColor.getGreen() - startColor.getGreen())/(length-1)*i);
+            int blue = (int) (startColor.getBlue() + (float)(endColor.getBlue() - startColor.getBlue())/(length-1)*i);
+            colors[i] = new TextColor(red, green, blue).getHexCode();
+        }
+        return colors;
+    }
+}
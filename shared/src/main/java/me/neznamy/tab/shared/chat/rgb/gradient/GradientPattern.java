@@ -43,12 +43,10 @@ public interface GradientPattern {
             sb.append(deColorized);
             return sb.toString();
         }
+        String[] colors = GradientColors.of(start, end, length);
         for (int i=0; i<length; i++) {
-            int red = (int) (start.getRed() + (float)(end.getRed() - start.getRed())/(length-1)*i);
-            int green = (int) (start.getGreen() + (float)(end.getGreen() - start.getGreen())/(length-1)*i);
-            int blue = (int) (start.getBlue() + (float)(end.getBlue() - start.getBlue())/(length-1)*i);
             sb.append("#");
-            sb.append(new TextColor(red, green, blue).getHexCode());
+            sb.append(colors[i]);
             if (start.isLegacyColorForced()) sb.append("|").append(start.getLegacyColor().getCharacter());
             sb.append(magicCodes);
             sb.append(deColorized.charAt(i));
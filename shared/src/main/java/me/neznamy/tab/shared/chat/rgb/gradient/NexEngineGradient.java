@@ -2,46 +2,93 @@ package me.neznamy.tab.shared.chat.rgb.gradient;
 
 import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.chat.TextColor;
+import me.neznamy.tab.shared.chat.rgb.RGBUtils;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
+/**
+ * Gradient in format &lt;gradient:#RRGGBB[|L]&gt;text&lt;/gradient:#RRGGBB&gt;.
+ * Text is scanned without using regex, first for gradients with forced
+ * legacy color and then for the rest.
+ */
 public class NexEngineGradient implements GradientPattern {
 
-    //pattern for <gradient:#RRGGBB></gradient:#RRGGBB>
-    private final Pattern pattern = Pattern.compile("<gradient:#([A-Fa-f0-9]{6})>(.*?)</gradient:#([A-Fa-f0-9]{6})>");
-
-    //pattern for <gradient:#RRGGBB|L></gradient:#RRGGBB>
-    private final Pattern patternLegacy = Pattern.compile("<gradient:#([A-Fa-f0-9]{6})\\|(.)>(.*?)</gradient:#([A-Fa-f0-9]{6})>");
-
-
+    private static final String OPEN = "<gradient:#";
+    private static final String CLOSE = "</gradient:#";
 
     @Override
     public String applyPattern(@NotNull String text, boolean ignorePlaceholders) {
-        if (!text.contains("<grad")) return text;
-        String replaced = text;
-        Matcher matcher = patternLegacy.matcher(replaced);
-        while (matcher.find()) {
-            String format = matcher.group();
-            EnumChatFormat legacyColor = EnumChatFormat.getByChar(matcher.group(2).charAt(0));
-            if ((ignorePlaceholders && format.contains("%")) || legacyColor == null) continue;
-            TextColor start = new TextColor(matcher.group(1), legacyColor);
-            String content = matcher.group(3);
-            TextColor end = new TextColor(matcher.group(4));
-            String applied = asGradient(start, content, end);
-            replaced = replaced.replace(format, applied);
+        if (!text.contains(OPEN)) return text;
+        // Legacy gradients are applied first, normal gradients then only see text outside of them
+        return apply(apply(text, true, ignorePlaceholders), false, ignorePlaceholders);
+    }
+
+    /**
+     * Applies all gradients of one kind in given text.
+     *
+     * @param   text
+     *          Text to apply gradients in
+     * @param   legacy
+     *          {@code true} to apply gradients with forced legacy color, {@code false} to apply the rest
+     * @param   ignorePlaceholders
+     *          Whether gradients containing placeholders should be left untouched
+     * @return  Text with applied gradients
+     */
+    @NotNull
+    private String apply(@NotNull String text, boolean legacy, boolean ignorePlaceholders) {
+        int index = text.indexOf(OPEN);
+        StringBuilder sb = null;
+        int copied = 0;
+        while (index != -1) {
+            int end = -1;
+            int startHex = index + OPEN.length();
+            if (RGBUtils.isHexCode(text, startHex)) {
+                int afterHex = startHex + 6;
+                boolean open = legacy ?
+                        afterHex + 2 < text.length() && text.charAt(afterHex) == '|' && !RGBUtils.isLineTerminator(text.charAt(afterHex + 1)) && text.charAt(afterHex + 2) == '>' :
+                        afterHex < text.length() && text.charAt(afterHex) == '>';
+                int messageStart = legacy ? afterHex + 3 : afterHex + 1;
+                int messageEnd = open ? findClose(text, messageStart) : -1;
+                if (messageEnd != -1) {
+                    int endHex = messageEnd + CLOSE.length();
+                    end = endHex + 7;
+                    EnumChatFormat legacyColor = legacy ? EnumChatFormat.getByChar(text.charAt(afterHex + 1)) : null;
+                    boolean skip = (legacy && legacyColor == null) ||
+                            (ignorePlaceholders && text.substring(index, end).indexOf('%') != -1);
+                    if (!skip) {
+                        TextColor startColor = legacy ? new TextColor(text.substring(startHex, afterHex), legacyColor) :
+                                new TextColor(text.substring(startHex, afterHex));
+                        TextColor endColor = new TextColor(text.substring(endHex, endHex + 6));
+                        if (sb == null) sb = new StringBuilder(text.length() * 4);
+                        sb.append(text, copied, index).append(asGradient(startColor, text.substring(messageStart, messageEnd), endColor));
+                        copied = end;
+                    }
+                }
+            }
+            index = text.indexOf(OPEN, end == -1 ? index + 1 : end);
         }
-        matcher = pattern.matcher(replaced);
-        while (matcher.find()) {
-            String format = matcher.group();
-            if ((ignorePlaceholders && format.contains("%"))) continue;
-            TextColor start = new TextColor(matcher.group(1));
-            String content = matcher.group(2);
-            TextColor end = new TextColor(matcher.group(3));
-            String applied = asGradient(start, content, end);
-            replaced = replaced.replace(format, applied);
+        if (sb == null) return text;
+        return sb.append(text, copied, text.length()).toString();
+    }
+
+    /**
+     * Returns index of the first valid closing tag after given index,
+     * or -1 if there is none before the end of the line.
+     *
+     * @param   text
+     *          Text to search in
+     * @param   from
+     *          Index to search from
+     * @return  Index of closing tag or -1 if not found
+     */
+    private int findClose(@NotNull String text, int from) {
+        int lineEnd = from;
+        while (lineEnd < text.length() && !RGBUtils.isLineTerminator(text.charAt(lineEnd))) lineEnd++;
+        int index = text.indexOf(CLOSE, from);
+        while (index != -1 && index < lineEnd) {
+            int endHex = index + CLOSE.length();
+            if (RGBUtils.isHexCode(text, endHex) && endHex + 6 < text.length() && text.charAt(endHex + 6) == '>') return index;
+            index = text.indexOf(CLOSE, index + 1);
         }
-        return replaced;
+        return -1;
     }
 }
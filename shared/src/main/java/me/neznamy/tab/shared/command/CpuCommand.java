@@ -1,16 +1,21 @@
 package me.neznamy.tab.shared.command;
 
 import java.text.DecimalFormat;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 import me.neznamy.tab.shared.chat.SimpleComponent;
 import me.neznamy.tab.shared.cpu.CpuReport;
+import me.neznamy.tab.shared.features.PlaceholderManagerImpl;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.api.placeholder.Placeholder;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
+import me.neznamy.tab.shared.util.ComponentCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -21,6 +26,7 @@ public class CpuCommand extends SubCommand {
 
     private final DecimalFormat decimal3 = new DecimalFormat("#.###");
     private final char LINE_CHAR = 9553;
+    private final int MAX_ADAPTED_INTERVALS = 10;
 
     /**
      * Constructs new instance
@@ -54,6 +60,14 @@ public class CpuCommand extends SubCommand {
             sendToConsole(features);
         }
         sendMessage(sender, "&8&l" + LINE_CHAR + "&8&m                                                    ");
+        sendMessage(sender, "&8&l" + LINE_CHAR + " &6Component caches:");
+        printCaches(sender);
+        sendMessage(sender, "&8&l" + LINE_CHAR + "&8&m                                                    ");
+        if (TAB.getInstance().getPlaceholderManager().isAdaptiveRefresh()) {
+            sendMessage(sender, "&8&l" + LINE_CHAR + " &6Adapted refresh intervals (configured -> current):");
+            printAdaptedIntervals(sender);
+            sendMessage(sender, "&8&l" + LINE_CHAR + "&8&m                                                    ");
+        }
         sendMessage(sender, String.format("&8&l%s &6&lPlaceholders Total: &a&l%s%%", LINE_CHAR, colorize(decimal3.format(report.getPlaceholderUsageTotal()), 10, 5)));
         sendMessage(sender, String.format("&8&l%s &6&lPlugin internals: &a&l%s%%", LINE_CHAR, colorize(decimal3.format(report.getFeatureUsageTotal()-report.getPlaceholderUsageTotal()), 10, 5)));
         sendMessage(sender, String.format("&8&l%s &6&lTotal: &e&l%s%%", LINE_CHAR, colorize(decimal3.format(report.getFeatureUsageTotal()), 10, 5)));
@@ -67,12 +81,52 @@ public class CpuCommand extends SubCommand {
             if (printCounter++ == 5) break;
             String refresh = "";
             Placeholder p = TAB.getInstance().getPlaceholderManager().getPlaceholder(entry.getKey());
-            if (p.getRefresh() != -1) refresh = " &8(" + p.getRefresh() + ")&7";
+            if (p.getRefresh() != -1) refresh = " &8(" + formatRefresh(p) + ")&7";
             String colorized = entry.getKey().startsWith("%sync:") ? "&c" + decimal3.format(entry.getValue()) : colorize(decimal3.format(entry.getValue()), 1, 0.3f);
             sendMessage(sender, String.format("&8&l%s &7%s - %s%%", LINE_CHAR, entry.getKey() + refresh, colorized));
         }
     }
 
+    private void printAdaptedIntervals(@Nullable TabPlayer sender) {
+        PlaceholderManagerImpl manager = TAB.getInstance().getPlaceholderManager();
+        List<Placeholder> adapted = manager.getAllPlaceholders().stream()
+                .filter(p -> p.getRefresh() != -1 && manager.getEffectiveRefresh(p) != p.getRefresh())
+                .sorted(Comparator.comparing(Placeholder::getIdentifier))
+                .collect(Collectors.toList());
+        if (adapted.isEmpty()) {
+            sendMessage(sender, "&8&l" + LINE_CHAR + " &7No intervals were adapted yet");
+            return;
+        }
+        for (Placeholder p : adapted.subList(0, Math.min(adapted.size(), MAX_ADAPTED_INTERVALS))) {
+            sendMessage(sender, String.format("&8&l%s &7%s - %s", LINE_CHAR, p.getIdentifier(), formatRefresh(p)));
+        }
+        if (adapted.size() > MAX_ADAPTED_INTERVALS) {
+            sendMessage(sender, String.format("&8&l%s &7... and %s more", LINE_CHAR, adapted.size() - MAX_ADAPTED_INTERVALS));
+        }
+    }
+
+    /**
+     * Returns refresh interval of placeholder. If it was adapted,
+     * both configured and current interval are returned.
+     *
+     * @param   placeholder
+     *          Placeholder to format refresh interval of
+     * @return  Formatted refresh interval
+     */
+    @NotNull
+    private String formatRefresh(@NotNull Placeholder placeholder) {
+        int effective = TAB.getInstance().getPlaceholderManager().getEffectiveRefresh(placeholder);
+        if (effective == placeholder.getRefresh()) return String.valueOf(effective);
+        return placeholder.getRefresh() + " -> " + (effective < placeholder.getRefresh() ? "&c" : "&a") + effective + "&8";
+    }
+
+    private void printCaches(@Nullable TabPlayer sender) {
+        for (ComponentCache<?, ?> cache : ComponentCache.getAll()) {
+            sendMessage(sender, String.format("&8&l%s &7%s - &a%s%% &7(%s entries)", LINE_CHAR, cache.getName(),
+                    decimal3.format(cache.getHitRate()), cache.size()));
+        }
+    }
+
     public void sendToConsole(@NotNull Map<String, Map<String, Float>> features) {
         TAB.getInstance().getPlatform().logInfo(new SimpleComponent(EnumChatFormat.color("&8&l" + LINE_CHAR + " &6Features:")));
         for (Entry<String, Map<String, Float>> entry : features.entrySet()) {
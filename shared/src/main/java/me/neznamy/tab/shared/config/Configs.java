@@ -1,6 +1,8 @@
 package me.neznamy.tab.shared.config;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.SneakyThrows;
 import me.neznamy.tab.shared.FeatureManager;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
@@ -18,7 +20,14 @@ import org.yaml.snakeyaml.error.YAMLException;
 import java.io.File;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Core of loading configuration files
@@ -26,6 +35,14 @@ import java.util.List;
 @Getter
 public class Configs {
 
+    //animations.yml and messages.yml files are parsed in parallel with config.yml, which they do not depend on
+    @Getter(AccessLevel.NONE)
+    private final CompletableFuture<ConfigurationFile> animationFuture = parseAsync(() -> new YamlConfigurationFile(
+            getClass().getClassLoader().getResourceAsStream("config/animations.yml"), new File(TAB.getInstance().getDataFolder(), "animations.yml")));
+
+    @Getter(AccessLevel.NONE)
+    private final CompletableFuture<MessageFile> messagesFuture = parseAsync(MessageFile::new);
+
     //config.yml file
     private final ConfigurationFile config = new YamlConfigurationFile(getClass().getClassLoader().getResourceAsStream("config/config.yml"),
             new File(TAB.getInstance().getDataFolder(), "config.yml"));
@@ -38,11 +55,10 @@ public class Configs {
     private final int permissionRefreshInterval = config.getInt("permission-refresh-interval", 1000);
 
     //animations.yml file
-    private final ConfigurationFile animationFile = new YamlConfigurationFile(getClass().getClassLoader().getResourceAsStream("config/animations.yml"),
-            new File(TAB.getInstance().getDataFolder(), "animations.yml"));
+    private final ConfigurationFile animationFile = join(animationFuture);
 
     //messages.yml file
-    private final MessageFile messages = new MessageFile();
+    private final MessageFile messages = join(messagesFuture);
 
     //playerdata.yml, used for bossbar & scoreboard toggle saving
     private ConfigurationFile playerdata;
@@ -56,6 +72,8 @@ public class Configs {
     /**
      * Constructs new instance and loads configuration files.
      * If needed, converts old configuration files as well.
+     * If MySQL is enabled, groups and users are not loaded until
+     * {@link #connectMySQL()} is called.
      *
      * @throws  IOException
      *          if File I/O operation fails
@@ -71,33 +89,109 @@ public class Configs {
         converter.convert332to400(config);
         converter.convert403to404(config);
         converter.convert409to410(config);
-        if (config.getBoolean("mysql.enabled", false)) {
+        if (!isMySQLEnabled()) loadPropertyFiles();
+        TAB.getInstance().getConfigHelper().hint().checkForRedundantElseReplacement(config.getConfigurationSection("placeholder-output-replacements"));
+    }
+
+    /**
+     * Returns {@code true} if groups and users should be loaded from MySQL, {@code false} if from files.
+     *
+     * @return  {@code true} if MySQL is enabled, {@code false} if not
+     */
+    private boolean isMySQLEnabled() {
+        return config.getBoolean("mysql.enabled", false);
+    }
+
+    /**
+     * Loads groups and users from groups.yml and users.yml.
+     *
+     * @throws  IOException
+     *          if File I/O operation fails
+     * @throws  YAMLException
+     *          if files contain syntax errors
+     */
+    private void loadPropertyFiles() throws IOException {
+        CompletableFuture<PropertyConfiguration> groupsFuture = parseAsync(() -> new YamlPropertyConfigurationFile(
+                getClass().getClassLoader().getResourceAsStream("config/groups.yml"), new File(TAB.getInstance().getDataFolder(), "groups.yml")));
+        users = new YamlPropertyConfigurationFile(getClass().getClassLoader().getResourceAsStream("config/users.yml"), new File(TAB.getInstance().getDataFolder(), "users.yml"));
+        groups = join(groupsFuture);
+    }
+
+    /**
+     * Connects to MySQL if it is enabled and loads groups and users from it. If connection
+     * fails, groups and users are loaded from files instead. Does nothing if MySQL is disabled.
+     * This is not done when parsing files, so that a parsed configuration can be compared
+     * with the current one without opening a connection.
+     *
+     * @throws  IOException
+     *          if File I/O operation fails
+     * @throws  YAMLException
+     *          if files contain syntax errors
+     */
+    public void connectMySQL() throws IOException {
+        if (!isMySQLEnabled()) return;
+        try {
+            // Initialization to try to avoid java.sql.SQLException: No suitable driver found
             try {
-                // Initialization to try to avoid java.sql.SQLException: No suitable driver found
-                try {
-                    Class.forName("com.mysql.cj.jdbc.Driver");
-                } catch (ClassNotFoundException e) {
-                    Class.forName("com.mysql.jdbc.Driver");
-                }
-                mysql = new MySQL(
-                        config.getString("mysql.host", "127.0.0.1"),
-                        config.getInt("mysql.port", 3306),
-                        config.getString("mysql.database", "tab"),
-                        config.getString("mysql.username", "user"),
-                        config.getString("mysql.password", "password"),
-                        config.getBoolean("mysql.useSSL", true)
-                );
-                mysql.openConnection();
-                groups = new MySQLGroupConfiguration(mysql);
-                users = new MySQLUserConfiguration(mysql);
-                return;
-            } catch (SQLException | ClassNotFoundException e) {
-                TAB.getInstance().getErrorManager().mysqlConnectionFailed(e);
+                Class.forName("com.mysql.cj.jdbc.Driver");
+            } catch (ClassNotFoundException e) {
+                Class.forName("com.mysql.jdbc.Driver");
             }
+            mysql = new MySQL(
+                    config.getString("mysql.host", "127.0.0.1"),
+                    config.getInt("mysql.port", 3306),
+                    config.getString("mysql.database", "tab"),
+                    config.getString("mysql.username", "user"),
+                    config.getString("mysql.password", "password"),
+                    config.getBoolean("mysql.useSSL", true)
+            );
+            mysql.openConnection();
+            groups = new MySQLGroupConfiguration(mysql);
+            users = new MySQLUserConfiguration(mysql);
+        } catch (SQLException | ClassNotFoundException e) {
+            TAB.getInstance().getErrorManager().mysqlConnectionFailed(e);
+            loadPropertyFiles();
+        }
+    }
+
+    /**
+     * Starts parsing a configuration file in another thread.
+     *
+     * @param   parser
+     *          Function parsing the file
+     * @return  Future completed with parsed file
+     * @param   <T>
+     *          Configuration file class
+     */
+    @NotNull
+    private static <T> CompletableFuture<T> parseAsync(@NotNull Callable<T> parser) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return parser.call();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Waits for file to be parsed and returns it. If parsing failed, the original
+     * exception is thrown.
+     *
+     * @param   future
+     *          Future of the file
+     * @return  Parsed file
+     * @param   <T>
+     *          Configuration file class
+     */
+    @NotNull
+    @SneakyThrows
+    private static <T> T join(@NotNull CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause();
         }
-        groups = new YamlPropertyConfigurationFile(getClass().getClassLoader().getResourceAsStream("config/groups.yml"), new File(TAB.getInstance().getDataFolder(), "groups.yml"));
-        users = new YamlPropertyConfigurationFile(getClass().getClassLoader().getResourceAsStream("config/users.yml"), new File(TAB.getInstance().getDataFolder(), "users.yml"));
-        TAB.getInstance().getConfigHelper().hint().checkForRedundantElseReplacement(config.getConfigurationSection("placeholder-output-replacements"));
     }
 
     /**
@@ -115,6 +209,45 @@ public class Configs {
         return value == null ? defaultValue : (T) value;
     }
 
+    /**
+     * Returns top-level config.yml sections which differ in given configuration. Returns
+     * {@code null} if animations.yml or MySQL settings changed, which affects everything.
+     * Groups, users and messages are not compared, as they can always be applied to running features.
+     *
+     * @param   newConfiguration
+     *          Freshly parsed configuration to compare with
+     * @return  Changed config.yml sections or {@code null} if everything needs to be reloaded
+     */
+    @Nullable
+    public Set<String> getChangedSections(@NotNull Configs newConfiguration) {
+        if (!animationFile.getValues().equals(newConfiguration.animationFile.getValues())) return null;
+        Map<String, Object> values = config.getValues();
+        Map<String, Object> newValues = newConfiguration.config.getValues();
+        if (!Objects.equals(values.get("mysql"), newValues.get("mysql"))) return null;
+        Set<String> sections = new HashSet<>(values.keySet());
+        sections.addAll(newValues.keySet());
+        sections.removeIf(section -> Objects.equals(values.get(section), newValues.get(section)));
+        return sections;
+    }
+
+    /**
+     * Takes playerdata.yml and, if MySQL is enabled, MySQL connection with groups and users
+     * from previous configuration with the same MySQL settings instead of connecting again.
+     * MySQL groups and users are only modified using commands, which update loaded values
+     * as well, so they do not need to be loaded again.
+     *
+     * @param   previous
+     *          Configuration this one replaces
+     */
+    public void takeOver(@NotNull Configs previous) {
+        playerdata = previous.playerdata;
+        if (isMySQLEnabled()) {
+            mysql = previous.mysql;
+            groups = previous.groups;
+            users = previous.users;
+        }
+    }
+
     public ConfigurationFile getPlayerDataFile() {
         if (playerdata == null) {
             File file = new File(TAB.getInstance().getDataFolder(), "playerdata.yml");
@@ -7,6 +7,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import lombok.Getter;
+import lombok.Setter;
 import me.neznamy.tab.shared.TAB;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -24,16 +25,28 @@ public class CpuManager {
     /** Active time in current time period saved as nanoseconds from placeholders */
     private volatile Map<String, AtomicLong> placeholderUsageCurrent = new ConcurrentHashMap<>();
 
+    /** Active time of features in previous time periods saved as nanoseconds */
+    private final Map<String, Map<String, Long>> featureUsageTotal = new HashMap<>();
+
+    /** Active time of placeholders in previous time periods saved as nanoseconds */
+    private final Map<String, Long> placeholderUsageTotal = new HashMap<>();
+
+    /** Amount of packets sent since tracking was enabled by packet type */
+    private final Map<String, AtomicLong> packetsSent = new ConcurrentHashMap<>();
+
+    /** Time when current measuring period started */
+    private long periodStart = System.nanoTime();
+
     /** Last CPU report */
     @Nullable @Getter private CpuReport lastReport;
 
     /** Scheduler for scheduling delayed and repeating tasks */
-    private final ScheduledExecutorService processingThread = Executors.newSingleThreadScheduledExecutor(
+    private final ScheduledThreadPoolExecutor processingThread = new ScheduledThreadPoolExecutor(1,
             new ThreadFactoryBuilder().setNameFormat("TAB Processing Thread").build());
 
     /** Scheduler for placeholder refreshing task to prevent inefficient placeholders from lagging the entire plugin */
     @Getter
-    private final ScheduledExecutorService placeholderThread = Executors.newSingleThreadScheduledExecutor(
+    private final ScheduledThreadPoolExecutor placeholderThread = new ScheduledThreadPoolExecutor(1,
             new ThreadFactoryBuilder().setNameFormat("TAB Placeholder Refreshing Thread").build());
 
     /** Tasks submitted to main thread before plugin was fully enabled */
@@ -43,7 +56,7 @@ public class CpuManager {
     private volatile boolean enabled;
 
     /** Boolean tracking whether CPU usage should be tracked or not */
-    @Getter private boolean trackUsage;
+    @Getter @Setter private boolean trackUsage;
 
     /**
      * Enables CPU usage tracking and returns {@code true} if it was not enabled previously.
@@ -54,14 +67,106 @@ public class CpuManager {
     public boolean enableTracking() {
         if (trackUsage) return false;
         trackUsage = true;
-        startRepeatingTask((int) TimeUnit.SECONDS.toMillis(UPDATE_RATE_SECONDS), () -> {
-            lastReport = new CpuReport(UPDATE_RATE_SECONDS, featureUsageCurrent, placeholderUsageCurrent);
-            featureUsageCurrent = new ConcurrentHashMap<>();
-            placeholderUsageCurrent = new ConcurrentHashMap<>();
-        });
+        periodStart = System.nanoTime();
+        startRepeatingTask((int) TimeUnit.SECONDS.toMillis(UPDATE_RATE_SECONDS), this::createReport);
         return true;
     }
 
+    /**
+     * Creates report from usage measured since previous report, saves it as {@link #lastReport}
+     * and starts a new measuring period. Called periodically once tracking is enabled using
+     * {@link #enableTracking()}, can also be called directly to measure a specific time window.
+     *
+     * @return  Report of usage since previous report
+     */
+    @NotNull
+    public synchronized CpuReport createReport() {
+        long now = System.nanoTime();
+        Map<String, Map<String, AtomicLong>> features = featureUsageCurrent;
+        Map<String, AtomicLong> placeholders = placeholderUsageCurrent;
+        featureUsageCurrent = new ConcurrentHashMap<>();
+        placeholderUsageCurrent = new ConcurrentHashMap<>();
+        addFeatureUsage(features, featureUsageTotal);
+        placeholders.forEach((placeholder, time) -> placeholderUsageTotal.merge(placeholder, time.get(), Long::sum));
+        lastReport = new CpuReport(now - periodStart, features, placeholders);
+        periodStart = now;
+        return lastReport;
+    }
+
+    /**
+     * Returns active time of features since tracking was enabled in nanoseconds.
+     *
+     * @return  Active time of features by feature and usage type
+     */
+    @NotNull
+    public synchronized Map<String, Map<String, Long>> getFeatureUsageTotal() {
+        Map<String, Map<String, Long>> features = new HashMap<>();
+        addFeatureUsage(featureUsageTotal, features);
+        addFeatureUsage(featureUsageCurrent, features);
+        return features;
+    }
+
+    /**
+     * Returns active time of placeholders since tracking was enabled in nanoseconds.
+     *
+     * @return  Active time of placeholders by placeholder identifier
+     */
+    @NotNull
+    public synchronized Map<String, Long> getPlaceholderUsageTotal() {
+        Map<String, Long> placeholders = new HashMap<>(placeholderUsageTotal);
+        placeholderUsageCurrent.forEach((placeholder, time) -> placeholders.merge(placeholder, time.get(), Long::sum));
+        return placeholders;
+    }
+
+    private void addFeatureUsage(@NotNull Map<String, ? extends Map<String, ? extends Number>> features,
+                                 @NotNull Map<String, Map<String, Long>> featuresTo) {
+        features.forEach((feature, types) -> {
+            Map<String, Long> to = featuresTo.computeIfAbsent(feature, f -> new HashMap<>());
+            types.forEach((type, time) -> to.merge(type, time.longValue(), Long::sum));
+        });
+    }
+
+    /**
+     * Returns amount of packets sent since tracking was enabled by packet type.
+     *
+     * @return  Amount of sent packets by packet type
+     */
+    @NotNull
+    public Map<String, Long> getPacketsSent() {
+        Map<String, Long> packets = new HashMap<>();
+        packetsSent.forEach((type, count) -> packets.put(type, count.get()));
+        return packets;
+    }
+
+    /**
+     * Returns amount of tasks which are ready to run, but are waiting
+     * in the queue of the processing thread.
+     *
+     * @return  Amount of tasks waiting in processing thread
+     */
+    public int getQueuedTasks() {
+        return getQueuedTasks(processingThread);
+    }
+
+    /**
+     * Returns amount of tasks which are ready to run, but are waiting
+     * in the queue of the placeholder refreshing thread.
+     *
+     * @return  Amount of tasks waiting in placeholder refreshing thread
+     */
+    public int getQueuedPlaceholderTasks() {
+        return getQueuedTasks(placeholderThread);
+    }
+
+    private int getQueuedTasks(@NotNull ScheduledThreadPoolExecutor executor) {
+        int queued = 0;
+        for (Runnable task : executor.getQueue()) {
+            // Repeating and delayed tasks stay in the queue until their time comes
+            if (((Delayed) task).getDelay(TimeUnit.NANOSECONDS) <= 0) queued++;
+        }
+        return queued;
+    }
+
     /**
      * Cancels all tasks and shuts down thread pools
      */
@@ -133,6 +238,21 @@ public class CpuManager {
         }
     }
 
+    /**
+     * Counts sent packet of specified type. Packets are only counted
+     * while tracking is enabled.
+     *
+     * @param   type
+     *          Packet type, one of {@link me.neznamy.tab.shared.TabConstants.PacketCategory}
+     */
+    public void packetSent(@NotNull String type) {
+        EventRecorder.countPacket();
+        if (!trackUsage) return;
+        AtomicLong count = packetsSent.get(type);
+        if (count == null) count = packetsSent.computeIfAbsent(type, t -> new AtomicLong());
+        count.incrementAndGet();
+    }
+
     public void runMeasuredTask(@NotNull String feature, @NotNull String type, @NotNull Runnable task) {
         submit(() -> runAndMeasure(task, feature, type));
     }
@@ -141,9 +261,24 @@ public class CpuManager {
         submit(task);
     }
 
-    public void startRepeatingMeasuredTask(int intervalMilliseconds, @NotNull String feature, @NotNull String type, @NotNull Runnable task) {
-        if (processingThread.isShutdown()) return;
-        processingThread.scheduleAtFixedRate(() -> runAndMeasure(task, feature, type), intervalMilliseconds, intervalMilliseconds, TimeUnit.MILLISECONDS);
+    /**
+     * Starts a repeating task measuring its time. The returned future can be used to
+     * cancel the task before all tasks are cancelled on plugin disable.
+     *
+     * @param   intervalMilliseconds
+     *          Interval of the task
+     * @param   feature
+     *          Feature to measure time under
+     * @param   type
+     *          Usage type to measure time under
+     * @param   task
+     *          Task to run
+     * @return  Future of the task or {@code null} if tasks were already cancelled
+     */
+    @Nullable
+    public ScheduledFuture<?> startRepeatingMeasuredTask(int intervalMilliseconds, @NotNull String feature, @NotNull String type, @NotNull Runnable task) {
+        if (processingThread.isShutdown()) return null;
+        return processingThread.scheduleAtFixedRate(() -> runAndMeasure(task, feature, type), intervalMilliseconds, intervalMilliseconds, TimeUnit.MILLISECONDS);
     }
 
     public void startRepeatingTask(int intervalMilliseconds, @NotNull Runnable task) {
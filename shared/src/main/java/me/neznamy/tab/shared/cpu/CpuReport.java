@@ -4,12 +4,14 @@ import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 @Getter
 public class CpuReport {
 
+    /** Length of the measured period in nanoseconds */
+    private final long periodNanos;
+
     /** Active time in % from features */
     @NotNull private final Map<String, Map<String, Float>> featureUsage;
 
@@ -25,15 +27,16 @@ public class CpuReport {
     /**
      * Constructs new instance with given parameters and performs calculation and ordering
      *
-     * @param   updateRateSeconds
-     *          How often is a new report made
+     * @param   periodNanos
+     *          Length of the measured period in nanoseconds
      * @param   features
      *          Feature usage map
      * @param   placeholders
      *          Placeholder usage map
      */
-    public CpuReport(int updateRateSeconds, @NotNull Map<String, Map<String, AtomicLong>> features, @NotNull Map<String, AtomicLong> placeholders) {
-        long TIME_PERCENT = TimeUnit.SECONDS.toNanos(1) / updateRateSeconds;
+    public CpuReport(long periodNanos, @NotNull Map<String, Map<String, AtomicLong>> features, @NotNull Map<String, AtomicLong> placeholders) {
+        this.periodNanos = periodNanos;
+        float TIME_PERCENT = Math.max(1, periodNanos / 100f);
         TreeMap<Long, Map.Entry<String, Map<String, Float>>> sorted = new TreeMap<>((o1, o2) -> Long.compare(o2, o1));
         features.forEach((key, val) -> {
             Map<String, Float> percent = new LinkedHashMap<>(val.size());
@@ -0,0 +1,185 @@
+package me.neznamy.tab.shared.cpu;
+
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Records plugin operations as Java Flight Recorder events, so they can be correlated
+ * with GC pauses, lock contention and allocations of the server in a JFR recording.
+ * Events are only available on Java 11+ runtimes with JFR. Otherwise, and while no
+ * recording is running, all methods return {@link Operation#NONE} and do nothing.
+ */
+public class EventRecorder {
+
+    /** Class recording the events, loaded reflectively as it requires Java 11 */
+    private static final String BACKEND_CLASS = "me.neznamy.tab.shared.cpu.jfr.FlightRecorderBackend";
+
+    /** Backend recording the events */
+    @NotNull
+    private static final Backend backend = loadBackend();
+
+    private EventRecorder() {
+    }
+
+    @NotNull
+    private static Backend loadBackend() {
+        try {
+            return (Backend) Class.forName(BACKEND_CLASS).getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+            // Java 8 or JFR is not present in the runtime
+            return new Backend() {};
+        }
+    }
+
+    /**
+     * Starts recording of a feature processing an event.
+     *
+     * @param   feature
+     *          Name of the feature
+     * @param   event
+     *          Type of the event, one of {@link me.neznamy.tab.shared.TabConstants.CpuUsageCategory}
+     * @param   player
+     *          Player the event is about or {@code null} if not about a player
+     * @return  Operation to end once the feature processed the event
+     */
+    @NotNull
+    public static Operation featureEvent(@NotNull String feature, @NotNull String event, @Nullable TabPlayer player) {
+        return backend.featureEvent(feature, event, player);
+    }
+
+    /**
+     * Starts recording of requesting values of placeholders in a refresh loop.
+     * The operation should be ended with amount of requested values.
+     *
+     * @param   placeholders
+     *          Amount of placeholders to refresh
+     * @return  Operation to end once the values were requested
+     */
+    @NotNull
+    public static Operation placeholderRefresh(int placeholders) {
+        return backend.placeholderRefresh(placeholders);
+    }
+
+    /**
+     * Starts recording of saving results of a placeholder refresh loop and refreshing features
+     * using the placeholders. The operation should be ended with amount of feature refreshes.
+     *
+     * @return  Operation to end once the features were refreshed
+     */
+    @NotNull
+    public static Operation placeholderUpdate() {
+        return backend.placeholderUpdate();
+    }
+
+    /**
+     * Starts recording of reading an outgoing packet in the pipeline injector.
+     *
+     * @param   player
+     *          Player receiving the packet
+     * @param   packet
+     *          The packet
+     * @return  Operation to end once the packet was read
+     */
+    @NotNull
+    public static Operation packetInterception(@NotNull TabPlayer player, @NotNull Object packet) {
+        return backend.packetInterception(player, packet);
+    }
+
+    /**
+     * Starts recording of processing a received redis frame.
+     * The operation should be ended with amount of processed messages.
+     *
+     * @param   length
+     *          Length of the frame
+     * @return  Operation to end once the messages were processed
+     */
+    @NotNull
+    public static Operation redisMessage(int length) {
+        return backend.redisMessage(length);
+    }
+
+    /**
+     * Starts recording of a plugin reload. The operation should be ended with
+     * amount of features which applied changes without a full reload, which is
+     * {@code 0} if a full reload was performed.
+     *
+     * @return  Operation to end once the reload finished
+     */
+    @NotNull
+    public static Operation reload() {
+        return backend.reload();
+    }
+
+    /**
+     * Counts a packet sent by the current thread, so it is attributed to
+     * operations running in the thread.
+     */
+    public static void countPacket() {
+        backend.countPacket();
+    }
+
+    /**
+     * A recorded operation, which should be ended once it is finished.
+     */
+    public interface Operation {
+
+        /** Operation which does not record anything */
+        Operation NONE = amount -> {};
+
+        /**
+         * Ends the operation and records it.
+         *
+         * @param   amount
+         *          Amount of processed items, meaning depends on the operation
+         */
+        void end(int amount);
+
+        /**
+         * Ends the operation and records it without an amount of processed items.
+         */
+        default void end() {
+            end(0);
+        }
+    }
+
+    /**
+     * Recorder of the operations, which does nothing by default.
+     */
+    public interface Backend {
+
+        @NotNull
+        default Operation featureEvent(@NotNull String feature, @NotNull String event, @Nullable TabPlayer player) {
+            return Operation.NONE;
+        }
+
+        @NotNull
+        default Operation placeholderRefresh(int placeholders) {
+            return Operation.NONE;
+        }
+
+        @NotNull
+        default Operation placeholderUpdate() {
+            return Operation.NONE;
+        }
+
+        @NotNull
+        default Operation packetInterception(@NotNull TabPlayer player, @NotNull Object packet) {
+            return Operation.NONE;
+        }
+
+        @NotNull
+        default Operation redisMessage(int length) {
+            return Operation.NONE;
+        }
+
+        @NotNull
+        default Operation reload() {
+            return Operation.NONE;
+        }
+
+        default void countPacket() {
+            // Not recording
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package me.neznamy.tab.shared.cpu;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of measured durations with fixed buckets, which can be
+ * recorded into from multiple threads at the same time.
+ */
+public class Histogram {
+
+    /** Upper bounds of buckets in seconds, in ascending order */
+    @Getter @NotNull private final double[] bounds;
+
+    /** Upper bounds of buckets in nanoseconds */
+    @NotNull private final long[] boundsNanos;
+
+    /** Amount of values in each bucket, last one is for values larger than all bounds */
+    @NotNull private final LongAdder[] counts;
+
+    /** Sum of all recorded values in nanoseconds */
+    @NotNull private final LongAdder sum = new LongAdder();
+
+    /**
+     * Constructs new instance with given bucket bounds.
+     *
+     * @param   bounds
+     *          Upper bounds of buckets in seconds, in ascending order
+     */
+    public Histogram(@NotNull double... bounds) {
+        this.bounds = bounds;
+        boundsNanos = new long[bounds.length];
+        counts = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < bounds.length; i++) {
+            boundsNanos[i] = (long) (bounds[i] * TimeUnit.SECONDS.toNanos(1));
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a measured duration.
+     *
+     * @param   nanoseconds
+     *          Duration in nanoseconds
+     */
+    public void record(long nanoseconds) {
+        int bucket = 0;
+        while (bucket < boundsNanos.length && nanoseconds > boundsNanos[bucket]) bucket++;
+        counts[bucket].increment();
+        sum.add(nanoseconds);
+    }
+
+    /**
+     * Returns cumulative amount of values for each bucket, which is the amount of values
+     * lower than or equal to its bound. Last value is the amount of all values.
+     *
+     * @return  Cumulative amount of values for each bucket
+     */
+    @NotNull
+    public long[] getCumulativeCounts() {
+        long[] cumulative = new long[counts.length];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            total += counts[i].sum();
+            cumulative[i] = total;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Returns sum of all recorded values in seconds.
+     *
+     * @return  Sum of all recorded values in seconds
+     */
+    public double getSum() {
+        return sum.sum() / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -1,6 +1,7 @@
 package me.neznamy.tab.shared.features;
 
 import me.neznamy.tab.api.tablist.HeaderFooterManager;
+import me.neznamy.tab.shared.Property;
 import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.chat.SimpleComponent;
@@ -141,7 +142,12 @@ public class HeaderFooter extends TabFeature implements HeaderFooterManager, Joi
 
     private void sendHeaderFooter(TabPlayer player, String header, String footer) {
         if (player.disabledHeaderFooter.get()) return;
-        player.getTabList().setPlayerListHeaderFooter(TabComponent.optimized(header), TabComponent.optimized(footer));
+        Property headerProperty = player.getProperty(TabConstants.Property.HEADER);
+        Property footerProperty = player.getProperty(TabConstants.Property.FOOTER);
+        // Values with player placeholders would never be sent to anyone else, do not push shared packets out with them
+        boolean shared = headerProperty == null || footerProperty == null ||
+                (!headerProperty.isPlayerSpecific() && !footerProperty.isPlayerSpecific());
+        player.getTabList().setPlayerListHeaderFooter(TabComponent.optimized(header), TabComponent.optimized(footer), shared);
     }
 
     @Override
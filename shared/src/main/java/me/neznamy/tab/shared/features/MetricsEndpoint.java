@@ -0,0 +1,275 @@
+package me.neznamy.tab.shared.features;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.TabConstants;
+import me.neznamy.tab.shared.chat.EnumChatFormat;
+import me.neznamy.tab.shared.chat.SimpleComponent;
+import me.neznamy.tab.shared.cpu.CpuManager;
+import me.neznamy.tab.shared.cpu.Histogram;
+import me.neznamy.tab.shared.features.redis.RedisSupport;
+import me.neznamy.tab.shared.features.redis.RedisSupport.TrafficStatistics;
+import me.neznamy.tab.shared.features.types.Loadable;
+import me.neznamy.tab.shared.features.types.TabFeature;
+import me.neznamy.tab.shared.features.types.UnLoadable;
+import me.neznamy.tab.shared.util.ComponentCache;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Embedded HTTP endpoint serving performance counters in OpenMetrics format,
+ * so they can be scraped by monitoring tools. It is only bound to the loopback
+ * address and enables CPU usage tracking, which the counters are taken from.
+ */
+public class MetricsEndpoint extends TabFeature implements Loadable, UnLoadable {
+
+    /** Content type of OpenMetrics text format */
+    private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    /** Port to listen on */
+    private final int port = config().getInt("metrics-endpoint.port", 9225);
+
+    /** Running server or {@code null} if it failed to start */
+    @Nullable private HttpServer server;
+
+    /** Thread handling requests */
+    @Nullable private ExecutorService executor;
+
+    /** Placeholder manager for refresh lag */
+    private PlaceholderManagerImpl placeholderManager;
+
+    /** Redis support for message rates or {@code null} if not enabled */
+    @Nullable private RedisSupport redis;
+
+    @Override
+    public void load() {
+        placeholderManager = TAB.getInstance().getPlaceholderManager();
+        redis = TAB.getInstance().getFeatureManager().getFeature(TabConstants.Feature.REDIS_BUNGEE);
+        TAB.getInstance().getCPUManager().enableTracking();
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            TAB.getInstance().getPlatform().logWarn(new SimpleComponent("Failed to start metrics endpoint on port " + port + ": " + e.getMessage()));
+            return;
+        }
+        executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("TAB Metrics Endpoint Thread").setDaemon(true).build());
+        server.setExecutor(executor);
+        server.createContext("/metrics", this::handle);
+        server.start();
+        TAB.getInstance().getPlatform().logInfo(new SimpleComponent(EnumChatFormat.GREEN + "Metrics endpoint is listening on http://" +
+                InetAddress.getLoopbackAddress().getHostAddress() + ":" + port + "/metrics"));
+    }
+
+    @Override
+    public void unload() {
+        if (server != null) server.stop(0);
+        if (executor != null) executor.shutdownNow();
+    }
+
+    private void handle(@NotNull HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body;
+            try {
+                body = writeMetrics().getBytes(StandardCharsets.UTF_8);
+            } catch (RuntimeException e) {
+                TAB.getInstance().getErrorManager().printError("Failed to write metrics", e);
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Writes all metrics in OpenMetrics text format.
+     *
+     * @return  All metrics in OpenMetrics text format
+     */
+    @NotNull
+    private String writeMetrics() {
+        CpuManager cpu = TAB.getInstance().getCPUManager();
+        MetricsWriter out = new MetricsWriter();
+
+        out.family("tab_online_players", "gauge", "Amount of online players");
+        out.sample("tab_online_players", TAB.getInstance().getOnlinePlayers().length);
+
+        out.family("tab_feature_cpu_seconds", "counter", "Time spent by features processing tasks");
+        for (Map.Entry<String, Map<String, Long>> feature : cpu.getFeatureUsageTotal().entrySet()) {
+            for (Map.Entry<String, Long> type : feature.getValue().entrySet()) {
+                out.sample("tab_feature_cpu_seconds_total", seconds(type.getValue()), "feature", feature.getKey(), "type", type.getKey());
+            }
+        }
+
+        out.family("tab_placeholder_cpu_seconds", "counter", "Time spent by placeholders retrieving values");
+        for (Map.Entry<String, Long> placeholder : cpu.getPlaceholderUsageTotal().entrySet()) {
+            out.sample("tab_placeholder_cpu_seconds_total", seconds(placeholder.getValue()), "placeholder", placeholder.getKey());
+        }
+
+        out.family("tab_placeholder_refresh_lag_seconds", "histogram", "Time between start of placeholder refresh loops and their results being applied");
+        out.histogram("tab_placeholder_refresh_lag_seconds", placeholderManager.getRefreshLag());
+
+        out.family("tab_queued_tasks", "gauge", "Tasks ready to run waiting in the queue of a thread");
+        out.sample("tab_queued_tasks", cpu.getQueuedTasks(), "thread", "processing");
+        out.sample("tab_queued_tasks", cpu.getQueuedPlaceholderTasks(), "thread", "placeholder");
+
+        out.family("tab_packets_sent", "counter", "Scoreboard, tablist, boss bar and nametag entity packets sent by the plugin");
+        for (Map.Entry<String, Long> packet : cpu.getPacketsSent().entrySet()) {
+            out.sample("tab_packets_sent_total", packet.getValue(), "type", packet.getKey());
+        }
+
+        out.family("tab_component_cache_requests", "counter", "Requests to component caches");
+        for (ComponentCache<?, ?> cache : ComponentCache.getAll()) {
+            out.sample("tab_component_cache_requests_total", cache.getHits(), "cache", cache.getName(), "result", "hit");
+            out.sample("tab_component_cache_requests_total", cache.getMisses(), "cache", cache.getName(), "result", "miss");
+        }
+        out.family("tab_component_cache_entries", "gauge", "Entries stored in component caches");
+        for (ComponentCache<?, ?> cache : ComponentCache.getAll()) {
+            out.sample("tab_component_cache_entries", cache.size(), "cache", cache.getName());
+        }
+
+        if (redis != null) {
+            writeRedis(out, redis, "frames", "Redis frames", TrafficStatistics::getFrames);
+            writeRedis(out, redis, "messages", "Redis messages in frames", TrafficStatistics::getMessages);
+            writeRedis(out, redis, "characters", "Total length of redis frames", TrafficStatistics::getLength);
+        }
+        return out.finish();
+    }
+
+    private void writeRedis(@NotNull MetricsWriter out, @NotNull RedisSupport redis, @NotNull String name, @NotNull String help,
+                            @NotNull Function<TrafficStatistics, LongAdder> counter) {
+        String family = "tab_redis_" + name;
+        out.family(family, "counter", help + " sent to and received from other proxies");
+        out.sample(family + "_total", counter.apply(redis.getSent()).sum(), "direction", "sent");
+        out.sample(family + "_total", counter.apply(redis.getReceived()).sum(), "direction", "received");
+    }
+
+    private double seconds(long nanoseconds) {
+        return nanoseconds / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    @Override
+    @NotNull
+    public String getFeatureName() {
+        return "Metrics endpoint";
+    }
+
+    /**
+     * Builder of OpenMetrics text format.
+     */
+    private static class MetricsWriter {
+
+        private final StringBuilder builder = new StringBuilder();
+
+        /**
+         * Writes metadata of a metric family.
+         *
+         * @param   name
+         *          Name of the family
+         * @param   type
+         *          Type of the family
+         * @param   help
+         *          Description of the family
+         */
+        public void family(@NotNull String name, @NotNull String type, @NotNull String help) {
+            builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+            builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        }
+
+        /**
+         * Writes a sample.
+         *
+         * @param   name
+         *          Name of the sample
+         * @param   value
+         *          Value of the sample
+         * @param   labels
+         *          Label names and values alternating
+         */
+        public void sample(@NotNull String name, double value, @NotNull String... labels) {
+            builder.append(name);
+            if (labels.length > 0) {
+                builder.append('{');
+                for (int i = 0; i < labels.length; i += 2) {
+                    if (i > 0) builder.append(',');
+                    builder.append(labels[i]).append("=\"");
+                    escape(labels[i + 1]);
+                    builder.append('"');
+                }
+                builder.append('}');
+            }
+            builder.append(' ');
+            if (value == (long) value) {
+                builder.append((long) value);
+            } else {
+                builder.append(value);
+            }
+            builder.append('\n');
+        }
+
+        /**
+         * Writes samples of a histogram.
+         *
+         * @param   name
+         *          Name of the histogram family
+         * @param   histogram
+         *          The histogram
+         */
+        public void histogram(@NotNull String name, @NotNull Histogram histogram) {
+            double[] bounds = histogram.getBounds();
+            long[] counts = histogram.getCumulativeCounts();
+            for (int i = 0; i < bounds.length; i++) {
+                sample(name + "_bucket", counts[i], "le", String.valueOf(bounds[i]));
+            }
+            sample(name + "_bucket", counts[bounds.length], "le", "+Inf");
+            sample(name + "_count", counts[bounds.length]);
+            sample(name + "_sum", histogram.getSum());
+        }
+
+        private void escape(@NotNull String labelValue) {
+            for (int i = 0; i < labelValue.length(); i++) {
+                char c = labelValue.charAt(i);
+                if (c == '\\' || c == '"') {
+                    builder.append('\\').append(c);
+                } else if (c == '\n') {
+                    builder.append("\\n");
+                } else {
+                    builder.append(c);
+                }
+            }
+        }
+
+        /**
+         * Finishes the output and returns it.
+         *
+         * @return  Metrics in OpenMetrics text format
+         */
+        @NotNull
+        public String finish() {
+            return builder.append("# EOF\n").toString();
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package me.neznamy.tab.shared.features;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import me.neznamy.tab.api.OnlinePlayerCounter;
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.TabConstants;
+import me.neznamy.tab.shared.cpu.CpuManager;
+import me.neznamy.tab.shared.features.types.*;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Feature keeping track of amounts of online players for online placeholders.
+ * Instead of iterating over all players on every placeholder refresh, counts are
+ * updated on join, quit, world switch, server switch and vanish status change.
+ * Staff status is only kept up to date once staff counts are requested. It is rechecked
+ * on permission changes if permission plugin notifies about them, periodically otherwise.
+ * Players connected to other proxies are added by RedisSupport.
+ */
+public class OnlinePlayerCounterImpl extends TabFeature implements OnlinePlayerCounter, JoinListener, QuitListener,
+        WorldSwitchListener, ServerSwitchListener, VanishListener, Loadable, UnLoadable {
+
+    /** Lowest interval of periodic staff status refreshing in milliseconds, same as refresh of staff placeholders */
+    private static final int MINIMUM_STAFF_REFRESH_INTERVAL = 2000;
+
+    /** Counted players by their UUID with state they are currently counted with */
+    private final Map<UUID, CountedPlayer> players = new HashMap<>();
+
+    /** Amount of non-vanished players per server */
+    private final Map<String, Integer> serverOnline = new ConcurrentHashMap<>();
+
+    /** Amount of non-vanished players per world */
+    private final Map<String, Integer> worldOnline = new ConcurrentHashMap<>();
+
+    /** Amount of non-vanished players */
+    private volatile int online;
+
+    /** Amount of non-vanished staff members */
+    private volatile int staffOnline;
+
+    /** Whether staff status of players is kept up to date or not */
+    private volatile boolean trackingStaff;
+
+    /** Subscription to permission changes of players, {@code null} if not subscribed */
+    @Nullable private AutoCloseable permissionSubscription;
+
+    @Override
+    public void load() {
+        for (TabPlayer p : TAB.getInstance().getOnlinePlayers()) {
+            onJoin(p);
+        }
+    }
+
+    @Override
+    public synchronized void unload() {
+        if (permissionSubscription == null) return;
+        try {
+            permissionSubscription.close();
+        } catch (Exception e) {
+            TAB.getInstance().getErrorManager().printError("Failed to unsubscribe from permission changes", e);
+        }
+        permissionSubscription = null;
+    }
+
+    /**
+     * Starts keeping staff status of players up to date if it is not kept already. Staff status
+     * is only needed for staff counts, so this is called when they are first requested, which
+     * is when %staffonline% or %nonstaffonline% are used. If permission plugin notifies about
+     * permission changes, only players whose permissions changed are checked. Otherwise, all
+     * players are checked periodically.
+     */
+    private synchronized void trackStaff() {
+        if (trackingStaff) return;
+        trackingStaff = true;
+        CpuManager cpu = TAB.getInstance().getCPUManager();
+        // Staff status was only checked on join until now
+        cpu.runMeasuredTask(getFeatureName(), TabConstants.CpuUsageCategory.STAFF_STATUS_REFRESH, this::refreshStaff);
+        Function<Consumer<UUID>, AutoCloseable> subscriber = TAB.getInstance().getGroupManager().getGroupChangeSubscriber();
+        if (subscriber != null) {
+            permissionSubscription = subscriber.apply(id -> cpu.runMeasuredTask(getFeatureName(),
+                    TabConstants.CpuUsageCategory.STAFF_STATUS_REFRESH, () -> {
+                        TabPlayer player = TAB.getInstance().getPlayer(id);
+                        if (player != null) setStaff(id, player.hasPermission(TabConstants.Permission.STAFF));
+                    }));
+        } else {
+            cpu.startRepeatingMeasuredTask(Math.max(MINIMUM_STAFF_REFRESH_INTERVAL, TAB.getInstance().getConfiguration().getPermissionRefreshInterval()),
+                    getFeatureName(), TabConstants.CpuUsageCategory.STAFF_STATUS_REFRESH, this::refreshStaff);
+        }
+    }
+
+    /**
+     * Checks staff permission of all online players and updates their staff status.
+     */
+    private void refreshStaff() {
+        for (TabPlayer p : TAB.getInstance().getOnlinePlayers()) {
+            setStaff(p.getUniqueId(), p.hasPermission(TabConstants.Permission.STAFF));
+        }
+    }
+
+    @Override
+    public void onJoin(@NotNull TabPlayer connectedPlayer) {
+        addPlayer(connectedPlayer.getUniqueId(), connectedPlayer.getServer(), connectedPlayer.getWorld(),
+                connectedPlayer.hasPermission(TabConstants.Permission.STAFF), connectedPlayer.isVanished());
+    }
+
+    @Override
+    public void onQuit(@NotNull TabPlayer disconnectedPlayer) {
+        removePlayer(disconnectedPlayer.getUniqueId());
+    }
+
+    @Override
+    public void onWorldChange(@NotNull TabPlayer changed, @NotNull String from, @NotNull String to) {
+        setWorld(changed.getUniqueId(), to);
+    }
+
+    @Override
+    public void onServerChange(@NotNull TabPlayer changed, @NotNull String from, @NotNull String to) {
+        setServer(changed.getUniqueId(), to);
+    }
+
+    @Override
+    public void onVanishStatusChange(@NotNull TabPlayer player) {
+        setVanished(player.getUniqueId(), player.isVanished());
+    }
+
+    /**
+     * Starts counting player with given state. If a player with the same UUID
+     * is already counted, they are replaced.
+     *
+     * @param   id
+     *          UUID of the player
+     * @param   server
+     *          Server the player is connected to
+     * @param   world
+     *          World the player is in or {@code null} if not known
+     * @param   staff
+     *          Whether player is staff or not
+     * @param   vanished
+     *          Whether player is vanished or not
+     */
+    public void addPlayer(@NonNull UUID id, @NonNull String server, @Nullable String world, boolean staff, boolean vanished) {
+        CountedPlayer player = new CountedPlayer(server, world, staff, vanished);
+        synchronized (players) {
+            CountedPlayer previous = players.put(id, player);
+            if (previous != null) count(previous, -1);
+            count(player, 1);
+        }
+    }
+
+    /**
+     * Stops counting player with given UUID.
+     *
+     * @param   id
+     *          UUID of the player
+     */
+    public void removePlayer(@NonNull UUID id) {
+        synchronized (players) {
+            CountedPlayer player = players.remove(id);
+            if (player != null) count(player, -1);
+        }
+    }
+
+    /**
+     * Updates world of player with given UUID.
+     *
+     * @param   id
+     *          UUID of the player
+     * @param   world
+     *          New world of the player
+     */
+    public void setWorld(@NonNull UUID id, @NonNull String world) {
+        synchronized (players) {
+            CountedPlayer player = players.get(id);
+            if (player == null || world.equals(player.world)) return;
+            count(player, -1);
+            player.world = world;
+            count(player, 1);
+        }
+    }
+
+    /**
+     * Updates server of player with given UUID.
+     *
+     * @param   id
+     *          UUID of the player
+     * @param   server
+     *          New server of the player
+     */
+    public void setServer(@NonNull UUID id, @NonNull String server) {
+        synchronized (players) {
+            CountedPlayer player = players.get(id);
+            if (player == null || player.server.equals(server)) return;
+            count(player, -1);
+            player.server = server;
+            count(player, 1);
+        }
+    }
+
+    /**
+     * Updates vanish status of player with given UUID.
+     *
+     * @param   id
+     *          UUID of the player
+     * @param   vanished
+     *          New vanish status
+     */
+    public void setVanished(@NonNull UUID id, boolean vanished) {
+        synchronized (players) {
+            CountedPlayer player = players.get(id);
+            if (player == null || player.vanished == vanished) return;
+            count(player, -1);
+            player.vanished = vanished;
+            count(player, 1);
+        }
+    }
+
+    /**
+     * Updates staff status of player with given UUID.
+     *
+     * @param   id
+     *          UUID of the player
+     * @param   staff
+     *          New staff status
+     */
+    public void setStaff(@NonNull UUID id, boolean staff) {
+        synchronized (players) {
+            CountedPlayer player = players.get(id);
+            if (player == null || player.staff == staff) return;
+            count(player, -1);
+            player.staff = staff;
+            count(player, 1);
+        }
+    }
+
+    /**
+     * Adds or removes player from all counters they belong to. Must be called
+     * while holding lock of {@link #players}.
+     *
+     * @param   player
+     *          Player to count
+     * @param   delta
+     *          {@code 1} to add the player, {@code -1} to remove
+     */
+    private void count(@NotNull CountedPlayer player, int delta) {
+        if (player.vanished) return;
+        online += delta;
+        if (player.staff) staffOnline += delta;
+        add(serverOnline, player.server, delta);
+        if (player.world != null) add(worldOnline, player.world, delta);
+    }
+
+    private void add(@NotNull Map<String, Integer> counts, @NotNull String key, int delta) {
+        // Empty entries are removed to not keep servers and worlds nobody is in anymore
+        counts.merge(key, delta, (current, d) -> current + d == 0 ? null : current + d);
+    }
+
+    @Override
+    public int getOnline() {
+        return online;
+    }
+
+    @Override
+    public int getStaffOnline() {
+        if (!trackingStaff) trackStaff();
+        return staffOnline;
+    }
+
+    @Override
+    public int getNonStaffOnline() {
+        if (!trackingStaff) trackStaff();
+        return online - staffOnline;
+    }
+
+    @Override
+    public int getWorldOnline(@NonNull String world) {
+        return worldOnline.getOrDefault(world, 0);
+    }
+
+    @Override
+    public int getServerOnline(@NonNull String server) {
+        return serverOnline.getOrDefault(server, 0);
+    }
+
+    @Override
+    @NotNull
+    public String getFeatureName() {
+        return "Online player counter";
+    }
+
+    /**
+     * State a player is currently counted with.
+     */
+    @AllArgsConstructor
+    private static class CountedPlayer {
+
+        @NotNull private String server;
+        @Nullable private String world;
+        private boolean staff;
+        private boolean vanished;
+    }
+}
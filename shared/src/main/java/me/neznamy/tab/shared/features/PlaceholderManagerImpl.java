@@ -17,6 +17,9 @@ import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants.CpuUsageCategory;
 import me.neznamy.tab.shared.cpu.CpuManager;
+import me.neznamy.tab.shared.cpu.EventRecorder;
+import me.neznamy.tab.shared.cpu.Histogram;
+import me.neznamy.tab.shared.placeholders.AdaptiveRefreshInterval;
 import me.neznamy.tab.shared.placeholders.PlaceholderRefreshTask;
 import me.neznamy.tab.shared.placeholders.expansion.EmptyTabExpansion;
 import me.neznamy.tab.shared.platform.TabPlayer;
@@ -42,6 +45,17 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
     private final Map<String, Integer> refreshIntervals = config().getConfigurationSection("placeholderapi-refresh-intervals");
     private final int defaultRefresh;
 
+    /** Lowest and highest interval adaptive refresh intervals can use */
+    private final int adaptiveMinimum = Math.max(TabConstants.Placeholder.MINIMUM_REFRESH_INTERVAL,
+            config().getInt("adaptive-refresh-intervals.minimum-interval", 100));
+    private final int adaptiveMaximum = Math.max(adaptiveMinimum, config().getInt("adaptive-refresh-intervals.maximum-interval", 10000));
+
+    /** Whether refresh intervals adapt to how often values of placeholders change or not */
+    @Getter private final boolean adaptiveRefresh = config().getBoolean("adaptive-refresh-intervals.enabled", false);
+
+    /** Adaptive refresh intervals of placeholders by their identifier */
+    private final Map<String, AdaptiveRefreshInterval> adaptiveIntervals = new ConcurrentHashMap<>();
+
     private final Map<String, Placeholder> registeredPlaceholders = new HashMap<>();
 
     //map of String-Set of features using placeholder
@@ -50,6 +64,9 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
 
     @Getter private int loopTime;
 
+    /** Time between start of refresh loops and their results being applied */
+    @Getter private final Histogram refreshLag = new Histogram(0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10);
+
     @NotNull @Getter private final TabExpansion tabExpansion = registerExpansion ?
             TAB.getInstance().getPlatform().createTabExpansion() : new EmptyTabExpansion();
 
@@ -72,7 +89,7 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
         loopTime += TabConstants.Placeholder.MINIMUM_REFRESH_INTERVAL;
         List<Placeholder> placeholders = new ArrayList<>();
         for (Placeholder placeholder : usedPlaceholders) {
-            if (placeholder.getRefresh() == -1 || loopTime % placeholder.getRefresh() != 0) continue;
+            if (placeholder.getRefresh() == -1 || loopTime % getEffectiveRefresh(placeholder) != 0) continue;
             placeholders.add(placeholder);
         }
         if (placeholders.isEmpty()) return;
@@ -81,7 +98,9 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
         cpu.getPlaceholderThread().submit(() -> {
             // Run in placeholder refreshing thread
             long time2 = System.nanoTime();
+            EventRecorder.Operation operation = EventRecorder.placeholderRefresh(placeholders.size());
             task.run();
+            operation.end(task.getRequests());
             cpu.addTime(getFeatureName(), CpuUsageCategory.PLACEHOLDER_REQUEST, System.nanoTime() - time2);
 
             // Back to main thread
@@ -90,7 +109,9 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
     }
 
     private void processRefreshResults(@NotNull PlaceholderRefreshTask task) {
+        EventRecorder.Operation operation = EventRecorder.placeholderUpdate();
         long time = System.nanoTime();
+        refreshLag.record(time - task.getCreationTime());
         Map<TabPlayer, Set<Refreshable>> update = new HashMap<>(TAB.getInstance().getOnlinePlayers().length + 1, 1);
         updateServerPlaceholders(task.getServerPlaceholderResults(), update);
         updatePlayerPlaceholders(task.getPlayerPlaceholderResults(), update);
@@ -98,14 +119,25 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
         cpu.addTime(getFeatureName(), CpuUsageCategory.PLACEHOLDER_SAVE, System.nanoTime() - time);
         cpu.addPlaceholderTimes(task.getUsedTime());
 
-        refreshFeatures(forceUpdate, update);
+        operation.end(refreshFeatures(forceUpdate, update));
     }
-    
-    private void refreshFeatures(@NotNull Map<TabPlayer, Set<Refreshable>> forceUpdate, @NotNull Map<TabPlayer, Set<Refreshable>> update) {
+
+    /**
+     * Refreshes features using refreshed placeholders and returns amount of performed refreshes.
+     *
+     * @param   forceUpdate
+     *          Features to refresh with force for each player
+     * @param   update
+     *          Features to refresh for each player
+     * @return  Amount of performed refreshes
+     */
+    private int refreshFeatures(@NotNull Map<TabPlayer, Set<Refreshable>> forceUpdate, @NotNull Map<TabPlayer, Set<Refreshable>> update) {
+        int refreshes = 0;
         for (Entry<TabPlayer, Set<Refreshable>> entry : update.entrySet()) {
             for (Refreshable r : entry.getValue()) {
                 long startTime = System.nanoTime();
                 r.refresh(entry.getKey(), false);
+                refreshes++;
                 cpu.addTime(r.getFeatureName(), r.getRefreshDisplayName(), System.nanoTime() - startTime);
             }
         }
@@ -113,9 +145,11 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
             for (Refreshable r : entry.getValue()) {
                 long startTime = System.nanoTime();
                 r.refresh(entry.getKey(), true);
+                refreshes++;
                 cpu.addTime(r.getFeatureName(), r.getRefreshDisplayName(), System.nanoTime() - startTime);
             }
         }
+        return refreshes;
     }
 
     @NotNull
@@ -125,18 +159,23 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
         Map<TabPlayer, Set<Refreshable>> update = new HashMap<>(TAB.getInstance().getOnlinePlayers().length + 1, 1);
         for (Entry<RelationalPlaceholderImpl, Map<TabPlayer, Map<TabPlayer, Object>>> entry : results.entrySet()) {
             RelationalPlaceholderImpl placeholder = entry.getKey();
+            int values = 0;
+            Set<TabPlayer> changed = new HashSet<>();
             for (Entry<TabPlayer, Map<TabPlayer, Object>> viewerResult : entry.getValue().entrySet()) {
                 TabPlayer viewer = viewerResult.getKey();
                 if (!viewer.isOnline()) continue; // Player disconnected in the meantime while refreshing in another thread
                 for (Entry<TabPlayer, Object> targetResult : viewerResult.getValue().entrySet()) {
                     TabPlayer target = targetResult.getKey();
                     if (!target.isOnline()) continue; // Player disconnected in the meantime while refreshing in another thread
+                    values++;
                     if (placeholder.hasValueChanged(viewer, target, targetResult.getValue())) {
+                        changed.add(target);
                         placeholder.updateParents(target);
                         update.computeIfAbsent(target, x -> new HashSet<>()).addAll(getPlaceholderUsage(placeholder.getIdentifier()));
                     }
                 }
             }
+            recordChanges(placeholder, values, changed);
         }
         return update;
     }
@@ -146,10 +185,14 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
         if (results.isEmpty()) return;
         for (Entry<PlayerPlaceholderImpl, Map<TabPlayer, Object>> entry : results.entrySet()) {
             PlayerPlaceholderImpl placeholder = entry.getKey();
+            int values = 0;
+            List<TabPlayer> changed = new ArrayList<>();
             for (Entry<TabPlayer, Object> playerResult : entry.getValue().entrySet()) {
                 TabPlayer player = playerResult.getKey();
                 if (!player.isOnline()) continue; // Player disconnected in the meantime while refreshing in another thread
+                values++;
                 if (placeholder.hasValueChanged(player, playerResult.getValue())) {
+                    changed.add(player);
                     placeholder.updateParents(player);
                     update.computeIfAbsent(player, k -> new HashSet<>()).addAll(getPlaceholderUsage(placeholder.getIdentifier()));
                     if (placeholder.getIdentifier().equals(TabConstants.Placeholder.VANISHED)) {
@@ -160,6 +203,7 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
                     }
                 }
             }
+            recordChanges(placeholder, values, changed);
         }
     }
 
@@ -168,15 +212,73 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
         if (results.isEmpty()) return;
         for (Entry<ServerPlaceholderImpl, Object> entry : results.entrySet()) {
             ServerPlaceholderImpl placeholder = entry.getKey();
-            if (placeholder.hasValueChanged(entry.getValue())) {
+            boolean changed = placeholder.hasValueChanged(entry.getValue());
+            if (changed) {
                 for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
                     placeholder.updateParents(all);
                     update.computeIfAbsent(all, k -> new HashSet<>()).addAll(getPlaceholderUsage(placeholder.getIdentifier()));
                 }
             }
+            recordChanges(placeholder, 1, changed ? Collections.singletonList(placeholder) : Collections.emptyList());
         }
     }
 
+    /**
+     * Records which values of a placeholder changed in a refresh for adaptive refresh intervals.
+     *
+     * @param   placeholder
+     *          Refreshed placeholder
+     * @param   values
+     *          Amount of requested values
+     * @param   changed
+     *          Players whose value changed or the placeholder itself for server placeholders
+     */
+    private void recordChanges(@NotNull Placeholder placeholder, int values, @NotNull Collection<?> changed) {
+        if (!isAdaptive(placeholder)) return;
+        getAdaptiveInterval(placeholder).record(values, changed);
+    }
+
+    /**
+     * Returns {@code true} if refresh interval of the placeholder adapts to its changes,
+     * {@code false} if configured interval is always used. Internal placeholders which
+     * trigger features when changed, such as vanish and gamemode processing or conditions,
+     * are not adapted, so the features are not delayed.
+     *
+     * @param   placeholder
+     *          Placeholder to check
+     * @return  {@code true} if refresh interval of the placeholder adapts, {@code false} if not
+     */
+    private boolean isAdaptive(@NotNull Placeholder placeholder) {
+        if (!adaptiveRefresh || placeholder.getRefresh() == -1) return false;
+        String identifier = placeholder.getIdentifier();
+        return !identifier.equals(TabConstants.Placeholder.VANISHED) && !identifier.equals(TabConstants.Placeholder.GAMEMODE) &&
+                !identifier.startsWith("%condition:");
+    }
+
+    @NotNull
+    private AdaptiveRefreshInterval getAdaptiveInterval(@NotNull Placeholder placeholder) {
+        AdaptiveRefreshInterval interval = adaptiveIntervals.get(placeholder.getIdentifier());
+        if (interval == null || interval.getConfiguredInterval() != placeholder.getRefresh()) {
+            // First refresh or placeholder was registered again with a different interval
+            interval = new AdaptiveRefreshInterval(placeholder.getRefresh(), adaptiveMinimum, adaptiveMaximum);
+            adaptiveIntervals.put(placeholder.getIdentifier(), interval);
+        }
+        return interval;
+    }
+
+    /**
+     * Returns interval the placeholder is currently refreshed in. If adaptive refresh intervals
+     * are enabled, this is the adapted interval, otherwise the configured one.
+     *
+     * @param   placeholder
+     *          Placeholder to get interval of
+     * @return  Current refresh interval of the placeholder in milliseconds
+     */
+    public int getEffectiveRefresh(@NotNull Placeholder placeholder) {
+        if (!isAdaptive(placeholder)) return placeholder.getRefresh();
+        return getAdaptiveInterval(placeholder).getInterval();
+    }
+
     /**
      * Returns refresh interval the placeholder has configured. If not configured,
      * default refresh interval is returned.
@@ -279,6 +381,24 @@ public class PlaceholderManagerImpl extends TabFeature implements PlaceholderMan
         }
     }
 
+    /**
+     * Removes specified features from users of all placeholders, so they are no
+     * longer refreshed. Placeholders no longer used by any feature stop refreshing.
+     *
+     * @param   features
+     *          Features to remove
+     */
+    public void removeUsedPlaceholders(@NonNull Collection<? extends Refreshable> features) {
+        boolean changed = false;
+        for (Iterator<Set<Refreshable>> iterator = placeholderUsage.values().iterator(); iterator.hasNext();) {
+            Set<Refreshable> usage = iterator.next();
+            if (!usage.removeAll(features)) continue;
+            changed = true;
+            if (usage.isEmpty()) iterator.remove();
+        }
+        if (changed) recalculateUsedPlaceholders();
+    }
+
     /**
      * Updates array of used placeholders.
      */
@@ -53,7 +53,9 @@ public class SpectatorFix extends TabFeature implements JoinListener, GameModeLi
     @Override
     public void onJoin(@NotNull TabPlayer p) {
         TAB.getInstance().getCPUManager().runTaskLater(100, getFeatureName(), TabConstants.CpuUsageCategory.PLAYER_JOIN,
-                () -> updatePlayer(p, false, true));
+                () -> {
+                    if (isActive()) updatePlayer(p, false, true);
+                });
     }
 
     @Override
@@ -74,6 +76,7 @@ public class SpectatorFix extends TabFeature implements JoinListener, GameModeLi
     public void onServerChange(@NotNull TabPlayer changed, @NotNull String from, @NotNull String to) {
         // 200ms delay for global playerlist, taking extra time
         TAB.getInstance().getCPUManager().runTaskLater(300, getFeatureName(), TabConstants.CpuUsageCategory.SERVER_SWITCH, () -> {
+            if (!isActive()) return;
             for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
                 updatePlayer(all, false, true);
             }
@@ -111,7 +111,7 @@ public class BossBarLine implements BossBar {
      */
     public boolean isConditionMet(@NonNull TabPlayer p) {
         if (displayCondition == null) return true;
-        return displayCondition.isMet(p);
+        return displayCondition.isMetCached(p);
     }
 
     /**
@@ -182,6 +182,7 @@ public class BossBarLine implements BossBar {
      *          Player to resend bossbar to
      */
     public void sendToPlayerRaw(@NotNull TabPlayer player) {
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.BOSSBAR_CREATE);
         player.getBossBar().create(
                 uniqueId,
                 player.getProperty(propertyTitle).updateAndGet(),
@@ -211,6 +212,7 @@ public class BossBarLine implements BossBar {
         this.title = title;
         for (TabPlayer p : players) {
             p.setProperty(textRefresher, propertyTitle, title);
+            TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.BOSSBAR_UPDATE);
             p.getBossBar().update(uniqueId, p.getProperty(propertyTitle).get());
         }
     }
@@ -221,6 +223,7 @@ public class BossBarLine implements BossBar {
         this.progress = progress;
         for (TabPlayer p : players) {
             p.setProperty(progressRefresher, propertyProgress, progress);
+            TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.BOSSBAR_UPDATE);
             p.getBossBar().update(uniqueId, parseProgress(p, p.getProperty(propertyProgress).get())/100);
         }
     }
@@ -236,6 +239,7 @@ public class BossBarLine implements BossBar {
         this.color = color;
         for (TabPlayer p : players) {
             p.setProperty(colorRefresher, propertyColor, color);
+            TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.BOSSBAR_UPDATE);
             p.getBossBar().update(uniqueId, parseColor(p.getProperty(propertyColor).get()));
         }
     }
@@ -251,6 +255,7 @@ public class BossBarLine implements BossBar {
         this.style = style;
         for (TabPlayer p : players) {
             p.setProperty(styleRefresher, propertyColor, style);
+            TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.BOSSBAR_UPDATE);
             p.getBossBar().update(uniqueId, parseStyle(p.getProperty(propertyStyle).get()));
         }
     }
@@ -277,6 +282,7 @@ public class BossBarLine implements BossBar {
         TabPlayer player = (TabPlayer) p;
         if (!players.contains(player)) return;
         players.remove(player);
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.BOSSBAR_REMOVE);
         player.getBossBar().remove(uniqueId);
     }
 
@@ -296,6 +302,7 @@ public class BossBarLine implements BossBar {
         @Override
         public void refresh(@NotNull TabPlayer refreshed, boolean force) {
             if (!players.contains(refreshed)) return;
+            TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.BOSSBAR_UPDATE);
             refreshed.getBossBar().update(uniqueId, refreshed.getProperty(propertyTitle).updateAndGet());
         }
 
@@ -317,6 +324,7 @@ public class BossBarLine implements BossBar {
         @Override
         public void refresh(@NotNull TabPlayer refreshed, boolean force) {
             if (!players.contains(refreshed)) return;
+            TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.BOSSBAR_UPDATE);
             refreshed.getBossBar().update(uniqueId, parseProgress(refreshed, refreshed.getProperty(propertyProgress).updateAndGet())/100);
         }
 
@@ -338,6 +346,7 @@ public class BossBarLine implements BossBar {
         @Override
         public void refresh(@NotNull TabPlayer refreshed, boolean force) {
             if (!players.contains(refreshed)) return;
+            TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.BOSSBAR_UPDATE);
             refreshed.getBossBar().update(uniqueId, parseColor(refreshed.getProperty(propertyColor).updateAndGet()));
         }
 
@@ -359,6 +368,7 @@ public class BossBarLine implements BossBar {
         @Override
         public void refresh(@NotNull TabPlayer refreshed, boolean force) {
             if (!players.contains(refreshed)) return;
+            TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.BOSSBAR_UPDATE);
             refreshed.getBossBar().update(uniqueId, parseStyle(refreshed.getProperty(propertyStyle).updateAndGet()));
         }
 
@@ -34,8 +34,6 @@ public class BossBarManagerImpl extends TabFeature implements BossBarManager, Jo
     @Getter private final String command = config().getString("bossbar.toggle-command", "/bossbar");
     private final boolean hiddenByDefault = config().getBoolean("bossbar.hidden-by-default", false);
     private final boolean rememberToggleChoice = config().getBoolean("bossbar.remember-toggle-choice", false);
-    private final String toggleOnMessage = TAB.getInstance().getConfiguration().getMessages().getBossBarOn();
-    private final String toggleOffMessage = TAB.getInstance().getConfiguration().getMessages().getBossBarOff();
 
     //list of currently running BossBar announcements
     @Getter private final List<BossBar> announcedBossBars = new ArrayList<>();
@@ -242,7 +240,7 @@ public class BossBarManagerImpl extends TabFeature implements BossBarManager, Jo
         if (visible) {
             player.bossbarData.visible = true;
             detectBossBarsAndSend(player);
-            if (sendToggleMessage) player.sendMessage(toggleOnMessage, true);
+            if (sendToggleMessage) player.sendMessage(TAB.getInstance().getConfiguration().getMessages().getBossBarOn(), true);
             if (rememberToggleChoice) {
                 if (hiddenByDefault) {
                     if (!bossBarOffPlayers.contains(player.getName())) {
@@ -260,7 +258,7 @@ public class BossBarManagerImpl extends TabFeature implements BossBarManager, Jo
             for (BossBar l : lineValues) {
                 l.removePlayer(player);
             }
-            if (sendToggleMessage) player.sendMessage(toggleOffMessage, true);
+            if (sendToggleMessage) player.sendMessage(TAB.getInstance().getConfiguration().getMessages().getBossBarOff(), true);
             if (rememberToggleChoice) {
                 if (hiddenByDefault) {
                     if (bossBarOffPlayers.remove(player.getName())) {
@@ -291,7 +289,9 @@ public class BossBarManagerImpl extends TabFeature implements BossBarManager, Jo
         if (line == null) throw new IllegalArgumentException("No registered BossBar found with name " + bossBar);
         TAB.getInstance().getCPUManager().runMeasuredTask(getFeatureName(), "Adding temporary BossBar", () -> line.addPlayer(player));
         TAB.getInstance().getCPUManager().runTaskLater((int) TimeUnit.SECONDS.toMillis(duration),
-                getFeatureName(), "Removing temporary BossBar", () -> line.removePlayer(player));
+                getFeatureName(), "Removing temporary BossBar", () -> {
+                    if (isActive()) line.removePlayer(player);
+                });
     }
 
     @Override
@@ -310,6 +310,7 @@ public class BossBarManagerImpl extends TabFeature implements BossBarManager, Jo
         });
         TAB.getInstance().getCPUManager().runTaskLater((int) TimeUnit.SECONDS.toMillis(duration),
                 getFeatureName(), "Removing announced BossBar", () -> {
+                    if (!isActive()) return;
                     for (TabPlayer all : players) {
                         line.removePlayer(all);
                     }
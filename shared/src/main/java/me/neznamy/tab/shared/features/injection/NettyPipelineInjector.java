@@ -11,6 +11,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import me.neznamy.tab.shared.ProtocolVersion;
 import me.neznamy.tab.shared.TabConstants;
+import me.neznamy.tab.shared.cpu.EventRecorder;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
@@ -86,6 +87,7 @@ public abstract class NettyPipelineInjector extends PipelineInjector {
 
         @Override
         public void write(ChannelHandlerContext context, Object packet, ChannelPromise channelPromise) {
+            EventRecorder.Operation operation = EventRecorder.packetInterception(player, packet);
             try {
                 if (player.getVersion().getMinorVersion() >= 8)
                     player.getTabList().onPacketSend(packet);
@@ -105,12 +107,14 @@ public abstract class NettyPipelineInjector extends PipelineInjector {
                             TAB.getInstance().getFeatureManager().onTabListClear(player);
                         }
                     });
+                    operation.end();
                     return;
                 }
                 TAB.getInstance().getFeatureManager().onPacketSend(player, packet);
             } catch (Throwable e) {
                 TAB.getInstance().getErrorManager().printError("An error occurred when reading packets", e);
             }
+            operation.end();
             try {
                 super.write(context, packet, channelPromise);
             } catch (Throwable e) {
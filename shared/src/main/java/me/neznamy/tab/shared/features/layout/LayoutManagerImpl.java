@@ -14,6 +14,7 @@ import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.config.file.ConfigurationFile;
+import me.neznamy.tab.shared.placeholders.conditions.ConditionSelector;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.features.PlayerList;
 import me.neznamy.tab.shared.features.layout.skin.SkinManager;
@@ -40,6 +41,7 @@ public class LayoutManagerImpl extends TabFeature implements LayoutManager, Join
         }
     }};
     private final Map<String, LayoutPattern> layouts = loadLayouts();
+    private final ConditionSelector<LayoutPattern> layoutSelector = new ConditionSelector<>(layouts.values(), LayoutPattern::getCondition);
     private final Map<TabPlayer, String> sortedPlayers = Collections.synchronizedMap(new TreeMap<>(Comparator.comparing(p -> p.layoutData.sortingString)));
     private PlayerList playerList;
 
@@ -164,10 +166,7 @@ public class LayoutManagerImpl extends TabFeature implements LayoutManager, Join
 
     private @Nullable LayoutPattern getHighestLayout(@NotNull TabPlayer p) {
         if (p.layoutData.forcedLayout != null) return p.layoutData.forcedLayout;
-        for (LayoutPattern pattern : layouts.values()) {
-            if (pattern.isConditionMet(p)) return pattern;
-        }
-        return null;
+        return layoutSelector.select(p);
     }
 
     public @NotNull UUID getUUID(int slot) {
@@ -65,7 +65,7 @@ public class LayoutPattern extends TabFeature implements Refreshable, Layout {
     }
 
     public boolean isConditionMet(@NotNull TabPlayer p) {
-        return condition == null || condition.isMet(p);
+        return condition == null || condition.isMetCached(p);
     }
 
     @Override
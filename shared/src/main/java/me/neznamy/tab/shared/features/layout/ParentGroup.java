@@ -31,7 +31,7 @@ public class ParentGroup {
         players.clear();
         List<TabPlayer> meetingCondition = new ArrayList<>();
         for (TabPlayer p : remainingPlayers) {
-            if (condition == null || condition.isMet(p)) meetingCondition.add(p);
+            if (condition == null || condition.isMetCached(p)) meetingCondition.add(p);
         }
         remainingPlayers.removeAll(meetingCondition);
         for (int index = 0; index < slots.length; index++) {
@@ -1,13 +1,9 @@
 package me.neznamy.tab.shared.features.redis;
 
-import com.google.common.io.ByteArrayDataInput;
-import com.google.common.io.ByteArrayDataOutput;
-import com.google.common.io.ByteStreams;
 import lombok.Getter;
-import me.neznamy.tab.api.event.EventHandler;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
-import me.neznamy.tab.shared.event.impl.TabPlaceholderRegisterEvent;
+import me.neznamy.tab.shared.cpu.EventRecorder;
 import me.neznamy.tab.shared.features.redis.feature.*;
 import me.neznamy.tab.shared.features.redis.message.*;
 import me.neznamy.tab.shared.features.types.*;
@@ -18,13 +14,16 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 /**
  * Feature synchronizing player display data between
  * multiple proxies connected with a redis plugin.
  */
-@SuppressWarnings("UnstableApiUsage")
 @Getter
 public abstract class RedisSupport extends TabFeature implements JoinListener, QuitListener,
         Loadable, UnLoadable, ServerSwitchListener, LoginPacketListener,
@@ -33,8 +32,20 @@ public abstract class RedisSupport extends TabFeature implements JoinListener, Q
     /** Redis players on other proxies by their UUID */
     @NotNull protected final Map<UUID, RedisPlayer> redisPlayers = new ConcurrentHashMap<>();
 
-    /** UUID of this proxy to ignore messages coming from the same proxy */
-    @NotNull private final UUID proxy = UUID.randomUUID();
+    /** ID of this proxy to ignore messages coming from the same proxy */
+    private final long proxy = ThreadLocalRandom.current().nextLong();
+
+    /** Messages waiting to be sent in the next frame */
+    @NotNull private final Queue<RedisMessage> pendingMessages = new ConcurrentLinkedQueue<>();
+
+    /** Flag tracking whether sending of pending messages is already scheduled */
+    @NotNull private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    /** Statistics of sent frames */
+    @NotNull private final TrafficStatistics sent = new TrafficStatistics();
+
+    /** Statistics of received frames coming from other proxies */
+    @NotNull private final TrafficStatistics received = new TrafficStatistics();
 
     /** Features this one hooks into */
     @NotNull private final List<RedisFeature> features = new ArrayList<>();
@@ -43,7 +54,6 @@ public abstract class RedisSupport extends TabFeature implements JoinListener, Q
     @Nullable private RedisPlayerList redisPlayerList;
     @Nullable private RedisTeams redisTeams;
 
-    private EventHandler<TabPlaceholderRegisterEvent> eventHandler;
     @NotNull private final Map<String, Supplier<RedisMessage>> messages = new HashMap<>();
     @NotNull private final Map<Class<? extends RedisMessage>, String> classStringMap = new HashMap<>();
 
@@ -120,26 +130,42 @@ public abstract class RedisSupport extends TabFeature implements JoinListener, Q
     }
 
     /**
-     * Processes incoming redis message
+     * Processes incoming redis frame. Messages are decoded on the current thread,
+     * then processed on the processing thread.
      *
      * @param   msg
-     *          json message to process
+     *          frame to process
      */
     public void processMessage(@NotNull String msg) {
-        TAB.getInstance().getCPUManager().runMeasuredTask(getFeatureName(), TabConstants.CpuUsageCategory.REDIS_BUNGEE_MESSAGE, () -> {
-            ByteArrayDataInput in = ByteStreams.newDataInput(Base64.getDecoder().decode(msg));
-            String proxy = in.readUTF();
-            if (proxy.equals(this.proxy.toString())) return; // Message coming from current proxy
-            String action = in.readUTF();
-            Supplier<RedisMessage> supplier = messages.get(action);
-            if (supplier == null) {
-                TAB.getInstance().getErrorManager().unknownRedisMessage(action);
+        TAB.getInstance().getCPUManager().runAndMeasure(() -> {
+            FrameReader in = new FrameReader(msg);
+            if (in.getProtocolVersion() != FrameWriter.PROTOCOL_VERSION) {
+                TAB.getInstance().getErrorManager().redisProtocolMismatch(in.getProtocolVersion(), FrameWriter.PROTOCOL_VERSION);
                 return;
             }
-            RedisMessage redisMessage = supplier.get();
-            redisMessage.read(in);
-            redisMessage.process(this);
-        });
+            if (in.getProxy() == proxy) return; // Message coming from current proxy
+            List<RedisMessage> decoded = new ArrayList<>();
+            String action;
+            while ((action = in.nextMessage()) != null) {
+                Supplier<RedisMessage> supplier = messages.get(action);
+                if (supplier == null) {
+                    TAB.getInstance().getErrorManager().unknownRedisMessage(action);
+                    continue;
+                }
+                RedisMessage redisMessage = supplier.get();
+                redisMessage.read(in);
+                decoded.add(redisMessage);
+            }
+            received.add(msg.length(), decoded.size());
+            if (decoded.isEmpty()) return;
+            TAB.getInstance().getCPUManager().runMeasuredTask(getFeatureName(), TabConstants.CpuUsageCategory.REDIS_BUNGEE_MESSAGE, () -> {
+                EventRecorder.Operation operation = EventRecorder.redisMessage(msg.length());
+                for (RedisMessage message : decoded) {
+                    message.process(this);
+                }
+                operation.end(decoded.size());
+            });
+        }, getFeatureName(), TabConstants.CpuUsageCategory.REDIS_BUNGEE_MESSAGE);
     }
 
     /**
@@ -184,66 +210,20 @@ public abstract class RedisSupport extends TabFeature implements JoinListener, Q
             features.add(new RedisGlobalPlayerList(this, TAB.getInstance().getFeatureManager().getFeature(
                     TabConstants.Feature.GLOBAL_PLAYER_LIST)));
         }
-        overridePlaceholders();
-        TAB.getInstance().getEventBus().register(TabPlaceholderRegisterEvent.class, eventHandler);
         for (TabPlayer p : TAB.getInstance().getOnlinePlayers()) onJoin(p);
         sendMessage(new LoadRequest());
     }
 
-    private void overridePlaceholders() {
-        eventHandler = event -> {
-            String identifier = event.getIdentifier();
-            if (identifier.startsWith("%online_")) {
-                String server = identifier.substring(8, identifier.length()-1);
-                event.setServerPlaceholder(() -> {
-                    int count = 0;
-                    for (TabPlayer player : TAB.getInstance().getOnlinePlayers()) {
-                        if (player.getServer().equals(server) && !player.isVanished()) count++;
-                    }
-                    for (RedisPlayer player : redisPlayers.values()) {
-                        if (player.getServer().equals(server) && !player.isVanished()) count++;
-                    }
-                    return count;
-                });
-            }
-        };
-        TAB.getInstance().getPlaceholderManager().registerServerPlaceholder(TabConstants.Placeholder.ONLINE, 1000, () -> {
-            int count = 0;
-            for (TabPlayer player : TAB.getInstance().getOnlinePlayers()) {
-                if (!player.isVanished()) count++;
-            }
-            for (RedisPlayer player : redisPlayers.values()) {
-                if (!player.isVanished()) count++;
-            }
-            return count;
-        });
-        TAB.getInstance().getPlaceholderManager().registerServerPlaceholder(TabConstants.Placeholder.STAFF_ONLINE, 1000, () -> {
-            int count = 0;
-            for (TabPlayer player : TAB.getInstance().getOnlinePlayers()) {
-                if (!player.isVanished() && player.hasPermission(TabConstants.Permission.STAFF)) count++;
-            }
-            for (RedisPlayer player : redisPlayers.values()) {
-                if (!player.isVanished() && player.isStaff()) count++;
-            }
-            return count;
-        });
-        TAB.getInstance().getPlaceholderManager().registerPlayerPlaceholder(TabConstants.Placeholder.SERVER_ONLINE, 1000, p -> {
-            int count = 0;
-            for (TabPlayer player : TAB.getInstance().getOnlinePlayers()) {
-                if (((TabPlayer)p).getServer().equals(player.getServer()) && !player.isVanished()) count++;
-            }
-            for (RedisPlayer player : redisPlayers.values()) {
-                if (((TabPlayer)p).getServer().equals(player.getServer()) && !player.isVanished()) count++;
-            }
-            return count;
-        });
-    }
-
     @Override
     public void unload() {
         for (TabPlayer p : TAB.getInstance().getOnlinePlayers()) onQuit(p);
-        TAB.getInstance().getEventBus().unregister(eventHandler);
+        flush(); // Processing thread is about to be shut down
         unregister();
+        // Counter outlives this feature on reload, players are added back from Load messages
+        for (UUID id : redisPlayers.keySet()) {
+            TAB.getInstance().getOnlinePlayerCounter().removePlayer(id);
+        }
+        redisPlayers.clear();
     }
 
     @Override
@@ -264,17 +244,35 @@ public abstract class RedisSupport extends TabFeature implements JoinListener, Q
     }
 
     /**
-     * Sends message to other proxies.
+     * Queues message to be sent to other proxies. All messages queued
+     * during the same processing thread task are sent in a single frame.
      *
      * @param   message
      *          Message to send
      */
     public void sendMessage(@NotNull RedisMessage message) {
-        ByteArrayDataOutput out = ByteStreams.newDataOutput();
-        out.writeUTF(proxy.toString());
-        out.writeUTF(classStringMap.get(message.getClass()));
-        message.write(out);
-        sendMessage(Base64.getEncoder().encodeToString(out.toByteArray()));
+        pendingMessages.add(message);
+        if (flushScheduled.compareAndSet(false, true)) {
+            TAB.getInstance().getCPUManager().runMeasuredTask(getFeatureName(), TabConstants.CpuUsageCategory.REDIS_BUNGEE_MESSAGE, this::flush);
+        }
+    }
+
+    /**
+     * Encodes all pending messages into a single frame and sends it.
+     */
+    public void flush() {
+        flushScheduled.set(false);
+        FrameWriter out = new FrameWriter();
+        RedisMessage message;
+        int messages = 0;
+        while ((message = pendingMessages.poll()) != null) {
+            out.writeMessage(classStringMap.get(message.getClass()), message);
+            messages++;
+        }
+        if (out.isEmpty()) return;
+        String frame = out.toFrame(proxy);
+        sent.add(frame.length(), messages);
+        sendMessage(frame);
     }
 
     /**
@@ -312,4 +310,34 @@ public abstract class RedisSupport extends TabFeature implements JoinListener, Q
     public String getFeatureName() {
         return "RedisSupport";
     }
+
+    /**
+     * Amount of frames, messages and characters sent or received over redis.
+     */
+    @Getter
+    public static class TrafficStatistics {
+
+        /** Amount of frames */
+        @NotNull private final LongAdder frames = new LongAdder();
+
+        /** Amount of messages in the frames */
+        @NotNull private final LongAdder messages = new LongAdder();
+
+        /** Total length of the frames */
+        @NotNull private final LongAdder length = new LongAdder();
+
+        /**
+         * Counts a frame.
+         *
+         * @param   length
+         *          Length of the frame
+         * @param   messages
+         *          Amount of messages in the frame
+         */
+        public void add(int length, int messages) {
+            frames.increment();
+            this.messages.add(messages);
+            this.length.add(length);
+        }
+    }
 }
\ No newline at end of file
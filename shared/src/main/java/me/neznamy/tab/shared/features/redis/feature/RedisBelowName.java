@@ -1,7 +1,5 @@
 package me.neznamy.tab.shared.features.redis.feature;
 
-import com.google.common.io.ByteArrayDataInput;
-import com.google.common.io.ByteArrayDataOutput;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,6 +8,8 @@ import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.shared.features.BelowName;
 import me.neznamy.tab.shared.features.redis.RedisPlayer;
 import me.neznamy.tab.shared.features.redis.RedisSupport;
+import me.neznamy.tab.shared.features.redis.message.FrameReader;
+import me.neznamy.tab.shared.features.redis.message.FrameWriter;
 import me.neznamy.tab.shared.features.redis.message.RedisMessage;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
@@ -54,15 +54,15 @@ public class RedisBelowName extends RedisFeature {
     }
 
     @Override
-    public void write(@NotNull ByteArrayDataOutput out, @NotNull TabPlayer player) {
+    public void write(@NotNull FrameWriter out, @NotNull TabPlayer player) {
         out.writeInt(belowName.getValue(player));
-        out.writeUTF(player.getProperty(belowName.getFANCY_FORMAT_PROPERTY()).get());
+        out.writeString(player.getProperty(belowName.getFANCY_FORMAT_PROPERTY()).get());
     }
 
     @Override
-    public void read(@NotNull ByteArrayDataInput in, @NotNull RedisPlayer player) {
+    public void read(@NotNull FrameReader in, @NotNull RedisPlayer player) {
         player.setBelowNameNumber(in.readInt());
-        player.setBelowNameFancy(TabComponent.optimized(in.readUTF()));
+        player.setBelowNameFancy(TabComponent.optimized(in.readString()));
     }
 
     @Override
@@ -79,17 +79,17 @@ public class RedisBelowName extends RedisFeature {
         private String fancyValue;
 
         @Override
-        public void write(@NotNull ByteArrayDataOutput out) {
-            writeUUID(out, playerId);
+        public void write(@NotNull FrameWriter out) {
+            out.writeUUID(playerId);
             out.writeInt(value);
-            out.writeUTF(fancyValue);
+            out.writeString(fancyValue);
         }
 
         @Override
-        public void read(@NotNull ByteArrayDataInput in) {
-            playerId = readUUID(in);
+        public void read(@NotNull FrameReader in) {
+            playerId = in.readUUID();
             value = in.readInt();
-            fancyValue = in.readUTF();
+            fancyValue = in.readString();
         }
 
         @Override
@@ -1,8 +1,8 @@
 package me.neznamy.tab.shared.features.redis.feature;
 
-import com.google.common.io.ByteArrayDataInput;
-import com.google.common.io.ByteArrayDataOutput;
 import me.neznamy.tab.shared.features.redis.RedisPlayer;
+import me.neznamy.tab.shared.features.redis.message.FrameReader;
+import me.neznamy.tab.shared.features.redis.message.FrameWriter;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
 
@@ -18,9 +18,9 @@ public abstract class RedisFeature {
 
     public void onQuit(@NotNull RedisPlayer player) {/* Do nothing by default */}
 
-    public abstract void write(@NotNull ByteArrayDataOutput out, @NotNull TabPlayer player);
+    public abstract void write(@NotNull FrameWriter out, @NotNull TabPlayer player);
 
-    public abstract void read(@NotNull ByteArrayDataInput in, @NotNull RedisPlayer player);
+    public abstract void read(@NotNull FrameReader in, @NotNull RedisPlayer player);
 
     public void onLoginPacket(@NotNull TabPlayer player) {/* Do nothing by default */}
 
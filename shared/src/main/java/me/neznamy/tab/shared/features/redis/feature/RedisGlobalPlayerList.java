@@ -1,13 +1,13 @@
 package me.neznamy.tab.shared.features.redis.feature;
 
-import com.google.common.io.ByteArrayDataInput;
-import com.google.common.io.ByteArrayDataOutput;
 import lombok.RequiredArgsConstructor;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.features.GlobalPlayerList;
 import me.neznamy.tab.shared.features.redis.RedisPlayer;
 import me.neznamy.tab.shared.features.redis.RedisSupport;
+import me.neznamy.tab.shared.features.redis.message.FrameReader;
+import me.neznamy.tab.shared.features.redis.message.FrameWriter;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.platform.TabList;
 import org.jetbrains.annotations.NotNull;
@@ -60,24 +60,24 @@ public class RedisGlobalPlayerList extends RedisFeature {
     }
 
     @Override
-    public void write(@NotNull ByteArrayDataOutput out, @NotNull TabPlayer player) {
+    public void write(@NotNull FrameWriter out, @NotNull TabPlayer player) {
         out.writeBoolean(player.getSkin() != null);
         if (player.getSkin() != null) {
-            out.writeUTF(player.getSkin().getValue());
+            out.writeString(player.getSkin().getValue());
             out.writeBoolean(player.getSkin().getSignature() != null);
             if (player.getSkin().getSignature() != null) {
-                out.writeUTF(player.getSkin().getSignature());
+                out.writeString(player.getSkin().getSignature());
             }
         }
     }
 
     @Override
-    public void read(@NotNull ByteArrayDataInput in, @NotNull RedisPlayer player) {
+    public void read(@NotNull FrameReader in, @NotNull RedisPlayer player) {
         if (in.readBoolean()) {
-            String value = in.readUTF();
+            String value = in.readString();
             String signature = null;
             if (in.readBoolean()) {
-                signature = in.readUTF();
+                signature = in.readString();
             }
             player.setSkin(new TabList.Skin(value, signature));
         }
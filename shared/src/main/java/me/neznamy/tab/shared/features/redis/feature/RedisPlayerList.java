@@ -1,7 +1,5 @@
 package me.neznamy.tab.shared.features.redis.feature;
 
-import com.google.common.io.ByteArrayDataInput;
-import com.google.common.io.ByteArrayDataOutput;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,6 +9,8 @@ import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.shared.features.PlayerList;
 import me.neznamy.tab.shared.features.redis.RedisPlayer;
 import me.neznamy.tab.shared.features.redis.RedisSupport;
+import me.neznamy.tab.shared.features.redis.message.FrameReader;
+import me.neznamy.tab.shared.features.redis.message.FrameWriter;
 import me.neznamy.tab.shared.features.redis.message.RedisMessage;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
@@ -50,15 +50,15 @@ public class RedisPlayerList extends RedisFeature {
     }
 
     @Override
-    public void write(@NotNull ByteArrayDataOutput out, @NotNull TabPlayer player) {
-        out.writeUTF(player.getProperty(TabConstants.Property.TABPREFIX).get() +
+    public void write(@NotNull FrameWriter out, @NotNull TabPlayer player) {
+        out.writeString(player.getProperty(TabConstants.Property.TABPREFIX).get() +
                 player.getProperty(TabConstants.Property.CUSTOMTABNAME).get() +
                 player.getProperty(TabConstants.Property.TABSUFFIX).get());
     }
 
     @Override
-    public void read(@NotNull ByteArrayDataInput in, @NotNull RedisPlayer player) {
-        player.setTabFormat(TabComponent.optimized(in.readUTF()));
+    public void read(@NotNull FrameReader in, @NotNull RedisPlayer player) {
+        player.setTabFormat(TabComponent.optimized(in.readString()));
     }
 
     @Override
@@ -78,15 +78,15 @@ public class RedisPlayerList extends RedisFeature {
         private String format;
 
         @Override
-        public void write(@NotNull ByteArrayDataOutput out) {
-            writeUUID(out, playerId);
-            out.writeUTF(format);
+        public void write(@NotNull FrameWriter out) {
+            out.writeUUID(playerId);
+            out.writeString(format);
         }
 
         @Override
-        public void read(@NotNull ByteArrayDataInput in) {
-            playerId = readUUID(in);
-            format = in.readUTF();
+        public void read(@NotNull FrameReader in) {
+            playerId = in.readUUID();
+            format = in.readString();
         }
 
         @Override
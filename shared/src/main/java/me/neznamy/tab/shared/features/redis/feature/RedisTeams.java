@@ -1,7 +1,5 @@
 package me.neznamy.tab.shared.features.redis.feature;
 
-import com.google.common.io.ByteArrayDataInput;
-import com.google.common.io.ByteArrayDataOutput;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,6 +9,8 @@ import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.features.nametags.NameTag;
 import me.neznamy.tab.shared.features.redis.RedisPlayer;
 import me.neznamy.tab.shared.features.redis.RedisSupport;
+import me.neznamy.tab.shared.features.redis.message.FrameReader;
+import me.neznamy.tab.shared.features.redis.message.FrameWriter;
 import me.neznamy.tab.shared.features.redis.message.RedisMessage;
 import me.neznamy.tab.shared.platform.Scoreboard.NameVisibility;
 import me.neznamy.tab.shared.platform.Scoreboard.CollisionRule;
@@ -42,6 +42,9 @@ public class RedisTeams extends RedisFeature {
 
     @Override
     public void onJoin(@NotNull RedisPlayer player) {
+        // Resolved on processing thread, message decoding does not have a consistent view of other players
+        String teamName = player.getTeamName();
+        player.setTeamName(checkTeamName(player, teamName.substring(0, teamName.length()-1), 65));
         for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
             viewer.getScoreboard().registerTeam(player.getTeamName(), player.getTagPrefix(), player.getTagSuffix(),
                     player.getNameVisibility(), CollisionRule.ALWAYS,
@@ -57,21 +60,19 @@ public class RedisTeams extends RedisFeature {
     }
 
     @Override
-    public void write(@NotNull ByteArrayDataOutput out, @NotNull TabPlayer player) {
-        out.writeUTF(player.sortingData.getShortTeamName());
-        out.writeUTF(player.getProperty(TabConstants.Property.TAGPREFIX).get());
-        out.writeUTF(player.getProperty(TabConstants.Property.TAGSUFFIX).get());
-        out.writeUTF((nameTags.getTeamVisibility(player, player) ? NameVisibility.ALWAYS : NameVisibility.NEVER).toString());
+    public void write(@NotNull FrameWriter out, @NotNull TabPlayer player) {
+        out.writeString(player.sortingData.getShortTeamName());
+        out.writeString(player.getProperty(TabConstants.Property.TAGPREFIX).get());
+        out.writeString(player.getProperty(TabConstants.Property.TAGSUFFIX).get());
+        out.writeVarInt((nameTags.getTeamVisibility(player, player) ? NameVisibility.ALWAYS : NameVisibility.NEVER).ordinal());
     }
 
     @Override
-    public void read(@NotNull ByteArrayDataInput in, @NotNull RedisPlayer player) {
-        String teamName = in.readUTF();
-        teamName = checkTeamName(player, teamName.substring(0, teamName.length()-1), 65);
-        player.setTeamName(teamName);
-        player.setTagPrefix(in.readUTF());
-        player.setTagSuffix(in.readUTF());
-        player.setNameVisibility(NameVisibility.getByName(in.readUTF()));
+    public void read(@NotNull FrameReader in, @NotNull RedisPlayer player) {
+        player.setTeamName(in.readString());
+        player.setTagPrefix(in.readString());
+        player.setTagSuffix(in.readString());
+        player.setNameVisibility(NameVisibility.values()[in.readVarInt()]);
     }
 
     @Override
@@ -106,21 +107,21 @@ public class RedisTeams extends RedisFeature {
         private NameVisibility nameVisibility;
 
         @Override
-        public void write(@NotNull ByteArrayDataOutput out) {
-            writeUUID(out, playerId);
-            out.writeUTF(teamName);
-            out.writeUTF(prefix);
-            out.writeUTF(suffix);
-            out.writeUTF(nameVisibility.toString());
+        public void write(@NotNull FrameWriter out) {
+            out.writeUUID(playerId);
+            out.writeString(teamName);
+            out.writeString(prefix);
+            out.writeString(suffix);
+            out.writeVarInt(nameVisibility.ordinal());
         }
 
         @Override
-        public void read(@NotNull ByteArrayDataInput in) {
-            playerId = readUUID(in);
-            teamName = in.readUTF();
-            prefix = in.readUTF();
-            suffix = in.readUTF();
-            nameVisibility = NameVisibility.getByName(in.readUTF());
+        public void read(@NotNull FrameReader in) {
+            playerId = in.readUUID();
+            teamName = in.readString();
+            prefix = in.readString();
+            suffix = in.readString();
+            nameVisibility = NameVisibility.values()[in.readVarInt()];
         }
 
         @Override
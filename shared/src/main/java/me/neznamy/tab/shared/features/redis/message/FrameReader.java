@@ -0,0 +1,140 @@
+package me.neznamy.tab.shared.features.redis.message;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Decoder of frames created by {@link FrameWriter}. Header is read on
+ * construction, messages are then read one by one using {@link #nextMessage()}.
+ */
+public class FrameReader {
+
+    /** Raw frame bytes */
+    private final byte[] data;
+
+    /** Current reading position */
+    private int position;
+
+    /** Protocol version of the frame */
+    @Getter private final int protocolVersion;
+
+    /** ID of proxy that sent the frame */
+    @Getter private final long proxy;
+
+    /** Message name table */
+    private String[] names;
+
+    /** UUID table */
+    private UUID[] uuids;
+
+    /** Amount of messages not read yet */
+    private int remainingMessages;
+
+    /** Position where current message's payload ends */
+    private int messageEnd;
+
+    /**
+     * Constructs new instance and reads frame header. If protocol version does not
+     * match, name and UUID tables are not read and the frame appears empty.
+     *
+     * @param   frame
+     *          Frame as received from redis
+     */
+    public FrameReader(@NotNull String frame) {
+        data = frame.getBytes(StandardCharsets.ISO_8859_1);
+        protocolVersion = data.length == 0 ? -1 : data[position++];
+        if (protocolVersion != FrameWriter.PROTOCOL_VERSION) {
+            proxy = 0;
+            return;
+        }
+        proxy = readLong();
+        names = new String[readVarInt()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = readString();
+        }
+        uuids = new UUID[readVarInt()];
+        for (int i = 0; i < uuids.length; i++) {
+            uuids[i] = new UUID(readLong(), readLong());
+        }
+        remainingMessages = readVarInt();
+        messageEnd = position;
+    }
+
+    /**
+     * Moves to the next message in the frame, skipping any unread data of the
+     * previous one, and returns its name. If there are no more messages,
+     * returns {@code null}.
+     *
+     * @return  Name of the next message or {@code null} if there are no more
+     */
+    public String nextMessage() {
+        if (remainingMessages == 0) return null;
+        remainingMessages--;
+        position = messageEnd;
+        String name = names[readVarInt()];
+        int length = readVarInt();
+        messageEnd = position + length;
+        return name;
+    }
+
+    public boolean readBoolean() {
+        return data[position++] != 0;
+    }
+
+    public long readLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (data[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Reads unsigned number written using {@link FrameWriter#writeVarInt(int)}.
+     *
+     * @return  Read number
+     */
+    public int readVarInt() {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 28) throw new IllegalStateException("VarInt too big");
+            b = data[position++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * Reads signed number written using {@link FrameWriter#writeInt(int)}.
+     *
+     * @return  Read number
+     */
+    public int readInt() {
+        int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    @NotNull
+    public String readString() {
+        int length = readVarInt();
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    /**
+     * Reads UUID from the frame's UUID table.
+     *
+     * @return  Read UUID
+     */
+    @NotNull
+    public UUID readUUID() {
+        return uuids[readVarInt()];
+    }
+}
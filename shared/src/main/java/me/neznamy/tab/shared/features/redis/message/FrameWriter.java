@@ -0,0 +1,172 @@
+package me.neznamy.tab.shared.features.redis.message;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Encoder of a single redis frame containing one or more messages.
+ * Message names and player UUIDs are interned into tables written in the
+ * frame header, numbers are written as varints and strings as UTF-8
+ * prefixed with varint length.
+ * <p>
+ * Frame layout:
+ * <ul>
+ *     <li>byte - {@link #PROTOCOL_VERSION}</li>
+ *     <li>long - proxy id</li>
+ *     <li>varint + strings - message name table</li>
+ *     <li>varint + 16 bytes each - UUID table</li>
+ *     <li>varint - message count</li>
+ *     <li>for each message: varint name index, varint payload length, payload</li>
+ * </ul>
+ */
+public class FrameWriter {
+
+    /** Version of the protocol, frames with different version are rejected */
+    public static final int PROTOCOL_VERSION = 2;
+
+    /** Interned message names and their indexes */
+    private final Map<String, Integer> names = new LinkedHashMap<>();
+
+    /** Interned UUIDs and their indexes */
+    private final Map<UUID, Integer> uuids = new LinkedHashMap<>();
+
+    /** Encoded messages including their headers */
+    private final Buffer body = new Buffer();
+
+    /** Payload of message currently being written */
+    private Buffer current = body;
+
+    /** Amount of messages written into this frame */
+    private int messageCount;
+
+    /**
+     * Writes message into the frame.
+     *
+     * @param   name
+     *          Registered name of the message
+     * @param   message
+     *          Message to write
+     */
+    public void writeMessage(@NotNull String name, @NotNull RedisMessage message) {
+        Buffer payload = new Buffer();
+        current = payload;
+        message.write(this);
+        current = body;
+        writeVarInt(names.computeIfAbsent(name, n -> names.size()));
+        writeVarInt(payload.size());
+        payload.copyTo(body);
+        messageCount++;
+    }
+
+    /**
+     * Returns {@code true} if no message was written yet, {@code false} if at least one was.
+     *
+     * @return  {@code true} if frame is empty, {@code false} if not
+     */
+    public boolean isEmpty() {
+        return messageCount == 0;
+    }
+
+    /**
+     * Finishes the frame and returns it as a string with each character
+     * holding one byte, as expected by redis channel API.
+     *
+     * @param   proxy
+     *          ID of this proxy
+     * @return  Encoded frame
+     */
+    @NotNull
+    public String toFrame(long proxy) {
+        Buffer frame = new Buffer();
+        current = frame;
+        frame.write(PROTOCOL_VERSION);
+        writeLong(proxy);
+        writeVarInt(names.size());
+        for (String name : names.keySet()) {
+            writeString(name);
+        }
+        writeVarInt(uuids.size());
+        for (UUID id : uuids.keySet()) {
+            writeLong(id.getMostSignificantBits());
+            writeLong(id.getLeastSignificantBits());
+        }
+        writeVarInt(messageCount);
+        body.copyTo(frame);
+        current = body;
+        return new String(frame.toByteArray(), StandardCharsets.ISO_8859_1);
+    }
+
+    public void writeBoolean(boolean value) {
+        current.write(value ? 1 : 0);
+    }
+
+    public void writeLong(long value) {
+        for (int i = 7; i >= 0; i--) {
+            current.write((int) (value >>> (i * 8)));
+        }
+    }
+
+    /**
+     * Writes unsigned number using 1 - 5 bytes.
+     *
+     * @param   value
+     *          Number to write
+     */
+    public void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            current.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        current.write(value);
+    }
+
+    /**
+     * Writes signed number using zigzag encoding, so that
+     * small negative numbers are short as well.
+     *
+     * @param   value
+     *          Number to write
+     */
+    public void writeInt(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    public void writeString(@NotNull String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        current.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes index of the UUID in the frame's UUID table,
+     * adding it into the table if not present yet.
+     *
+     * @param   id
+     *          UUID to write
+     */
+    public void writeUUID(@NotNull UUID id) {
+        writeVarInt(uuids.computeIfAbsent(id, u -> uuids.size()));
+    }
+
+    /**
+     * Byte array stream allowing to copy its content without creating
+     * a temporary array.
+     */
+    private static class Buffer extends ByteArrayOutputStream {
+
+        /**
+         * Copies content of this buffer into the target buffer.
+         *
+         * @param   target
+         *          Buffer to copy content to
+         */
+        public void copyTo(@NotNull Buffer target) {
+            target.write(buf, 0, count);
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package me.neznamy.tab.shared.features.redis.message;
 
-import com.google.common.io.ByteArrayDataInput;
-import com.google.common.io.ByteArrayDataOutput;
 import lombok.NoArgsConstructor;
 import me.neznamy.tab.shared.features.redis.RedisSupport;
 import me.neznamy.tab.shared.platform.TabPlayer;
@@ -20,16 +18,16 @@ public class Load extends RedisMessage {
     }
 
     @Override
-    public void write(@NotNull ByteArrayDataOutput out) {
-        out.writeInt(players.length);
+    public void write(@NotNull FrameWriter out) {
+        out.writeVarInt(players.length);
         for (TabPlayer player : players) {
             new PlayerJoin(redisSupport, player).write(out);
         }
     }
 
     @Override
-    public void read(@NotNull ByteArrayDataInput in) {
-        int count = in.readInt();
+    public void read(@NotNull FrameReader in) {
+        int count = in.readVarInt();
         decodedPlayers = new PlayerJoin[count];
         for (int i=0; i<count; i++) {
             PlayerJoin join = new PlayerJoin();
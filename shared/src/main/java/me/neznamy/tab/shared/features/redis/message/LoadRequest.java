@@ -1,7 +1,5 @@
 package me.neznamy.tab.shared.features.redis.message;
 
-import com.google.common.io.ByteArrayDataInput;
-import com.google.common.io.ByteArrayDataOutput;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.features.redis.RedisSupport;
 import org.jetbrains.annotations.NotNull;
@@ -9,12 +7,12 @@ import org.jetbrains.annotations.NotNull;
 public class LoadRequest extends RedisMessage {
 
     @Override
-    public void write(@NotNull ByteArrayDataOutput out) {
+    public void write(@NotNull FrameWriter out) {
         // Nothing to write anymore
     }
 
     @Override
-    public void read(@NotNull ByteArrayDataInput in) {
+    public void read(@NotNull FrameReader in) {
         // Nothing to read anymore
     }
 
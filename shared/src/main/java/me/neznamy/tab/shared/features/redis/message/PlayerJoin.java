@@ -1,7 +1,5 @@
 package me.neznamy.tab.shared.features.redis.message;
 
-import com.google.common.io.ByteArrayDataInput;
-import com.google.common.io.ByteArrayDataOutput;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import me.neznamy.tab.shared.TAB;
@@ -26,21 +24,21 @@ public class PlayerJoin extends RedisMessage {
     }
 
     @Override
-    public void write(@NotNull ByteArrayDataOutput out) {
-        writeUUID(out, encodedPlayer.getTablistId());
-        out.writeUTF(encodedPlayer.getName());
-        out.writeUTF(encodedPlayer.getServer());
+    public void write(@NotNull FrameWriter out) {
+        out.writeUUID(encodedPlayer.getTablistId());
+        out.writeString(encodedPlayer.getName());
+        out.writeString(encodedPlayer.getServer());
         out.writeBoolean(encodedPlayer.isVanished());
         out.writeBoolean(encodedPlayer.hasPermission(TabConstants.Permission.STAFF));
         redisSupport.getFeatures().forEach(f -> f.write(out, encodedPlayer));
     }
 
     @Override
-    public void read(@NotNull ByteArrayDataInput in) {
+    public void read(@NotNull FrameReader in) {
         redisSupport = TAB.getInstance().getFeatureManager().getFeature(TabConstants.Feature.REDIS_BUNGEE); // this is not ideal
-        UUID uniqueId = readUUID(in);
-        String name = in.readUTF();
-        String server = in.readUTF();
+        UUID uniqueId = in.readUUID();
+        String name = in.readString();
+        String server = in.readString();
         boolean vanished = in.readBoolean();
         boolean staff = in.readBoolean();
         decodedPlayer = new RedisPlayer(uniqueId, name, name, server, vanished, staff);
@@ -50,6 +48,8 @@ public class PlayerJoin extends RedisMessage {
     @Override
     public void process(@NotNull RedisSupport redisSupport) {
         redisSupport.getRedisPlayers().put(decodedPlayer.getUniqueId(), decodedPlayer);
+        TAB.getInstance().getOnlinePlayerCounter().addPlayer(decodedPlayer.getUniqueId(), decodedPlayer.getServer(),
+                null, decodedPlayer.isStaff(), decodedPlayer.isVanished());
         redisSupport.getFeatures().forEach(f -> f.onJoin(decodedPlayer));
     }
 }
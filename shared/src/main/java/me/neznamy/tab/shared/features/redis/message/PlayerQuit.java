@@ -1,9 +1,8 @@
 package me.neznamy.tab.shared.features.redis.message;
 
-import com.google.common.io.ByteArrayDataInput;
-import com.google.common.io.ByteArrayDataOutput;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
+import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.features.redis.RedisPlayer;
 import me.neznamy.tab.shared.features.redis.RedisSupport;
 import org.jetbrains.annotations.NotNull;
@@ -17,13 +16,13 @@ public class PlayerQuit extends RedisMessage {
     private UUID playerId;
 
     @Override
-    public void write(@NotNull ByteArrayDataOutput out) {
-        writeUUID(out, playerId);
+    public void write(@NotNull FrameWriter out) {
+        out.writeUUID(playerId);
     }
 
     @Override
-    public void read(@NotNull ByteArrayDataInput in) {
-        playerId = readUUID(in);
+    public void read(@NotNull FrameReader in) {
+        playerId = in.readUUID();
     }
 
     @Override
@@ -32,5 +31,6 @@ public class PlayerQuit extends RedisMessage {
         if (target == null) return; // Print warn?
         redisSupport.getFeatures().forEach(f -> f.onQuit(target));
         redisSupport.getRedisPlayers().remove(target.getUniqueId());
+        TAB.getInstance().getOnlinePlayerCounter().removePlayer(target.getUniqueId());
     }
 }
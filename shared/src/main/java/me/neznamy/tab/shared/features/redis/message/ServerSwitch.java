@@ -1,9 +1,8 @@
 package me.neznamy.tab.shared.features.redis.message;
 
-import com.google.common.io.ByteArrayDataInput;
-import com.google.common.io.ByteArrayDataOutput;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
+import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.features.redis.RedisPlayer;
 import me.neznamy.tab.shared.features.redis.RedisSupport;
 import org.jetbrains.annotations.NotNull;
@@ -18,15 +17,15 @@ public class ServerSwitch extends RedisMessage {
     private String newServer;
 
     @Override
-    public void write(@NotNull ByteArrayDataOutput out) {
-        writeUUID(out, playerId);
-        out.writeUTF(newServer);
+    public void write(@NotNull FrameWriter out) {
+        out.writeUUID(playerId);
+        out.writeString(newServer);
     }
 
     @Override
-    public void read(@NotNull ByteArrayDataInput in) {
-        playerId = readUUID(in);
-        newServer = in.readUTF();
+    public void read(@NotNull FrameReader in) {
+        playerId = in.readUUID();
+        newServer = in.readString();
     }
 
     @Override
@@ -34,6 +33,7 @@ public class ServerSwitch extends RedisMessage {
         RedisPlayer target = redisSupport.getRedisPlayers().get(playerId);
         if (target == null) return; // Print warn?
         target.setServer(newServer);
+        TAB.getInstance().getOnlinePlayerCounter().setServer(target.getUniqueId(), newServer);
         redisSupport.getFeatures().forEach(f -> f.onServerSwitch(target));
     }
 }
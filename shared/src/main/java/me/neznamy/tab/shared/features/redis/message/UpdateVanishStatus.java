@@ -1,9 +1,8 @@
 package me.neznamy.tab.shared.features.redis.message;
 
-import com.google.common.io.ByteArrayDataInput;
-import com.google.common.io.ByteArrayDataOutput;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
+import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.features.redis.RedisPlayer;
 import me.neznamy.tab.shared.features.redis.RedisSupport;
 import org.jetbrains.annotations.NotNull;
@@ -18,14 +17,14 @@ public class UpdateVanishStatus extends RedisMessage {
     private boolean vanished;
 
     @Override
-    public void write(@NotNull ByteArrayDataOutput out) {
-        writeUUID(out, playerId);
+    public void write(@NotNull FrameWriter out) {
+        out.writeUUID(playerId);
         out.writeBoolean(vanished);
     }
 
     @Override
-    public void read(@NotNull ByteArrayDataInput in) {
-        playerId = readUUID(in);
+    public void read(@NotNull FrameReader in) {
+        playerId = in.readUUID();
         vanished = in.readBoolean();
     }
 
@@ -34,6 +33,7 @@ public class UpdateVanishStatus extends RedisMessage {
         RedisPlayer target = redisSupport.getRedisPlayers().get(playerId);
         if (target == null) return; // Print warn?
         target.setVanished(vanished);
+        TAB.getInstance().getOnlinePlayerCounter().setVanished(target.getUniqueId(), vanished);
         redisSupport.getFeatures().forEach(f -> f.onVanishStatusChange(target));
     }
 }
@@ -32,7 +32,7 @@ public class ScoreRefresher extends TabFeature implements Refreshable {
                 ScoreboardManagerImpl.OBJECTIVE_NAME,
                 line.getPlayerName(refreshed),
                 line.getNumber(refreshed),
-                null,
+                line.getDisplayName(refreshed),
                 getNumberFormat(refreshed)
         );
     }
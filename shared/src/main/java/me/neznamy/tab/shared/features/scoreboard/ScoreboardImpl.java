@@ -126,7 +126,7 @@ public class ScoreboardImpl extends TabFeature implements me.neznamy.tab.api.sco
      * @return  true if condition is null or is met, false otherwise
      */
     public boolean isConditionMet(@NonNull TabPlayer p) {
-        return displayCondition == null || displayCondition.isMet(p);
+        return displayCondition == null || displayCondition.isMetCached(p);
     }
 
     /**
@@ -165,7 +165,7 @@ public class ScoreboardImpl extends TabFeature implements me.neznamy.tab.api.sco
         if (!players.remove(p)) return; //not registered
         p.getScoreboard().unregisterObjective(ScoreboardManagerImpl.OBJECTIVE_NAME);
         for (Line line : lines) {
-            if (((ScoreboardLine)line).isShownTo(p))
+            if (((ScoreboardLine)line).isShownTo(p) && !((ScoreboardLine)line).usesDisplayName(p))
                 p.getScoreboard().unregisterTeam(((ScoreboardLine)line).getTeamName());
         }
         p.scoreboardData.activeScoreboard = null;
@@ -208,7 +208,7 @@ public class ScoreboardImpl extends TabFeature implements me.neznamy.tab.api.sco
                         ScoreboardManagerImpl.OBJECTIVE_NAME,
                         ((ScoreboardLine)line).getPlayerName(p),
                         score++,
-                        null, // Makes no sense for TAB
+                        ((ScoreboardLine) line).getDisplayName(p),
                         ((ScoreboardLine) line).getScoreRefresher().getNumberFormat(p)
                 );
             }
@@ -5,6 +5,7 @@ import lombok.NonNull;
 import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.api.scoreboard.ScoreboardManager;
 import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.placeholders.conditions.ConditionSelector;
 import me.neznamy.tab.shared.platform.Scoreboard;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.features.types.*;
@@ -37,6 +38,9 @@ public class ScoreboardManagerImpl extends TabFeature implements ScoreboardManag
     @Getter private final Map<String, me.neznamy.tab.api.scoreboard.Scoreboard> registeredScoreboards = new LinkedHashMap<>();
     private me.neznamy.tab.api.scoreboard.Scoreboard[] definedScoreboards;
 
+    /** Selector of the highest scoreboard compiled from display conditions of defined scoreboards */
+    private ConditionSelector<me.neznamy.tab.api.scoreboard.Scoreboard> scoreboardSelector;
+
     //list of players with disabled scoreboard
     private final List<String> sbOffPlayers = rememberToggleChoice ? TAB.getInstance().getConfiguration().getPlayerDataFile()
             .getStringList("scoreboard-off", new ArrayList<>()) : Collections.emptyList();
@@ -72,6 +76,7 @@ public class ScoreboardManagerImpl extends TabFeature implements ScoreboardManag
             TAB.getInstance().getFeatureManager().registerFeature(TabConstants.Feature.scoreboardLine(entry.getKey()), sb);
         }
         definedScoreboards = registeredScoreboards.values().toArray(new me.neznamy.tab.api.scoreboard.Scoreboard[0]);
+        scoreboardSelector = new ConditionSelector<>(registeredScoreboards.values(), sb -> ((ScoreboardImpl) sb).getDisplayCondition());
         for (TabPlayer p : TAB.getInstance().getOnlinePlayers()) {
             onJoin(p);
         }
@@ -104,6 +109,8 @@ public class ScoreboardManagerImpl extends TabFeature implements ScoreboardManag
         if (joinDelay > 0) {
             connectedPlayer.scoreboardData.joinDelayed = true;
             TAB.getInstance().getCPUManager().runTaskLater(joinDelay, getFeatureName(), TabConstants.CpuUsageCategory.PLAYER_JOIN, () -> {
+                // Player data was reset if feature was restarted in the meantime
+                if (!isActive()) return;
                 if (connectedPlayer.scoreboardData.otherPluginScoreboard == null)
                     setScoreboardVisible(connectedPlayer, hiddenByDefault == sbOffPlayers.contains(connectedPlayer.getName()), false);
                 connectedPlayer.scoreboardData.joinDelayed = false;
@@ -155,10 +162,7 @@ public class ScoreboardManagerImpl extends TabFeature implements ScoreboardManag
      */
     public @Nullable me.neznamy.tab.api.scoreboard.Scoreboard detectHighestScoreboard(@NonNull TabPlayer p) {
         if (p.scoreboardData.forcedScoreboard != null) return p.scoreboardData.forcedScoreboard;
-        for (me.neznamy.tab.api.scoreboard.Scoreboard sb : definedScoreboards) {
-            if (((ScoreboardImpl)sb).isConditionMet(p)) return sb;
-        }
-        return null;
+        return scoreboardSelector.select(p);
     }
 
     @Override
@@ -233,6 +237,7 @@ public class ScoreboardManagerImpl extends TabFeature implements ScoreboardManag
         me.neznamy.tab.api.scoreboard.Scoreboard sb = new ScoreboardImpl(this, name, title, lines, true);
         registeredScoreboards.put(name, sb);
         definedScoreboards = registeredScoreboards.values().toArray(new me.neznamy.tab.api.scoreboard.Scoreboard[0]);
+        scoreboardSelector = new ConditionSelector<>(registeredScoreboards.values(), sb -> ((ScoreboardImpl) sb).getDisplayCondition());
         return sb;
     }
 
@@ -352,6 +357,7 @@ public class ScoreboardManagerImpl extends TabFeature implements ScoreboardManag
         });
         TAB.getInstance().getCPUManager().runTaskLater(duration*1000,
                 getFeatureName(), "Removing announced Scoreboard", () -> {
+                    if (!isActive()) return;
                     for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
                         if (!hasScoreboardVisible(all)) continue;
                         sb.removePlayer(all);
@@ -38,7 +38,7 @@ public class LongLine extends ScoreboardLine {
         if (!parent.getPlayers().contains(refreshed)) return; //player has different scoreboard displayed
         if (refreshed.getProperty(textProperty).update()) {
             if (refreshed.getVersion().getMinorVersion() >= 13) {
-                updateTeam(refreshed, refreshed.getProperty(textProperty).get(), "");
+                updateText(refreshed, refreshed.getProperty(textProperty).get(), "");
             } else {
                 removeLine(refreshed, refreshed.getProperty(nameProperty).get());
                 String[] values = splitText(
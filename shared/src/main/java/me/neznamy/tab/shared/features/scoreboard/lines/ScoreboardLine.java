@@ -7,6 +7,7 @@ import me.neznamy.tab.shared.Property;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
+import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.api.scoreboard.Line;
 import me.neznamy.tab.shared.features.scoreboard.ScoreRefresher;
 import me.neznamy.tab.shared.features.types.Refreshable;
@@ -16,13 +17,16 @@ import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.features.scoreboard.ScoreboardImpl;
 import me.neznamy.tab.shared.features.scoreboard.ScoreboardManagerImpl;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.Set;
 import java.util.WeakHashMap;
 
 /**
- * Abstract class representing a line of scoreboard
+ * Abstract class representing a line of scoreboard. For players whose scoreboard supports
+ * score display names (1.20.3+), text is displayed as display name of the score without
+ * any teams or text splitting. Other players see text using prefix/suffix of a team.
  */
 @Getter
 public abstract class ScoreboardLine extends TabFeature implements Line, Refreshable {
@@ -121,6 +125,32 @@ public abstract class ScoreboardLine extends TabFeature implements Line, Refresh
         return EnumChatFormat.COLOR_STRING + "0123456789abcdefklmnor".charAt(lineNumber-1) + EnumChatFormat.COLOR_STRING + "r";
     }
     
+    /**
+     * Returns {@code true} if this line is displayed to specified player using score
+     * display name, {@code false} if using a team.
+     *
+     * @param   p
+     *          Player to check
+     * @return  {@code true} if using score display name, {@code false} if using a team
+     */
+    public boolean usesDisplayName(@NonNull TabPlayer p) {
+        return p.getScoreboard().isScoreDisplayNameSupported();
+    }
+
+    /**
+     * Returns display name of score of this line for specified player, {@code null}
+     * if the player sees the text using a team instead.
+     *
+     * @param   p
+     *          Player to get display name for
+     * @return  Display name of score or {@code null} if team is used
+     */
+    @Nullable
+    public TabComponent getDisplayName(@NonNull TabPlayer p) {
+        if (!usesDisplayName(p)) return null;
+        return TabComponent.optimized(p.getProperty(textProperty).get());
+    }
+
     /**
      * Sends this line to player
      *
@@ -134,13 +164,16 @@ public abstract class ScoreboardLine extends TabFeature implements Line, Refresh
      *          suffix
      */
     protected void addLine(@NonNull TabPlayer p, @NonNull String fakePlayer, @NonNull String prefix, @NonNull String suffix) {
+        boolean displayName = usesDisplayName(p);
         p.getScoreboard().setScore(
                 ScoreboardManagerImpl.OBJECTIVE_NAME,
                 fakePlayer,
                 getNumber(p),
-                null, // Makes no sense for TAB
+                displayName ? TabComponent.optimized(prefix + suffix) : null,
                 scoreRefresher.getNumberFormat(p)
         );
+        shownPlayers.add(p);
+        if (displayName) return;
         p.getScoreboard().registerTeam(
                 teamName,
                 prefix,
@@ -151,7 +184,6 @@ public abstract class ScoreboardLine extends TabFeature implements Line, Refresh
                 0,
                 EnumChatFormat.RESET
         );
-        shownPlayers.add(p);
     }
     
     /**
@@ -164,7 +196,7 @@ public abstract class ScoreboardLine extends TabFeature implements Line, Refresh
      */
     protected void removeLine(@NonNull TabPlayer p, @NonNull String fakePlayer) {
         p.getScoreboard().removeScore(ScoreboardManagerImpl.OBJECTIVE_NAME, fakePlayer);
-        p.getScoreboard().unregisterTeam(teamName);
+        if (!usesDisplayName(p)) p.getScoreboard().unregisterTeam(teamName);
         shownPlayers.remove(p);
     }
 
@@ -240,6 +272,29 @@ public abstract class ScoreboardLine extends TabFeature implements Line, Refresh
         numberFormat = split.length >= 2 ? split[1] : "";
     }
 
+    /**
+     * Updates displayed text of this line. Sends a score update with new display name
+     * if supported by the player, updates prefix/suffix of the team otherwise.
+     *
+     * @param   player
+     *          Player to send the update to
+     * @param   prefix
+     *          Prefix to use
+     * @param   suffix
+     *          Suffix to use
+     */
+    protected void updateText(@NotNull TabPlayer player, @NotNull String prefix, @NotNull String suffix) {
+        if (usesDisplayName(player)) {
+            player.getScoreboard().setScoreDisplayName(
+                    ScoreboardManagerImpl.OBJECTIVE_NAME,
+                    getPlayerName(player),
+                    TabComponent.optimized(prefix + suffix)
+            );
+        } else {
+            updateTeam(player, prefix, suffix);
+        }
+    }
+
     /**
      * Updates prefix/suffix of the fake player.
      *
@@ -38,7 +38,7 @@ public class StableDynamicLine extends ScoreboardLine {
         if (!parent.getPlayers().contains(refreshed)) return; //player has different scoreboard displayed
         String[] prefixSuffix = replaceText(refreshed, force, false);
         if (prefixSuffix.length == 0) return;
-        updateTeam(refreshed, prefixSuffix[0], prefixSuffix[1]);
+        updateText(refreshed, prefixSuffix[0], prefixSuffix[1]);
     }
 
     @Override
@@ -19,6 +19,16 @@ public abstract class TabFeature {
         active = false;
     }
 
+    /**
+     * Returns {@code true} if this instance is still active, {@code false} if it was
+     * discarded by a reload or restart. Delayed tasks should check it before running.
+     *
+     * @return  {@code true} if this instance is still active, {@code false} if not
+     */
+    public boolean isActive() {
+        return active;
+    }
+
     /**
      * Throws {@link IllegalStateException} if this instance is no longer active.
      */
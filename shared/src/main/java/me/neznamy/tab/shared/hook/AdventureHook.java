@@ -21,7 +21,7 @@ import java.util.*;
 public class AdventureHook {
 
     /** Component to string cache for better performance */
-    private static final ComponentCache<Component, String> componentToString = new ComponentCache<>(1000,
+    private static final ComponentCache<Component, String> componentToString = new ComponentCache<>("Adventure to string", 1000,
             (component, version) -> GsonComponentSerializer.gson().serialize(component));
 
     /** Array of all 32 possible decoration combinations for fast access */
@@ -2,15 +2,24 @@ package me.neznamy.tab.shared.hook;
 
 import lombok.Getter;
 import lombok.NonNull;
+import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.util.ReflectionUtils;
 import net.luckperms.api.LuckPermsProvider;
 import net.luckperms.api.cacheddata.CachedMetaData;
+import net.luckperms.api.event.EventBus;
+import net.luckperms.api.event.EventSubscription;
+import net.luckperms.api.event.context.ContextUpdateEvent;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
 import net.luckperms.api.model.user.User;
 import net.luckperms.api.query.QueryOptions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -32,6 +41,47 @@ public class LuckPermsHook {
         return user.getPrimaryGroup();
     };
 
+    /**
+     * Subscribes to changes which may change group of a user. These are recalculation of user data,
+     * which happens every time permissions or groups of a user change, and updates of contexts,
+     * such as world or server switch, which may change contextual groups and permissions.
+     * Listener is called with UUID of affected user from LuckPerms thread.
+     *
+     * @param   listener
+     *          Listener to call with UUID of affected user
+     * @return  Subscription which unsubscribes when closed
+     */
+    @NotNull
+    public AutoCloseable subscribeGroupChanges(@NonNull Consumer<UUID> listener) {
+        EventBus bus = LuckPermsProvider.get().getEventBus();
+        EventSubscription<UserDataRecalculateEvent> dataSubscription = bus.subscribe(UserDataRecalculateEvent.class,
+                event -> listener.accept(event.getUser().getUniqueId()));
+        EventSubscription<ContextUpdateEvent> contextSubscription = bus.subscribe(ContextUpdateEvent.class, event -> {
+            TabPlayer player = getPlayer(event.getSubject());
+            if (player != null) listener.accept(player.getUniqueId());
+        });
+        return () -> {
+            dataSubscription.close();
+            contextSubscription.close();
+        };
+    }
+
+    /**
+     * Returns online player whose platform player object is given context subject,
+     * {@code null} if subject is not an online player.
+     *
+     * @param   subject
+     *          Subject of context update
+     * @return  Player with given platform player object or {@code null} if not found
+     */
+    @Nullable
+    private TabPlayer getPlayer(@NonNull Object subject) {
+        for (TabPlayer player : TAB.getInstance().getOnlinePlayers()) {
+            if (player.getPlayer() == subject) return player;
+        }
+        return null;
+    }
+
     /**
      * Returns player's prefix configured in LuckPerms
      *
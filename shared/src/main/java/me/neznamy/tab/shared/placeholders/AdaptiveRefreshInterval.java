@@ -0,0 +1,107 @@
+package me.neznamy.tab.shared.placeholders;
+
+import lombok.Getter;
+import me.neznamy.tab.shared.TabConstants;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Refresh interval of a placeholder, which adapts to how often its value actually changes.
+ * Changes are counted for every player over a window of refreshes. If a value of any player
+ * changed in most refreshes, the interval is halved, because the placeholder was likely polled
+ * too slowly. If no value changed in the window, the interval is doubled, because all polls were
+ * wasted. Bounds are widened to include the configured interval, so it is always the starting
+ * point and is never forced further in either direction.
+ */
+public class AdaptiveRefreshInterval {
+
+    /** Amount of refreshes to evaluate before adjusting the interval */
+    private static final int WINDOW = 5;
+
+    /** Portion of refreshes changing value of a player above which the interval is halved */
+    private static final double TIGHTEN_THRESHOLD = 0.5;
+
+    /** Portion of refreshes changing value of a player below which the interval is doubled */
+    private static final double BACK_OFF_THRESHOLD = 0.1;
+
+    /** Configured refresh interval in milliseconds */
+    @Getter private final int configuredInterval;
+
+    /** Lowest allowed interval in milliseconds */
+    private final int minimum;
+
+    /** Highest allowed interval in milliseconds */
+    private final int maximum;
+
+    /** Current refresh interval in milliseconds */
+    @Getter private volatile int interval;
+
+    /** Amount of refreshes in current window */
+    private int refreshes;
+
+    /** Amount of refreshes in current window which changed value, by player */
+    private final Map<Object, Integer> changes = new HashMap<>();
+
+    /**
+     * Constructs new instance starting at configured interval.
+     *
+     * @param   configuredInterval
+     *          Configured refresh interval in milliseconds
+     * @param   minimum
+     *          Lowest allowed interval in milliseconds, ignored if configured interval is lower
+     * @param   maximum
+     *          Highest allowed interval in milliseconds, ignored if configured interval is higher
+     */
+    public AdaptiveRefreshInterval(int configuredInterval, int minimum, int maximum) {
+        this.configuredInterval = configuredInterval;
+        this.minimum = Math.min(minimum, configuredInterval);
+        this.maximum = Math.max(maximum, configuredInterval);
+        interval = configuredInterval;
+    }
+
+    /**
+     * Records result of a refresh and adjusts the interval once enough refreshes were recorded.
+     *
+     * @param   values
+     *          Amount of requested values, one per player for player placeholders
+     * @param   changed
+     *          Players whose value changed, each at most once, or the placeholder itself
+     *          for server placeholders
+     */
+    public void record(int values, @NotNull Collection<?> changed) {
+        if (values == 0) return; // Nobody online, nothing to learn from
+        for (Object key : changed) {
+            changes.merge(key, 1, Integer::sum);
+        }
+        if (++refreshes < WINDOW) return;
+        int mostChanges = 0;
+        for (int count : changes.values()) {
+            mostChanges = Math.max(mostChanges, count);
+        }
+        double changedPortion = (double) mostChanges / refreshes;
+        if (changedPortion > TIGHTEN_THRESHOLD) {
+            interval = clamp(interval / 2);
+        } else if (changedPortion < BACK_OFF_THRESHOLD) {
+            interval = clamp(interval * 2);
+        }
+        refreshes = 0;
+        changes.clear();
+    }
+
+    /**
+     * Limits interval into bounds and rounds it to a multiple of
+     * {@link TabConstants.Placeholder#MINIMUM_REFRESH_INTERVAL}.
+     *
+     * @param   interval
+     *          Interval to limit
+     * @return  Limited interval
+     */
+    private int clamp(int interval) {
+        int step = TabConstants.Placeholder.MINIMUM_REFRESH_INTERVAL;
+        int bounded = Math.max(minimum, Math.min(maximum, interval));
+        return Math.max(step, Math.round((float) bounded / step) * step);
+    }
+}
@@ -22,6 +22,9 @@ import java.util.Map;
 @Getter
 public class PlaceholderRefreshTask implements Runnable {
 
+    /** Time when this task was created */
+    private final long creationTime = System.nanoTime();
+
     /** Placeholders that should be refreshed in this loop */
     private final Collection<Placeholder> placeholdersToRefresh;
 
@@ -38,6 +41,9 @@ public class PlaceholderRefreshTask implements Runnable {
     /** Time it took placeholders to retrieve value (in nanoseconds) */
     private final Map<String, Long> usedTime = new HashMap<>();
 
+    /** Amount of requested values */
+    private int requests;
+
     @Override
     public void run() {
         TabPlayer[] players = TAB.getInstance().getOnlinePlayers();
@@ -47,6 +53,7 @@ public class PlaceholderRefreshTask implements Runnable {
                 ServerPlaceholderImpl serverPlaceholder = (ServerPlaceholderImpl) placeholder;
                 long startTime = System.nanoTime();
                 Object result = serverPlaceholder.request();
+                requests++;
                 nanoTime += System.nanoTime()-startTime;
                 serverPlaceholderResults.put(serverPlaceholder, result);
             }
@@ -59,6 +66,7 @@ public class PlaceholderRefreshTask implements Runnable {
                     nanoTime += System.nanoTime()-startTime;
                     playerResults.put(player, result);
                 }
+                requests += players.length;
                 playerPlaceholderResults.put(playerPlaceholder, playerResults);
             }
             if (placeholder instanceof RelationalPlaceholderImpl) {
@@ -74,6 +82,7 @@ public class PlaceholderRefreshTask implements Runnable {
                     }
                     viewerMap.put(viewer, targetMap);
                 }
+                requests += players.length * players.length;
                 if (relationalPlaceholderResults == null) relationalPlaceholderResults = new HashMap<>();
                 relationalPlaceholderResults.put(relationalPlaceholder, viewerMap);
             }
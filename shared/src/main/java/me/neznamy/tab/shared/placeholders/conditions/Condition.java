@@ -68,6 +68,13 @@ public class Condition {
     /** List of all placeholders used inside this condition */
     private final List<String> placeholdersInConditions = new ArrayList<>();
 
+    /**
+     * Last results of this condition for each player. They are updated every time
+     * the placeholder created from this condition is refreshed, which happens when
+     * any of the placeholders used inside this condition changes value.
+     */
+    private final Map<TabPlayer, Boolean> lastResults = Collections.synchronizedMap(new WeakHashMap<>());
+
     /**
      * Constructs new instance with given parameters and registers
      * this condition to list as well as the placeholder.
@@ -132,7 +139,27 @@ public class Condition {
      * @return  yes or no value depending on if condition passed or not
      */
     public String getText(TabPlayer p) {
-        return isMet(p) ? yes : no;
+        boolean met = isMet(p);
+        lastResults.put(p, met);
+        return met ? yes : no;
+    }
+
+    /**
+     * Returns last result of this condition for player. If the condition was not
+     * evaluated for the player yet, it is evaluated and the result is saved.
+     * The result is kept up to date by refreshing the placeholder created from this condition,
+     * which should therefore be marked as used by the feature calling this method.
+     *
+     * @param   p
+     *          player to check condition for
+     * @return  {@code true} if met, {@code false} if not
+     */
+    public boolean isMetCached(@NotNull TabPlayer p) {
+        Boolean result = lastResults.get(p);
+        if (result != null) return result;
+        boolean met = isMet(p);
+        lastResults.put(p, met);
+        return met;
     }
 
     /**
@@ -0,0 +1,71 @@
+package me.neznamy.tab.shared.placeholders.conditions;
+
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Selects the first of ordered options whose condition is met for a player.
+ * Options are compiled once into a chain of conditions ending with a fallback,
+ * which is the first option without a condition. Options which can never be
+ * selected are left out. Selection uses cached condition results from
+ * {@link Condition#isMetCached(TabPlayer)}, which are only re-evaluated when
+ * placeholders used in the conditions change.
+ *
+ * @param   <T>
+ *          Type of selected options
+ */
+public class ConditionSelector<T> {
+
+    /** Options with a condition, in order */
+    @NotNull private final List<T> options = new ArrayList<>();
+
+    /** Conditions of options with the same index */
+    @NotNull private final List<Condition> conditions = new ArrayList<>();
+
+    /** Option to select if no condition is met, {@code null} if there is none */
+    @Nullable private T fallback;
+
+    /**
+     * Constructs new instance from given options.
+     *
+     * @param   options
+     *          Options in order of priority
+     * @param   conditionFunction
+     *          Function returning display condition of an option or {@code null} if it has none
+     */
+    public ConditionSelector(@NotNull Collection<? extends T> options, @NotNull Function<T, Condition> conditionFunction) {
+        for (T option : options) {
+            Condition condition = conditionFunction.apply(option);
+            if (condition == FalseCondition.INSTANCE) continue;
+            if (condition == null || condition == TrueCondition.INSTANCE) {
+                fallback = option;
+                break;
+            }
+            if (conditions.contains(condition)) continue; // Earlier option already selected if met
+            this.options.add(option);
+            conditions.add(condition);
+        }
+    }
+
+    /**
+     * Returns the first option whose condition is met for the player,
+     * fallback option if none is met or {@code null} if there is no fallback.
+     *
+     * @param   p
+     *          Player to select option for
+     * @return  Selected option
+     */
+    @Nullable
+    public T select(@NotNull TabPlayer p) {
+        for (int i = 0; i < conditions.size(); i++) {
+            if (conditions.get(i).isMetCached(p)) return options.get(i);
+        }
+        return fallback;
+    }
+}
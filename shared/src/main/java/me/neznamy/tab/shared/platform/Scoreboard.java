@@ -2,7 +2,9 @@ package me.neznamy.tab.shared.platform;
 
 import lombok.*;
 import me.neznamy.tab.shared.Limitations;
+import me.neznamy.tab.shared.ProtocolVersion;
 import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.shared.chat.rgb.RGBUtils;
@@ -28,11 +30,11 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
     /** Player this scoreboard belongs to */
     protected final T player;
 
-    /** Scoreboard teams player has registered */
-    private final Set<String> registeredTeams = new HashSet<>();
+    /** Scoreboard teams player has registered with their properties as last sent to the client */
+    private final Map<String, TeamProperties> registeredTeams = new HashMap<>();
 
-    /** Scoreboard objectives player has registered */
-    private final Set<String> registeredObjectives = new HashSet<>();
+    /** Scoreboard objectives player has registered with their properties and scores as last sent to the client */
+    private final Map<String, ObjectiveProperties> registeredObjectives = new HashMap<>();
 
     /** Player-to-Team map of expected teams of players */
     private final Map<String, String> expectedTeams = new HashMap<>();
@@ -61,6 +63,7 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
      */
     public final void setDisplaySlot(int slot, @NonNull String objective) {
         if (frozen) return;
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.DISPLAY_OBJECTIVE);
         setDisplaySlot0(slot, objective);
     }
 
@@ -81,10 +84,14 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
     public final void setScore(@NonNull String objective, @NonNull String scoreHolder, int score,
                                @Nullable TabComponent displayName, @Nullable TabComponent numberFormat) {
         if (frozen) return;
-        if (!registeredObjectives.contains(objective)) {
+        ObjectiveProperties properties = registeredObjectives.get(objective);
+        if (properties == null) {
             error("Tried to update score (%s) without the existence of its requested objective '%s' to player ", scoreHolder, objective);
             return;
         }
+        Score newScore = new Score(score, displayName, numberFormat);
+        if (newScore.equals(properties.scores.put(scoreHolder, newScore))) return; // Client already shows this score
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.SCORE_SET);
         setScore0(
                 objective,
                 scoreHolder,
@@ -94,6 +101,36 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
         );
     }
 
+    /**
+     * Changes display name of an existing score, keeping its value and number format.
+     * Does nothing if the score does not exist.
+     *
+     * @param   objective
+     *          Objective the score is in
+     * @param   scoreHolder
+     *          Name of score holder
+     * @param   displayName
+     *          New display name of score holder (1.20.3+)
+     */
+    public final void setScoreDisplayName(@NonNull String objective, @NonNull String scoreHolder, @Nullable TabComponent displayName) {
+        if (frozen) return;
+        ObjectiveProperties properties = registeredObjectives.get(objective);
+        if (properties == null) return;
+        Score score = properties.scores.get(scoreHolder);
+        if (score == null) return;
+        setScore(objective, scoreHolder, score.value, displayName, score.numberFormat);
+    }
+
+    /**
+     * Returns {@code true} if display names of scores are shown to the player, {@code false} if not.
+     * Requires 1.20.3+ client and a platform capable of sending them.
+     *
+     * @return  {@code true} if score display names are supported, {@code false} if not
+     */
+    public boolean isScoreDisplayNameSupported() {
+        return player.getVersion().getNetworkId() >= ProtocolVersion.V1_20_3.getNetworkId();
+    }
+
     /**
      * Removes score from specified objective.
      *
@@ -104,10 +141,13 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
      */
     public final void removeScore(@NonNull String objective, @NonNull String scoreHolder) {
         if (frozen) return;
-        if (!registeredObjectives.contains(objective)) {
+        ObjectiveProperties properties = registeredObjectives.get(objective);
+        if (properties == null) {
             error("Tried to remove score (%s) without the existence of its requested objective '%s' to player ", scoreHolder, objective);
             return;
         }
+        properties.scores.remove(scoreHolder);
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.SCORE_REMOVE);
         removeScore0(objective, scoreHolder);
     }
 
@@ -126,13 +166,16 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
     public final void registerObjective(@NonNull String objectiveName, @NonNull String title, int display,
                                   @Nullable TabComponent numberFormat) {
         if (frozen) return;
-        if (!registeredObjectives.add(objectiveName)) {
+        if (registeredObjectives.containsKey(objectiveName)) {
             error("Tried to register duplicated objective %s to player ", objectiveName);
             return;
         }
+        String cutTitle = cutTo(title, Limitations.SCOREBOARD_TITLE_PRE_1_13);
+        registeredObjectives.put(objectiveName, new ObjectiveProperties(cutTitle, display, numberFormat));
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.OBJECTIVE_REGISTER);
         registerObjective0(
                 objectiveName,
-                cutTo(title, Limitations.SCOREBOARD_TITLE_PRE_1_13),
+                cutTitle,
                 display,
                 numberFormat == null ? null : numberFormat.convert(player.getVersion())
         );
@@ -146,10 +189,11 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
      */
     public final void unregisterObjective(@NonNull String objectiveName) {
         if (frozen) return;
-        if (!registeredObjectives.remove(objectiveName)) {
+        if (registeredObjectives.remove(objectiveName) == null) {
             error("Tried to unregister non-existing objective %s for player ", objectiveName);
             return;
         }
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.OBJECTIVE_UNREGISTER);
         unregisterObjective0(objectiveName);
     }
 
@@ -168,13 +212,17 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
     public final void updateObjective(@NonNull String objectiveName, @NonNull String title, int display,
                                 @Nullable TabComponent numberFormat) {
         if (frozen) return;
-        if (!registeredObjectives.contains(objectiveName)) {
+        ObjectiveProperties properties = registeredObjectives.get(objectiveName);
+        if (properties == null) {
             error("Tried to modify non-existing objective %s for player ", objectiveName);
             return;
         }
+        String cutTitle = cutTo(title, Limitations.SCOREBOARD_TITLE_PRE_1_13);
+        if (!properties.update(cutTitle, display, numberFormat)) return; // Client already shows these values
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.OBJECTIVE_UPDATE);
         updateObjective0(
                 objectiveName,
-                cutTo(title, Limitations.SCOREBOARD_TITLE_PRE_1_13),
+                cutTitle,
                 display,
                 numberFormat == null ? null : numberFormat.convert(player.getVersion())
         );
@@ -206,19 +254,29 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
                                    @NonNull NameVisibility visibility, @NonNull CollisionRule collision,
                                    @NonNull Collection<String> players, int options, @NonNull EnumChatFormat color) {
         if (frozen) return;
-        if (!registeredTeams.add(name)) {
+        if (registeredTeams.containsKey(name)) {
             error("Tried to register duplicated team %s to player ", name);
             return;
         }
         for (String player : players) {
             expectedTeams.put(player, name);
         }
-        registerTeam0(
-                name,
+        TeamProperties properties = new TeamProperties(
                 cutTo(prefix, Limitations.TEAM_PREFIX_SUFFIX_PRE_1_13),
                 cutTo(suffix, Limitations.TEAM_PREFIX_SUFFIX_PRE_1_13),
                 visibility,
                 collision,
+                options,
+                color
+        );
+        registeredTeams.put(name, properties);
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.TEAM_REGISTER);
+        registerTeam0(
+                name,
+                properties.prefix,
+                properties.suffix,
+                visibility,
+                collision,
                 players,
                 options,
                 color
@@ -233,7 +291,7 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
      */
     public final void unregisterTeam(@NonNull String teamName) {
         if (frozen) return;
-        if (!registeredTeams.remove(teamName)) {
+        if (registeredTeams.remove(teamName) == null) {
             error("Tried to unregister non-existing team %s for player ", teamName);
             return;
         }
@@ -243,6 +301,7 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
                 break;
             }
         }
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.TEAM_UNREGISTER);
         unregisterTeam0(teamName);
     }
 
@@ -270,12 +329,11 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
                                  @NonNull NameVisibility visibility, @NonNull CollisionRule collision,
                                  int options, @NonNull EnumChatFormat color) {
         if (frozen) return;
-        if (!registeredTeams.contains(name)) {
+        if (!registeredTeams.containsKey(name)) {
             error("Tried to modify non-existing team %s for player ", name);
             return;
         }
-        updateTeam0(
-                name,
+        TeamProperties properties = new TeamProperties(
                 cutTo(prefix, Limitations.TEAM_PREFIX_SUFFIX_PRE_1_13),
                 cutTo(suffix, Limitations.TEAM_PREFIX_SUFFIX_PRE_1_13),
                 visibility,
@@ -283,6 +341,17 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
                 options,
                 color
         );
+        if (properties.equals(registeredTeams.put(name, properties))) return; // Client already shows these values
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.TEAM_UPDATE);
+        updateTeam0(
+                name,
+                properties.prefix,
+                properties.suffix,
+                visibility,
+                collision,
+                options,
+                color
+        );
     }
 
     /**
@@ -360,7 +429,7 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
      * @return  {@code true} if scoreboard contains the team, {@code false} if not
      */
     public boolean containsTeam(@NonNull String teamName) {
-        return registeredTeams.contains(teamName);
+        return registeredTeams.containsKey(teamName);
     }
 
     /**
@@ -467,6 +536,67 @@ public abstract class Scoreboard<T extends TabPlayer, C> {
                                         @NonNull NameVisibility visibility, @NonNull CollisionRule collision,
                                         int options, @NonNull EnumChatFormat color);
 
+    /**
+     * Team properties as last sent to the client.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class TeamProperties {
+
+        @NonNull private final String prefix;
+        @NonNull private final String suffix;
+        @NonNull private final NameVisibility visibility;
+        @NonNull private final CollisionRule collision;
+        private final int options;
+        @NonNull private final EnumChatFormat color;
+    }
+
+    /**
+     * Objective properties and scores as last sent to the client.
+     */
+    @AllArgsConstructor
+    private static class ObjectiveProperties {
+
+        @NonNull private String title;
+        private int display;
+        @Nullable private TabComponent numberFormat;
+
+        /** Scores in this objective by their holder */
+        private final Map<String, Score> scores = new HashMap<>();
+
+        /**
+         * Updates properties and returns {@code true} if anything changed,
+         * {@code false} if client already shows these values.
+         *
+         * @param   title
+         *          New objective title
+         * @param   display
+         *          New display type
+         * @param   numberFormat
+         *          New default number format
+         * @return  {@code true} if anything changed, {@code false} if not
+         */
+        private boolean update(@NonNull String title, int display, @Nullable TabComponent numberFormat) {
+            if (this.title.equals(title) && this.display == display && Objects.equals(this.numberFormat, numberFormat)) return false;
+            this.title = title;
+            this.display = display;
+            this.numberFormat = numberFormat;
+            return true;
+        }
+    }
+
+    /**
+     * Score as last sent to the client.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class Score {
+
+        private final int value;
+        @Nullable private final TabComponent displayName;
+        @Nullable private final TabComponent numberFormat;
+    }
+
     /**
      * Team collision rule enum.
      */
@@ -66,6 +66,56 @@ public abstract class TabList<P extends TabPlayer, C> {
         entries.forEach(this::addEntry);
     }
 
+    /**
+     * Removes entry from the TabList.
+     *
+     * @param   entry
+     *          Entry to remove
+     */
+    public void removeEntry(@NonNull UUID entry) {
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.TABLIST_REMOVE_ENTRY);
+        removeEntry0(entry);
+    }
+
+    /**
+     * Updates latency of specified entry.
+     *
+     * @param   entry
+     *          Entry to update
+     * @param   latency
+     *          New latency
+     */
+    public void updateLatency(@NonNull UUID entry, int latency) {
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.TABLIST_LATENCY);
+        updateLatency0(entry, latency);
+    }
+
+    /**
+     * Updates game mode of specified entry.
+     *
+     * @param   entry
+     *          Entry to update
+     * @param   gameMode
+     *          New game mode
+     */
+    public void updateGameMode(@NonNull UUID entry, int gameMode) {
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.TABLIST_GAME_MODE);
+        updateGameMode0(entry, gameMode);
+    }
+
+    /**
+     * Updates listed flag of specified entry (1.19.3+).
+     *
+     * @param   entry
+     *          Entry to update
+     * @param   listed
+     *          New listed flag
+     */
+    public void updateListed(@NonNull UUID entry, boolean listed) {
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.TABLIST_LISTED);
+        updateListed0(entry, listed);
+    }
+
     /**
      * Updates display name of an entry. Using {@code null} makes it undefined and
      * scoreboard team prefix/suffix will be visible instead.
@@ -78,6 +128,7 @@ public abstract class TabList<P extends TabPlayer, C> {
     public void updateDisplayName(@NonNull UUID entry, @Nullable TabComponent displayName) {
         C component = displayName == null ? null : toComponent(displayName);
         setExpectedDisplayName(entry, component);
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.TABLIST_DISPLAY_NAME);
         updateDisplayName0(entry, component);
     }
 
@@ -90,10 +141,12 @@ public abstract class TabList<P extends TabPlayer, C> {
     public void addEntry(@NonNull Entry entry) {
         C component = entry.displayName == null ? null : toComponent(entry.displayName);
         setExpectedDisplayName(entry.getUniqueId(), component);
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.TABLIST_ADD_ENTRY);
         addEntry0(entry.uniqueId, entry.name, entry.skin, entry.listed, entry.latency, entry.gameMode, component);
 
         if (player.getVersion().getMinorVersion() == 8) {
             // Compensation for 1.8.0 client sided bug
+            TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.TABLIST_DISPLAY_NAME);
             updateDisplayName0(entry.getUniqueId(), component);
         }
     }
@@ -107,11 +160,31 @@ public abstract class TabList<P extends TabPlayer, C> {
      *          Footer to use
      */
     public void setPlayerListHeaderFooter(@NonNull TabComponent header, @NonNull TabComponent footer) {
+        setPlayerListHeaderFooter(header, footer, false);
+    }
+
+    /**
+     * Sets header and footer to specified values. If they are shared, platforms
+     * may send the same packet instance to all players receiving them.
+     *
+     * @param   header
+     *          Header to use
+     * @param   footer
+     *          Footer to use
+     * @param   shared
+     *          Whether the same header and footer is likely sent to other players as well
+     */
+    public void setPlayerListHeaderFooter(@NonNull TabComponent header, @NonNull TabComponent footer, boolean shared) {
         C convertedHeader = header.convert(player.getVersion());
         C convertedFooter = footer.convert(player.getVersion());
         expectedHeader = convertedHeader;
         expectedFooter = convertedFooter;
-        setPlayerListHeaderFooter0(convertedHeader, convertedFooter);
+        TAB.getInstance().getCPUManager().packetSent(TabConstants.PacketCategory.TABLIST_HEADER_FOOTER);
+        if (shared) {
+            setSharedPlayerListHeaderFooter0(convertedHeader, convertedFooter);
+        } else {
+            setPlayerListHeaderFooter0(convertedHeader, convertedFooter);
+        }
     }
 
     /**
@@ -146,7 +219,15 @@ public abstract class TabList<P extends TabPlayer, C> {
                 "for viewer " + viewer.getName() + " than expected, fixing.");
     }
 
-    private void setExpectedDisplayName(@NonNull UUID entry, @Nullable C displayName) {
+    /**
+     * Saves expected display name of entry for anti-override if it is enabled.
+     *
+     * @param   entry
+     *          Entry UUID
+     * @param   displayName
+     *          Display name the entry should have
+     */
+    protected void setExpectedDisplayName(@NonNull UUID entry, @Nullable C displayName) {
         if (!antiOverride) return;
         TabPlayer player = TAB.getInstance().getPlayerByTabListUUID(entry);
         if (player != null) expectedDisplayNames.put(player, displayName);
@@ -205,7 +286,7 @@ public abstract class TabList<P extends TabPlayer, C> {
      * @param   entry
      *          Entry to remove
      */
-    public abstract void removeEntry(@NonNull UUID entry);
+    public abstract void removeEntry0(@NonNull UUID entry);
 
     /**
      * Updates display name of an entry. Using {@code null} makes it undefined and
@@ -226,7 +307,7 @@ public abstract class TabList<P extends TabPlayer, C> {
      * @param   latency
      *          New latency
      */
-    public abstract void updateLatency(@NonNull UUID entry, int latency);
+    public abstract void updateLatency0(@NonNull UUID entry, int latency);
 
     /**
      * Updates game mode of specified entry.
@@ -236,7 +317,7 @@ public abstract class TabList<P extends TabPlayer, C> {
      * @param   gameMode
      *          New game mode
      */
-    public abstract void updateGameMode(@NonNull UUID entry, int gameMode);
+    public abstract void updateGameMode0(@NonNull UUID entry, int gameMode);
 
     /**
      * Updates listed flag of specified entry (1.19.3+).
@@ -246,7 +327,7 @@ public abstract class TabList<P extends TabPlayer, C> {
      * @param   listed
      *          New listed flag
      */
-    public abstract void updateListed(@NonNull UUID entry, boolean listed);
+    public abstract void updateListed0(@NonNull UUID entry, boolean listed);
 
     /**
      * Adds specified entry to tablist
@@ -278,6 +359,20 @@ public abstract class TabList<P extends TabPlayer, C> {
      */
     public abstract void setPlayerListHeaderFooter0(@NonNull C header, @NonNull C footer);
 
+    /**
+     * Sets header and footer to specified values, which are also sent to other players.
+     * Platforms building packets may share them between the players. Sends them the same
+     * way as {@link #setPlayerListHeaderFooter0(Object, Object)} by default.
+     *
+     * @param   header
+     *          Header to use
+     * @param   footer
+     *          Footer to use
+     */
+    public void setSharedPlayerListHeaderFooter0(@NonNull C header, @NonNull C footer) {
+        setPlayerListHeaderFooter0(header, footer);
+    }
+
     /**
      * Returns {@code true} if tablist contains specified entry, {@code false} if not.
      *
@@ -217,12 +217,14 @@ public abstract class TabPlayer implements me.neznamy.tab.api.TabPlayer {
      *
      * @param   permissionGroup
      *          New permission group
+     * @return  {@code true} if group changed, {@code false} if it was already set
      */
-    public void setGroup(@NotNull String permissionGroup) {
-        if (this.permissionGroup.equals(permissionGroup)) return;
+    public boolean setGroup(@NotNull String permissionGroup) {
+        if (this.permissionGroup.equals(permissionGroup)) return false;
         this.permissionGroup = permissionGroup;
         ((PlayerPlaceholder)TAB.getInstance().getPlaceholderManager().getPlaceholder(TabConstants.Placeholder.GROUP)).updateValue(this, permissionGroup);
         forceRefresh();
+        return true;
     }
 
     @Override
@@ -74,6 +74,12 @@ public class BridgeScoreboard extends Scoreboard<ProxyTabPlayer, Component> {
                 visibility.toString(), collision.toString(), color.ordinal(), null));
     }
 
+    @Override
+    public boolean isScoreDisplayNameSupported() {
+        // Bridge does not report backend version, which may be too old to send it even if the client supports it
+        return false;
+    }
+
     @Override
     public void setScore0(@NonNull String objective, @NonNull String scoreHolder, int score,
                           @Nullable Component displayName, @Nullable Component numberFormat) {
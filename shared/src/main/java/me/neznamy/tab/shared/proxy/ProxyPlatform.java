@@ -62,7 +62,8 @@ public abstract class ProxyPlatform implements Platform {
     public @NotNull GroupManager detectPermissionPlugin() {
         if (LuckPermsHook.getInstance().isInstalled() &&
                 !TAB.getInstance().getConfiguration().isBukkitPermissions()) {
-            return new GroupManager("LuckPerms", LuckPermsHook.getInstance().getGroupFunction());
+            return new GroupManager("LuckPerms", LuckPermsHook.getInstance().getGroupFunction(),
+                    LuckPermsHook.getInstance()::subscribeGroupChanges);
         }
         return new GroupManager("Vault through Bridge", TabPlayer::getGroup);
     }
@@ -73,13 +74,7 @@ public abstract class ProxyPlatform implements Platform {
         //internal dynamic %online_<server>% placeholder
         if (identifier.startsWith("%online_")) {
             String server = identifier.substring(8, identifier.length()-1);
-            pl.registerServerPlaceholder(identifier, 1000, () -> {
-                int count = 0;
-                for (TabPlayer player : TAB.getInstance().getOnlinePlayers()) {
-                    if (player.getServer().equals(server) && !player.isVanished()) count++;
-                }
-                return count;
-            });
+            pl.registerServerPlaceholder(identifier, 1000, () -> TAB.getInstance().getOnlinePlayerCounter().getServerOnline(server));
             return;
         }
         Placeholder placeholder;
@@ -1,31 +1,92 @@
 package me.neznamy.tab.shared.util;
 
-import lombok.AllArgsConstructor;
-import lombok.SneakyThrows;
+import lombok.Getter;
 import me.neznamy.tab.shared.ProtocolVersion;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 
 /**
  * Component cache to save resources when converting the same
- * values over and over.
+ * values over and over. Entries are split by target capability (RGB / legacy)
+ * and into segments with their own lock. Each segment evicts its least
+ * recently used entry once full, so the cache never needs to be cleared.
  *
  * @param   <K>
  *          Source component
  * @param   <V>
  *          Target component
  */
-@AllArgsConstructor
 public class ComponentCache<K, V> {
 
-    private final int cacheSize;
+    /** All created caches for statistics */
+    private static final List<ComponentCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+
+    /** Amount of segments per capability, must be a power of 2 */
+    private static final int SEGMENTS = 16;
+
+    /** Name of this cache for statistics */
+    @Getter private final String name;
+
+    /** Maximum amount of entries per capability */
+    @Getter private final int cacheSize;
+
+    /** Function converting source into target */
     private final BiFunction<K, ProtocolVersion, V> function;
-    private final Map<K, V> cacheModern = new HashMap<>();
-    private final Map<K, V> cacheLegacy = new HashMap<>();
+
+    /** Segments for RGB-capable clients (or no specific client) */
+    private final Map<K, V>[] cacheModern;
+
+    /** Segments for legacy clients */
+    private final Map<K, V>[] cacheLegacy;
+
+    /** Amount of requests which found the value in the cache */
+    private final LongAdder hits = new LongAdder();
+
+    /** Amount of requests which had to compute the value */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs new instance and registers it for statistics.
+     *
+     * @param   name
+     *          Name of this cache
+     * @param   cacheSize
+     *          Maximum amount of entries per capability
+     * @param   function
+     *          Function converting source into target
+     */
+    public ComponentCache(@NotNull String name, int cacheSize, @NotNull BiFunction<K, ProtocolVersion, V> function) {
+        this.name = name;
+        this.cacheSize = cacheSize;
+        this.function = function;
+        int segmentSize = Math.max(1, (cacheSize + SEGMENTS - 1) / SEGMENTS);
+        cacheModern = createSegments(segmentSize);
+        cacheLegacy = createSegments(segmentSize);
+        caches.add(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<K, V>[] createSegments(int segmentSize) {
+        Map<K, V>[] segments = new Map[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new LinkedHashMap<K, V>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    return size() > segmentSize;
+                }
+            };
+        }
+        return segments;
+    }
 
     /**
      * Gets value from cache. If not present, it is created using given function, inserted
@@ -37,10 +98,82 @@ public class ComponentCache<K, V> {
      *          Client version to convert for
      * @return  Converted component
      */
-    @SneakyThrows
     public @NotNull V get(@NotNull K key, @Nullable ProtocolVersion clientVersion) {
-        Map<K, V> cache = clientVersion == null || clientVersion.supportsRGB() ? cacheModern : cacheLegacy;
-        if (cache.size() > cacheSize) cache.clear();
-        return cache.computeIfAbsent(key, k -> function.apply(k, clientVersion));
+        Map<K, V>[] cache = clientVersion == null || clientVersion.supportsRGB() ? cacheModern : cacheLegacy;
+        int hash = key.hashCode();
+        Map<K, V> segment = cache[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+        V value;
+        synchronized (segment) {
+            value = segment.get(key);
+        }
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        // Computed outside the lock, converting the same value twice concurrently is harmless
+        value = function.apply(key, clientVersion);
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Returns amount of entries currently stored in the cache.
+     *
+     * @return  Amount of cached entries
+     */
+    public int size() {
+        return size(cacheModern) + size(cacheLegacy);
+    }
+
+    private int size(@NotNull Map<K, V>[] cache) {
+        int size = 0;
+        for (Map<K, V> segment : cache) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns amount of requests which found the value in the cache.
+     *
+     * @return  Amount of cache hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns amount of requests which had to compute the value.
+     *
+     * @return  Amount of cache misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns percentage of requests which were served from the cache.
+     *
+     * @return  Hit rate in %
+     */
+    public double getHitRate() {
+        long hits = this.hits.sum();
+        long total = hits + misses.sum();
+        return total == 0 ? 0 : (double) hits * 100 / total;
+    }
+
+    /**
+     * Returns all created caches.
+     *
+     * @return  All created caches
+     */
+    @NotNull
+    public static List<ComponentCache<?, ?>> getAll() {
+        return Collections.unmodifiableList(caches);
     }
 }
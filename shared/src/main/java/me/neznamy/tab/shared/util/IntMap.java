@@ -0,0 +1,211 @@
+package me.neznamy.tab.shared.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Map with primitive int keys, which avoids boxing keys on lookups. Reads are
+ * lock-free and may be done from any thread, including netty threads. Writes copy
+ * the table under a lock and become visible to readers at once, therefore this map
+ * is only meant for data which is read much more often than it is written, such as
+ * entity ids of online players. Null values are not allowed.
+ *
+ * @param   <V>
+ *          Value type
+ */
+public class IntMap<V> {
+
+    /** Minimum table capacity, must be a power of 2 */
+    private static final int MIN_CAPACITY = 8;
+
+    /** Current table, never modified once published */
+    private volatile Table table = new Table(MIN_CAPACITY);
+
+    /**
+     * Returns value mapped to specified key or {@code null} if not present.
+     *
+     * @param   key
+     *          Key to get value of
+     * @return  Value mapped to the key or {@code null} if not present
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        Table t = table;
+        int mask = t.keys.length - 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            Object value = t.values[i];
+            if (value == null) return null;
+            if (t.keys[i] == key) return (V) value;
+        }
+    }
+
+    /**
+     * Returns {@code true} if this map contains specified key, {@code false} if not.
+     *
+     * @param   key
+     *          Key to check
+     * @return  {@code true} if key is present, {@code false} if not
+     */
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Maps value to specified key, replacing previous value if present.
+     *
+     * @param   key
+     *          Key to map value to
+     * @param   value
+     *          Value to map
+     */
+    public synchronized void put(int key, @NotNull V value) {
+        Table t = table;
+        int slot = t.indexOf(key);
+        Table copy;
+        if (t.values[slot] != null) {
+            copy = t.copy(t.keys.length);
+        } else {
+            // Keeping at least half of the table empty so probing stays short and always terminates
+            copy = t.copy((t.size + 1) * 2 > t.keys.length ? t.keys.length * 2 : t.keys.length);
+            copy.size++;
+        }
+        slot = copy.indexOf(key);
+        copy.keys[slot] = key;
+        copy.values[slot] = value;
+        table = copy;
+    }
+
+    /**
+     * Removes value mapped to specified key.
+     *
+     * @param   key
+     *          Key to remove
+     */
+    public synchronized void remove(int key) {
+        Table t = table;
+        if (t.values[t.indexOf(key)] == null) return;
+        int capacity = t.keys.length;
+        while (capacity > MIN_CAPACITY && (t.size - 1) * 4 < capacity) capacity /= 2;
+        Table copy = new Table(capacity);
+        for (int i = 0; i < t.keys.length; i++) {
+            if (t.values[i] != null && t.keys[i] != key) copy.insert(t.keys[i], t.values[i]);
+        }
+        table = copy;
+    }
+
+    /**
+     * Removes all entries from this map.
+     */
+    public synchronized void clear() {
+        table = new Table(MIN_CAPACITY);
+    }
+
+    /**
+     * Returns amount of entries in this map.
+     *
+     * @return  Amount of entries
+     */
+    public int size() {
+        return table.size;
+    }
+
+    /**
+     * Returns snapshot of all keys in this map.
+     *
+     * @return  All keys in this map
+     */
+    @NotNull
+    public int[] keys() {
+        Table t = table;
+        int[] keys = new int[t.size];
+        int index = 0;
+        for (int i = 0; i < t.keys.length; i++) {
+            if (t.values[i] != null) keys[index++] = t.keys[i];
+        }
+        return keys;
+    }
+
+    /**
+     * Returns snapshot of all values in this map.
+     *
+     * @return  All values in this map
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public List<V> values() {
+        Table t = table;
+        List<V> values = new ArrayList<>(t.size);
+        for (Object value : t.values) {
+            if (value != null) values.add((V) value);
+        }
+        return values;
+    }
+
+    private static int hash(int key) {
+        // Entity ids are sequential, spreading them to not fill consecutive slots
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Open addressing table with linear probing. Empty slots have {@code null} value.
+     */
+    private static class Table {
+
+        private final int[] keys;
+        private final Object[] values;
+        private int size;
+
+        private Table(int capacity) {
+            keys = new int[capacity];
+            values = new Object[capacity];
+        }
+
+        /**
+         * Returns slot containing specified key or empty slot where it should be inserted.
+         *
+         * @param   key
+         *          Key to find slot of
+         * @return  Slot of the key
+         */
+        private int indexOf(int key) {
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (values[i] != null && keys[i] != key) i = (i + 1) & mask;
+            return i;
+        }
+
+        private void insert(int key, @NotNull Object value) {
+            int slot = indexOf(key);
+            if (values[slot] == null) size++;
+            keys[slot] = key;
+            values[slot] = value;
+        }
+
+        /**
+         * Creates copy of this table with given capacity.
+         *
+         * @param   capacity
+         *          Capacity of new table, must be a power of 2
+         * @return  Copy of this table
+         */
+        @NotNull
+        private Table copy(int capacity) {
+            Table copy = new Table(capacity);
+            if (capacity == keys.length) {
+                System.arraycopy(keys, 0, copy.keys, 0, capacity);
+                System.arraycopy(values, 0, copy.values, 0, capacity);
+                copy.size = size;
+            } else {
+                for (int i = 0; i < keys.length; i++) {
+                    if (values[i] != null) copy.insert(keys[i], values[i]);
+                }
+            }
+            return copy;
+        }
+    }
+}
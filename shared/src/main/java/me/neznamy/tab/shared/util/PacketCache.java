@@ -0,0 +1,91 @@
+package me.neznamy.tab.shared.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of recently built packets by their content. Converted components are shared by
+ * all players with the same text and client capability, so when content is broadcast to
+ * many players, the packet is only built once per component pair and the same instance
+ * is sent to all of them. Content is compared by identity, which makes lookups cheap and
+ * only results in a rebuild when the same text was converted again.
+ * <p>
+ * Only content which is sent to multiple players should be passed into the cache, content
+ * unique to a player would never be requested again and only push shared packets out.
+ * Only packets which are not modified after creation may be cached.
+ *
+ * @param   <P>
+ *          Packet class
+ */
+public class PacketCache<P> {
+
+    /** Amount of cached packets, enough to cover all frames of shared animations */
+    private static final int CACHE_SIZE = 64;
+
+    /** Function building packet from content */
+    private final BiFunctionWithException<Object, Object, P> builder;
+
+    /** Cached packets by content */
+    private final Map<Key, P> packets = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs new instance with given packet builder.
+     *
+     * @param   builder
+     *          Function building packet from content
+     */
+    public PacketCache(@NotNull BiFunctionWithException<Object, Object, P> builder) {
+        this.builder = builder;
+    }
+
+    /**
+     * Returns packet with given content, building it if not cached.
+     *
+     * @param   first
+     *          First part of packet content
+     * @param   second
+     *          Second part of packet content
+     * @return  Packet with given content
+     */
+    @NotNull
+    @SneakyThrows
+    public P get(@NotNull Object first, @NotNull Object second) {
+        Key key = new Key(first, second);
+        P packet = packets.get(key);
+        if (packet != null) return packet;
+        // Built outside any lock, building the same packet twice concurrently is harmless
+        packet = builder.apply(first, second);
+        if (packets.size() >= CACHE_SIZE) {
+            // Content changed since the cache filled up, old packets will not be requested again
+            packets.clear();
+        }
+        packets.put(key, packet);
+        return packet;
+    }
+
+    /**
+     * Content of a packet compared by identity.
+     */
+    @RequiredArgsConstructor
+    private static class Key {
+
+        @NotNull private final Object first;
+        @NotNull private final Object second;
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return first == other.first && second == other.second;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(first) + System.identityHashCode(second);
+        }
+    }
+}
@@ -138,6 +138,12 @@ public class SpongeScoreboard extends Scoreboard<SpongeTabPlayer, Text> {
         });
     }
 
+    @Override
+    public boolean isScoreDisplayNameSupported() {
+        // Scoreboard API has no score display names
+        return false;
+    }
+
     @Override
     public void setScore0(@NonNull String objective, @NonNull String scoreHolder, int score,
                           @Nullable Text displayName, @Nullable Text numberFormat) {
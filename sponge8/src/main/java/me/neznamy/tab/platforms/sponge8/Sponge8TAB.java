@@ -4,6 +4,7 @@ import com.google.inject.Inject;
 import lombok.Getter;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
+import me.neznamy.tab.shared.chat.TabComponent;
 import org.bstats.sponge.Metrics;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -38,7 +39,12 @@ public class Sponge8TAB {
      */
     @Listener
     public void onServerStart(@Nullable StartingEngineEvent<Server> event) {
-        TAB.create(new SpongePlatform(this));
+        SpongePlatform platform = new SpongePlatform(this);
+        if (!SpongePacketScoreboard.isAvailable()) {
+            platform.logInfo(TabComponent.fromColoredText("Packet-level scoreboard is not available on this server version (" +
+                    SpongePacketScoreboard.getException() + "), using Sponge API scoreboard instead"));
+        }
+        TAB.create(platform);
     }
 
     /**
@@ -0,0 +1,305 @@
+package me.neznamy.tab.platforms.sponge8;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import me.neznamy.tab.shared.chat.EnumChatFormat;
+import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.hook.AdventureHook;
+import me.neznamy.tab.shared.platform.Scoreboard;
+import me.neznamy.tab.shared.util.ReflectionUtils;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Scoreboard implementation for Sponge 8 sending packets directly to player's connection
+ * as Bukkit and Fabric do. Unlike {@link SpongeScoreboard}, it does not keep a server-side
+ * scoreboard for every player, which is updated and synchronized on every change.
+ * Minecraft classes are resolved reflectively using Mojang and MCP class names. If anything
+ * is not found, {@link #isAvailable()} returns {@code false} and {@link SpongeScoreboard}
+ * should be used instead.
+ */
+@SuppressWarnings("unchecked")
+public class SpongePacketScoreboard extends Scoreboard<SpongeTabPlayer, Component> {
+
+    @Getter
+    private static boolean available;
+
+    @Getter
+    @Nullable
+    private static Exception exception;
+
+    // Converting Adventure components to Minecraft components
+    private static Method SpongeAdventure_asVanilla;
+
+    // Sending packets
+    private static Field ServerPlayer_connection;
+    private static Method Connection_send;
+
+    // Objectives
+    private static Object emptyScoreboard;
+    private static Object dummyCriteria;
+    private static Enum<?>[] renderTypes;
+    private static Constructor<?> newObjective;
+    private static Constructor<?> newObjectivePacket;
+    private static Constructor<?> newDisplayObjectivePacket;
+
+    // Scores
+    private static Enum<?>[] scoreActions;
+    private static Constructor<?> newScorePacket;
+
+    // Teams
+    private static Enum<?>[] chatFormats;
+    private static Enum<?>[] visibilities;
+    private static Enum<?>[] collisionRules;
+    private static Constructor<?> newTeam;
+    private static Constructor<?> newTeamPacket;
+    private static Method TeamPacket_createAddOrModify;
+    private static Method TeamPacket_createRemove;
+    private static Method PlayerTeam_getPlayers;
+    private static Method PlayerTeam_setPrefix;
+    private static Method PlayerTeam_setSuffix;
+    private static Method PlayerTeam_setColor;
+    private static Method PlayerTeam_setAllowFriendlyFire;
+    private static Method PlayerTeam_setSeeFriendlyInvisibles;
+    private static Method PlayerTeam_setNameTagVisibility;
+    private static Method PlayerTeam_setCollisionRule;
+
+    /** Teams registered to the player, updated and sent in packets */
+    private final Map<String, Object> teams = new HashMap<>();
+
+    static {
+        try {
+            Class<?> ComponentClass = getClass("net.minecraft.network.chat.Component", "net.minecraft.util.text.ITextComponent");
+            Class<?> ScoreboardClass = getClass("net.minecraft.world.scores.Scoreboard", "net.minecraft.scoreboard.Scoreboard");
+            Class<?> ObjectiveClass = getClass("net.minecraft.world.scores.Objective", "net.minecraft.scoreboard.ScoreObjective");
+            Class<?> CriteriaClass = getClass("net.minecraft.world.scores.criteria.ObjectiveCriteria", "net.minecraft.scoreboard.ScoreCriteria");
+            Class<?> RenderTypeClass = getClass("net.minecraft.world.scores.criteria.ObjectiveCriteria$RenderType",
+                    "net.minecraft.scoreboard.ScoreCriteria$RenderType");
+            Class<?> PlayerTeamClass = getClass("net.minecraft.world.scores.PlayerTeam", "net.minecraft.scoreboard.ScorePlayerTeam");
+            Class<?> VisibilityClass = getClass("net.minecraft.world.scores.Team$Visibility", "net.minecraft.scoreboard.Team$Visible");
+            Class<?> CollisionRuleClass = getClass("net.minecraft.world.scores.Team$CollisionRule", "net.minecraft.scoreboard.Team$CollisionRule");
+            Class<?> ChatFormattingClass = getClass("net.minecraft.ChatFormatting", "net.minecraft.util.text.TextFormatting");
+            Class<?> ScoreActionClass = getClass("net.minecraft.server.ServerScoreboard$Method", "net.minecraft.scoreboard.ServerScoreboard$Action");
+            Class<?> ObjectivePacketClass = getClass("net.minecraft.network.protocol.game.ClientboundSetObjectivePacket",
+                    "net.minecraft.network.play.server.SScoreboardObjectivePacket");
+            Class<?> DisplayObjectivePacketClass = getClass("net.minecraft.network.protocol.game.ClientboundSetDisplayObjectivePacket",
+                    "net.minecraft.network.play.server.SDisplayObjectivePacket");
+            Class<?> ScorePacketClass = getClass("net.minecraft.network.protocol.game.ClientboundSetScorePacket",
+                    "net.minecraft.network.play.server.SUpdateScorePacket");
+            Class<?> TeamPacketClass = getClass("net.minecraft.network.protocol.game.ClientboundSetPlayerTeamPacket",
+                    "net.minecraft.network.play.server.STeamsPacket");
+            Class<?> PacketClass = getClass("net.minecraft.network.protocol.Packet", "net.minecraft.network.IPacket");
+            Class<?> ServerPlayerClass = getClass("net.minecraft.server.level.ServerPlayer", "net.minecraft.entity.player.ServerPlayerEntity");
+            Class<?> ConnectionClass = getClass("net.minecraft.server.network.ServerGamePacketListenerImpl",
+                    "net.minecraft.network.play.ServerPlayNetHandler");
+
+            SpongeAdventure_asVanilla = Class.forName("org.spongepowered.common.adventure.SpongeAdventure").getMethod("asVanilla", Component.class);
+            ServerPlayer_connection = ReflectionUtils.getOnlyField(ServerPlayerClass, ConnectionClass);
+            Connection_send = ReflectionUtils.getOnlyMethod(ConnectionClass, void.class, PacketClass);
+
+            emptyScoreboard = ScoreboardClass.getConstructor().newInstance();
+            dummyCriteria = ReflectionUtils.getFields(CriteriaClass, CriteriaClass).get(0).get(null);
+            renderTypes = (Enum<?>[]) RenderTypeClass.getMethod("values").invoke(null);
+            newObjective = ObjectiveClass.getConstructor(ScoreboardClass, String.class, CriteriaClass, ComponentClass, RenderTypeClass);
+            newObjectivePacket = ObjectivePacketClass.getConstructor(ObjectiveClass, int.class);
+            newDisplayObjectivePacket = DisplayObjectivePacketClass.getConstructor(int.class, ObjectiveClass);
+
+            scoreActions = (Enum<?>[]) ScoreActionClass.getMethod("values").invoke(null);
+            newScorePacket = ScorePacketClass.getConstructor(ScoreActionClass, String.class, String.class, int.class);
+
+            chatFormats = (Enum<?>[]) ChatFormattingClass.getMethod("values").invoke(null);
+            visibilities = (Enum<?>[]) VisibilityClass.getMethod("values").invoke(null);
+            collisionRules = (Enum<?>[]) CollisionRuleClass.getMethod("values").invoke(null);
+            newTeam = PlayerTeamClass.getConstructor(ScoreboardClass, String.class);
+            try {
+                // 1.16.5
+                newTeamPacket = TeamPacketClass.getConstructor(PlayerTeamClass, int.class);
+            } catch (NoSuchMethodException e) {
+                // 1.17+
+                TeamPacket_createAddOrModify = ReflectionUtils.getOnlyMethod(TeamPacketClass, TeamPacketClass, PlayerTeamClass, boolean.class);
+                TeamPacket_createRemove = ReflectionUtils.getOnlyMethod(TeamPacketClass, TeamPacketClass, PlayerTeamClass);
+            }
+            PlayerTeam_getPlayers = ReflectionUtils.getMethod(PlayerTeamClass, new String[]{"getPlayers", "getMembershipCollection"});
+            PlayerTeam_setPrefix = ReflectionUtils.getMethod(PlayerTeamClass, new String[]{"setPlayerPrefix", "setPrefix"}, ComponentClass);
+            PlayerTeam_setSuffix = ReflectionUtils.getMethod(PlayerTeamClass, new String[]{"setPlayerSuffix", "setSuffix"}, ComponentClass);
+            PlayerTeam_setColor = ReflectionUtils.getOnlyMethod(PlayerTeamClass, void.class, ChatFormattingClass);
+            PlayerTeam_setAllowFriendlyFire = ReflectionUtils.getMethod(PlayerTeamClass, new String[]{"setAllowFriendlyFire"}, boolean.class);
+            PlayerTeam_setSeeFriendlyInvisibles = ReflectionUtils.getMethod(PlayerTeamClass,
+                    new String[]{"setSeeFriendlyInvisibles", "setSeeFriendlyInvisiblesEnabled"}, boolean.class);
+            PlayerTeam_setNameTagVisibility = ReflectionUtils.getOnlyMethod(PlayerTeamClass, void.class, VisibilityClass);
+            PlayerTeam_setCollisionRule = ReflectionUtils.getOnlyMethod(PlayerTeamClass, void.class, CollisionRuleClass);
+            available = true;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            exception = e;
+        }
+    }
+
+    /**
+     * Constructs new instance with given player.
+     *
+     * @param   player
+     *          Player this scoreboard will belong to
+     */
+    public SpongePacketScoreboard(@NonNull SpongeTabPlayer player) {
+        super(player);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setDisplaySlot0(int slot, @NonNull String objective) {
+        sendPacket(newDisplayObjectivePacket.newInstance(slot, newObjective(objective, "", 0)));
+    }
+
+    @Override
+    public void registerObjective0(@NonNull String objectiveName, @NonNull String title, int display,
+                                   @Nullable Component numberFormat) {
+        sendObjectivePacket(ObjectiveAction.REGISTER, objectiveName, title, display);
+    }
+
+    @Override
+    public void unregisterObjective0(@NonNull String objectiveName) {
+        sendObjectivePacket(ObjectiveAction.UNREGISTER, objectiveName, "", 0);
+    }
+
+    @Override
+    public void updateObjective0(@NonNull String objectiveName, @NonNull String title, int display,
+                                 @Nullable Component numberFormat) {
+        sendObjectivePacket(ObjectiveAction.UPDATE, objectiveName, title, display);
+    }
+
+    @SneakyThrows
+    private void sendObjectivePacket(int action, @NonNull String objectiveName, @NonNull String title, int display) {
+        sendPacket(newObjectivePacket.newInstance(newObjective(objectiveName, title, display), action));
+    }
+
+    @SneakyThrows
+    @NotNull
+    private Object newObjective(@NonNull String objectiveName, @NonNull String title, int display) {
+        return newObjective.newInstance(emptyScoreboard, objectiveName, dummyCriteria, toComponent(title), renderTypes[display]);
+    }
+
+    @Override
+    @SneakyThrows
+    public void registerTeam0(@NonNull String name, @NonNull String prefix, @NonNull String suffix,
+                              @NonNull NameVisibility visibility, @NonNull CollisionRule collision,
+                              @NonNull Collection<String> players, int options, @NonNull EnumChatFormat color) {
+        Object team = newTeam.newInstance(emptyScoreboard, name);
+        teams.put(name, team);
+        updateTeamData(team, prefix, suffix, visibility, collision, options, color);
+        ((Collection<String>) PlayerTeam_getPlayers.invoke(team)).addAll(players);
+        if (newTeamPacket != null) {
+            sendPacket(newTeamPacket.newInstance(team, TeamAction.CREATE));
+        } else {
+            sendPacket(TeamPacket_createAddOrModify.invoke(null, team, true));
+        }
+    }
+
+    @Override
+    @SneakyThrows
+    public void unregisterTeam0(@NonNull String name) {
+        Object team = teams.remove(name);
+        if (newTeamPacket != null) {
+            sendPacket(newTeamPacket.newInstance(team, TeamAction.REMOVE));
+        } else {
+            sendPacket(TeamPacket_createRemove.invoke(null, team));
+        }
+    }
+
+    @Override
+    @SneakyThrows
+    public void updateTeam0(@NonNull String name, @NonNull String prefix, @NonNull String suffix,
+                            @NonNull NameVisibility visibility, @NonNull CollisionRule collision,
+                            int options, @NonNull EnumChatFormat color) {
+        Object team = teams.get(name);
+        updateTeamData(team, prefix, suffix, visibility, collision, options, color);
+        if (newTeamPacket != null) {
+            sendPacket(newTeamPacket.newInstance(team, TeamAction.UPDATE));
+        } else {
+            sendPacket(TeamPacket_createAddOrModify.invoke(null, team, false));
+        }
+    }
+
+    @SneakyThrows
+    private void updateTeamData(@NonNull Object team, @NonNull String prefix, @NonNull String suffix,
+                                @NonNull NameVisibility visibility, @NonNull CollisionRule collision,
+                                int options, @NonNull EnumChatFormat color) {
+        PlayerTeam_setPrefix.invoke(team, toComponent(prefix));
+        PlayerTeam_setSuffix.invoke(team, toComponent(suffix));
+        PlayerTeam_setColor.invoke(team, chatFormats[color.ordinal()]);
+        PlayerTeam_setAllowFriendlyFire.invoke(team, (options & 0x01) != 0);
+        PlayerTeam_setSeeFriendlyInvisibles.invoke(team, (options & 0x02) != 0);
+        PlayerTeam_setNameTagVisibility.invoke(team, visibilities[visibility.ordinal()]);
+        PlayerTeam_setCollisionRule.invoke(team, collisionRules[collision.ordinal()]);
+    }
+
+    @Override
+    public boolean isScoreDisplayNameSupported() {
+        // Only 1.20.3+ packets have score display names, which are not supported by this implementation
+        return false;
+    }
+
+    @Override
+    @SneakyThrows
+    public void setScore0(@NonNull String objective, @NonNull String scoreHolder, int score,
+                          @Nullable Component displayName, @Nullable Component numberFormat) {
+        sendPacket(newScorePacket.newInstance(scoreActions[0], objective, scoreHolder, score));
+    }
+
+    @Override
+    @SneakyThrows
+    public void removeScore0(@NonNull String objective, @NonNull String scoreHolder) {
+        sendPacket(newScorePacket.newInstance(scoreActions[1], objective, scoreHolder, 0));
+    }
+
+    /**
+     * Sends packet to the player.
+     *
+     * @param   packet
+     *          Packet to send
+     */
+    @SneakyThrows
+    private void sendPacket(@NotNull Object packet) {
+        Connection_send.invoke(ServerPlayer_connection.get(player.getPlayer()), packet);
+    }
+
+    /**
+     * Converts text to Minecraft component.
+     *
+     * @param   text
+     *          Text to convert
+     * @return  Converted text
+     */
+    @SneakyThrows
+    @NotNull
+    private Object toComponent(@NonNull String text) {
+        return SpongeAdventure_asVanilla.invoke(null, AdventureHook.toAdventureComponent(TabComponent.optimized(text), player.getVersion().supportsRGB()));
+    }
+
+    /**
+     * Returns the first class found from given names.
+     *
+     * @param   names
+     *          Possible class names
+     * @return  First class found
+     * @throws  ClassNotFoundException
+     *          If no class with given names exists
+     */
+    @NotNull
+    private static Class<?> getClass(@NotNull String... names) throws ClassNotFoundException {
+        for (String name : names) {
+            try {
+                return Class.forName(name);
+            } catch (ClassNotFoundException ignored) {}
+        }
+        throw new ClassNotFoundException("No class found with possible names " + String.join(", ", names));
+    }
+}
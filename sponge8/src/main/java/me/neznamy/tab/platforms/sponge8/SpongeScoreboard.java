@@ -99,8 +99,9 @@ public class SpongeScoreboard extends Scoreboard<SpongeTabPlayer, Component> {
     public void updateObjective0(@NonNull String objectiveName, @NonNull String title, int display,
                                  @Nullable Component numberFormat) {
         sb.objective(objectiveName).ifPresent(obj -> {
-            obj.setDisplayName(adventure(title));
-            obj.setDisplayMode(healthDisplays[display]);
+            Component displayName = adventure(title);
+            if (!obj.displayName().equals(displayName)) obj.setDisplayName(displayName);
+            if (obj.displayMode() != healthDisplays[display]) obj.setDisplayMode(healthDisplays[display]);
         });
      }
 
@@ -135,17 +136,28 @@ public class SpongeScoreboard extends Scoreboard<SpongeTabPlayer, Component> {
                             @NonNull NameVisibility visibility, @NonNull CollisionRule collision,
                             int options, @NonNull EnumChatFormat color) {
         sb.team(name).ifPresent(team -> {
-            team.setDisplayName(adventure(name));
-            team.setPrefix(adventure(prefix));
-            team.setSuffix(adventure(suffix));
-            team.setColor(NamedTextColor.NAMES.valueOr(color.name(), NamedTextColor.WHITE));
-            team.setAllowFriendlyFire((options & 0x01) != 0);
-            team.setCanSeeFriendlyInvisibles((options & 0x02) != 0);
-            team.setCollisionRule(collisionRules[collision.ordinal()]);
-            team.setNameTagVisibility(visibilities[visibility.ordinal()]);
+            // Every setter sends a team update packet, only call those which change something
+            Component prefixComponent = adventure(prefix);
+            Component suffixComponent = adventure(suffix);
+            NamedTextColor textColor = NamedTextColor.NAMES.valueOr(color.name(), NamedTextColor.WHITE);
+            boolean friendlyFire = (options & 0x01) != 0;
+            boolean seeInvisibles = (options & 0x02) != 0;
+            if (!team.prefix().equals(prefixComponent)) team.setPrefix(prefixComponent);
+            if (!team.suffix().equals(suffixComponent)) team.setSuffix(suffixComponent);
+            if (team.color() != textColor) team.setColor(textColor);
+            if (team.allowFriendlyFire() != friendlyFire) team.setAllowFriendlyFire(friendlyFire);
+            if (team.canSeeFriendlyInvisibles() != seeInvisibles) team.setCanSeeFriendlyInvisibles(seeInvisibles);
+            if (team.collisionRule() != collisionRules[collision.ordinal()]) team.setCollisionRule(collisionRules[collision.ordinal()]);
+            if (team.nameTagVisibility() != visibilities[visibility.ordinal()]) team.setNameTagVisibility(visibilities[visibility.ordinal()]);
         });
     }
 
+    @Override
+    public boolean isScoreDisplayNameSupported() {
+        // Scoreboard API has no score display names
+        return false;
+    }
+
     @Override
     public void setScore0(@NonNull String objective, @NonNull String scoreHolder, int score,
                           @Nullable Component displayName, @Nullable Component numberFormat) {
@@ -8,6 +8,8 @@ import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.shared.platform.impl.AdventureBossBar;
 import me.neznamy.tab.shared.platform.TabList;
 import me.neznamy.tab.shared.platform.BossBar;
+import me.neznamy.tab.shared.platform.Scoreboard;
+import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -28,7 +30,8 @@ import java.util.List;
 public class SpongeTabPlayer extends BackendTabPlayer {
 
     @NotNull
-    private final SpongeScoreboard scoreboard = new SpongeScoreboard(this);
+    private final Scoreboard<SpongeTabPlayer, Component> scoreboard = SpongePacketScoreboard.isAvailable() ?
+            new SpongePacketScoreboard(this) : new SpongeScoreboard(this);
 
     @NotNull
     private final SpongeTabList tabList = new SpongeTabList(this);
@@ -69,6 +69,7 @@ public class VelocityEventListener implements EventListener<Player> {
                 tab.getFeatureManager().onJoin(createPlayer(e.getPlayer()));
             } else {
                 player.getScoreboard().freeze(); // Prevent server switch listeners from sending packets before re-registering objectives in onLoginPacket
+                ((VelocityTabPlayer) player).getTabList().clearAddedEntries(); // Before server switch listeners, which may re-add entries
                 tab.getFeatureManager().onServerChange(
                         player.getUniqueId(),
                         e.getPlayer().getCurrentServer().map(s -> s.getServerInfo().getName()).orElse("null")
@@ -11,12 +11,20 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * TabList implementation for Velocity using its API.
+ * TabList implementation for Velocity using its API. As every change made through the API
+ * is sent as a separate packet, changes which would not modify the entry are skipped.
  */
 public class VelocityTabList extends TabList<VelocityTabPlayer, Component> {
 
+    /**
+     * Entries added by the plugin which the client is known to have. Entries are only
+     * updated instead of being re-added if they are present here with the same profile.
+     */
+    private final Set<UUID> addedEntries = ConcurrentHashMap.newKeySet();
+
     /**
      * Constructs new instance.
      *
@@ -28,32 +36,44 @@ public class VelocityTabList extends TabList<VelocityTabPlayer, Component> {
     }
 
     @Override
-    public void removeEntry(@NonNull UUID entry) {
+    public void removeEntry0(@NonNull UUID entry) {
+        addedEntries.remove(entry);
         player.getPlayer().getTabList().removeEntry(entry);
     }
 
     @Override
     public void updateDisplayName0(@NonNull UUID entry, @Nullable Component displayName) {
-        player.getPlayer().getTabList().getEntry(entry).ifPresent(e -> e.setDisplayName(displayName));
+        player.getPlayer().getTabList().getEntry(entry).ifPresent(e -> setDisplayName(e, displayName));
     }
 
     @Override
-    public void updateLatency(@NonNull UUID entry, int latency) {
-        player.getPlayer().getTabList().getEntry(entry).ifPresent(e -> e.setLatency(latency));
+    public void updateLatency0(@NonNull UUID entry, int latency) {
+        player.getPlayer().getTabList().getEntry(entry).ifPresent(e -> setLatency(e, latency));
     }
 
     @Override
-    public void updateGameMode(@NonNull UUID entry, int gameMode) {
-        player.getPlayer().getTabList().getEntry(entry).ifPresent(e -> e.setGameMode(gameMode));
+    public void updateGameMode0(@NonNull UUID entry, int gameMode) {
+        player.getPlayer().getTabList().getEntry(entry).ifPresent(e -> setGameMode(e, gameMode));
     }
 
     @Override
-    public void updateListed(@NonNull UUID entry, boolean listed) {
-        player.getPlayer().getTabList().getEntry(entry).ifPresent(e -> e.setListed(listed));
+    public void updateListed0(@NonNull UUID entry, boolean listed) {
+        player.getPlayer().getTabList().getEntry(entry).ifPresent(e -> setListed(e, listed));
     }
 
     @Override
     public void addEntry0(@NonNull UUID id, @NonNull String name, @Nullable Skin skin, boolean listed, int latency, int gameMode, @Nullable Component displayName) {
+        if (addedEntries.contains(id)) {
+            TabListEntry current = player.getPlayer().getTabList().getEntry(id).orElse(null);
+            if (current != null && hasProfile(current, name, skin)) {
+                // Entry is already there, only send what changed instead of removing and adding it again
+                setListed(current, listed);
+                setLatency(current, latency);
+                setGameMode(current, gameMode);
+                setDisplayName(current, displayName);
+                return;
+            }
+        }
         TabListEntry e = TabListEntry.builder()
                 .tabList(player.getPlayer().getTabList())
                 .profile(new GameProfile(
@@ -77,6 +97,52 @@ public class VelocityTabList extends TabList<VelocityTabPlayer, Component> {
         removeEntry(id);
 
         player.getPlayer().getTabList().addEntry(e);
+        addedEntries.add(id);
+    }
+
+    /**
+     * Forgets all entries added by the plugin. Called when the client's
+     * tablist is cleared on server switch, after which entries must be re-added.
+     */
+    public void clearAddedEntries() {
+        addedEntries.clear();
+    }
+
+    private void setDisplayName(@NotNull TabListEntry entry, @Nullable Component displayName) {
+        if (!Objects.equals(entry.getDisplayNameComponent().orElse(null), displayName)) entry.setDisplayName(displayName);
+    }
+
+    private void setLatency(@NotNull TabListEntry entry, int latency) {
+        if (entry.getLatency() != latency) entry.setLatency(latency);
+    }
+
+    private void setGameMode(@NotNull TabListEntry entry, int gameMode) {
+        if (entry.getGameMode() != gameMode) entry.setGameMode(gameMode);
+    }
+
+    private void setListed(@NotNull TabListEntry entry, boolean listed) {
+        if (entry.isListed() != listed) entry.setListed(listed);
+    }
+
+    /**
+     * Returns {@code true} if entry's profile has given name and skin, {@code false} if not.
+     *
+     * @param   entry
+     *          Entry to check
+     * @param   name
+     *          Expected name
+     * @param   skin
+     *          Expected skin
+     * @return  {@code true} if profile matches, {@code false} if not
+     */
+    private boolean hasProfile(@NotNull TabListEntry entry, @NotNull String name, @Nullable Skin skin) {
+        GameProfile profile = entry.getProfile();
+        if (!profile.getName().equals(name)) return false;
+        List<GameProfile.Property> properties = profile.getProperties();
+        if (skin == null) return properties.isEmpty();
+        return properties.size() == 1 && properties.get(0).getName().equals(TEXTURES_PROPERTY) &&
+                properties.get(0).getValue().equals(skin.getValue()) &&
+                Objects.equals(properties.get(0).getSignature(), skin.getSignature());
     }
 
     @Override